@@ -0,0 +1,342 @@
+package io.github.coderodde.pathfinding.benchmarks;
+
+import io.github.coderodde.pathfinding.finders.BFSFinder;
+import io.github.coderodde.pathfinding.finders.Finder;
+import io.github.coderodde.pathfinding.finders.FinderRegistry;
+import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
+import io.github.coderodde.pathfinding.logic.GridNodeExpander;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings.DiagonalWeight;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
+import io.github.coderodde.pathfinding.logic.SearchState;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import io.github.coderodde.pathfinding.utils.Cell;
+import io.github.coderodde.pathfinding.utils.CellType;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class benchmarks every finder of {@link FinderRegistry} on a single
+ * query over open, random-obstacle, maze and room maps of several sizes,
+ * under all the diagonal rules and heuristic functions. The maps are
+ * generated from a fixed seed, so that all the finders see the same maps, and
+ * regenerated until the target is reachable from the source. The benchmark
+ * loads no UI classes, and so runs in a headless JVM.
+ *
+ * The parameter space is large; narrow it down with {@code -p}, for example:
+ * <pre>
+ *   java -jar target/benchmarks.jar -p finderName="A* search","NBA* search" \
+ *                                       -p map=MAZE -p size=256
+ * </pre>
+ * The IDDFS and IDA* finders take exponential time on the larger open maps.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FinderBenchmark {
+
+    public enum MapType {
+        OPEN,
+        RANDOM,
+        MAZE,
+        ROOMS,
+    }
+
+    public enum DiagonalMode {
+
+        /**
+         * Only the horizontal and vertical moves.
+         */
+        NONE,
+
+        /**
+         * Diagonal moves that may cut the corners of walls.
+         */
+        CROSS_CORNERS,
+
+        /**
+         * Diagonal moves that may not cut the corners of walls.
+         */
+        DONT_CROSS_CORNERS,
+    }
+
+    private static final long SEED = 13L;
+    private static final double RANDOM_WALL_DENSITY = 0.3;
+    private static final int ROOM_SIZE = 8;
+    private static final int BEAM_WIDTH = 10;
+    private static final int MAXIMUM_MAP_ATTEMPTS = 100;
+
+    @Param({
+        "A* search",
+        "BFS",
+        "Beam search",
+        "Beam stack search",
+        "Best First search",
+        "Bit-parallel BFS",
+        "Bidirectional BFS",
+        "Bidirectional bit-parallel BFS",
+        "Bidirectional beam search",
+        "Bidirectional BeFS",
+        "Bidirectional Dijkstra",
+        "Dijkstra",
+        "IDA* search",
+        "IDDFS",
+        "Jump point search",
+        "NBA* search",
+        "Parallel A* search",
+        "Parallel bidirectional Dijkstra",
+        "Parallel IDDFS",
+        "Parallel NBA* search",
+        "PEA* search",
+    })
+    private String finderName;
+
+    @Param
+    private MapType map;
+
+    @Param({ "32", "128", "256" })
+    private int size;
+
+    @Param
+    private DiagonalMode diagonalMode;
+
+    @Param({ "Manhattan", "Euclidean", "Octile", "Chebyshev" })
+    private String heuristic;
+
+    private Finder finder;
+    private GridModel model;
+    private PathfindingSettings settings;
+    private GridCellNeighbourIterable neighbourIterable;
+    private SearchState searchState;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        finder = FinderRegistry.getFinderMap().get(finderName);
+
+        if (finder == null) {
+            throw new IllegalArgumentException(
+                    String.format("Unknown finder \"%s\"", finderName));
+        }
+
+        settings = new PathfindingSettings();
+        settings.setAllowDiagonals(diagonalMode != DiagonalMode.NONE);
+        settings.setDontCrossCorners(
+                diagonalMode == DiagonalMode.DONT_CROSS_CORNERS);
+        settings.setDiagonalWeight(DiagonalWeight.SQRT2);
+        settings.setHeuristicFunction(
+                FinderRegistry.getHeuristicMap().get(heuristic));
+        settings.setFinder(finder);
+        settings.setBeamWidth(BEAM_WIDTH);
+        settings.setFrequency(Integer.MAX_VALUE);
+        settings.setDontSleep(true);
+
+        model = createModel();
+
+        neighbourIterable =
+                new GridCellNeighbourIterable(
+                        model,
+                        new GridNodeExpander(model, settings),
+                        settings);
+
+        searchState = new SearchState();
+    }
+
+    /**
+     * Clears the cells the previous search painted, since some finders skip
+     * the cells already marked as visited.
+     */
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        model.clearStateCells();
+        searchState.resetState();
+    }
+
+    @Benchmark
+    public List<Cell> findPath() {
+        return finder.findPath(model,
+                               neighbourIterable,
+                               settings,
+                               searchState,
+                               SearchMetrics.noOp());
+    }
+
+    public static void main(String[] args)
+            throws RunnerException, CommandLineOptionException {
+
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(FinderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    private GridModel createModel() {
+        Random random = new Random(SEED);
+
+        for (int attempt = 0; attempt < MAXIMUM_MAP_ATTEMPTS; ++attempt) {
+            GridModel gridModel = new GridModel(size, size);
+
+            switch (map) {
+                case OPEN:
+                    break;
+
+                case RANDOM:
+                    drawRandomWalls(gridModel, random);
+                    break;
+
+                case MAZE:
+                    gridModel.drawRandomMaze(random);
+                    placeTerminalsInCorners(gridModel);
+                    break;
+
+                case ROOMS:
+                    drawRooms(gridModel, random);
+                    break;
+            }
+
+            if (isTargetReachable(gridModel)) {
+                return gridModel;
+            }
+        }
+
+        throw new IllegalStateException(
+                String.format(
+                        "Could not generate a connected %s map of size %d",
+                        map,
+                        size));
+    }
+
+    private static void drawRandomWalls(GridModel gridModel, Random random) {
+        for (int y = 0; y < gridModel.getHeight(); ++y) {
+            for (int x = 0; x < gridModel.getWidth(); ++x) {
+                if (random.nextDouble() < RANDOM_WALL_DENSITY &&
+                    gridModel.getCellType(x, y) == CellType.FREE) {
+                    gridModel.setCellType(x, y, CellType.WALL);
+                }
+            }
+        }
+    }
+
+    /**
+     * Divides the grid into square rooms with one door in each wall between
+     * two neighbouring rooms.
+     */
+    private static void drawRooms(GridModel gridModel, Random random) {
+        int width = gridModel.getWidth();
+        int height = gridModel.getHeight();
+
+        for (int y = ROOM_SIZE; y < height; y += ROOM_SIZE) {
+            for (int x = 0; x < width; ++x) {
+                drawWall(gridModel, x, y);
+            }
+        }
+
+        for (int x = ROOM_SIZE; x < width; x += ROOM_SIZE) {
+            for (int y = 0; y < height; ++y) {
+                drawWall(gridModel, x, y);
+            }
+        }
+
+        for (int y = 0; y < height; y += ROOM_SIZE) {
+            for (int x = 0; x < width; x += ROOM_SIZE) {
+                int roomWidth = Math.min(ROOM_SIZE, width - x) - 1;
+                int roomHeight = Math.min(ROOM_SIZE, height - y) - 1;
+
+                if (x + ROOM_SIZE < width && roomHeight > 0) {
+                    // The door to the room on the right:
+                    gridModel.setCellType(x + ROOM_SIZE,
+                                          y + 1 + random.nextInt(roomHeight),
+                                          CellType.FREE);
+                }
+
+                if (y + ROOM_SIZE < height && roomWidth > 0) {
+                    // The door to the room below:
+                    gridModel.setCellType(x + 1 + random.nextInt(roomWidth),
+                                          y + ROOM_SIZE,
+                                          CellType.FREE);
+                }
+            }
+        }
+    }
+
+    private static void drawWall(GridModel gridModel, int x, int y) {
+        if (gridModel.getCellType(x, y) == CellType.FREE) {
+            gridModel.setCellType(x, y, CellType.WALL);
+        }
+    }
+
+    /**
+     * Moves the source to the top-left-most and the target to the
+     * bottom-right-most free cell, so that the path crosses the whole maze.
+     */
+    private static void placeTerminalsInCorners(GridModel gridModel) {
+        int cells = gridModel.getWidth() * gridModel.getHeight();
+
+        for (int index = 0; index < cells; ++index) {
+            int x = index % gridModel.getWidth();
+            int y = index / gridModel.getWidth();
+
+            if (gridModel.getCellType(x, y) == CellType.FREE) {
+                gridModel.moveSource(x, y);
+                break;
+            }
+        }
+
+        for (int index = cells - 1; index >= 0; --index) {
+            int x = index % gridModel.getWidth();
+            int y = index / gridModel.getWidth();
+
+            if (gridModel.getCellType(x, y) == CellType.FREE) {
+                gridModel.moveTarget(x, y);
+                break;
+            }
+        }
+    }
+
+    private boolean isTargetReachable(GridModel gridModel) {
+        GridSnapshot snapshot = gridModel.createSnapshot();
+        Cell source = gridModel.getSourceGridCell();
+        Cell target = gridModel.getTargetGridCell();
+
+        QueryOptions queryOptions =
+                new QueryOptions(
+                        settings.allowDiagonals(),
+                        settings.dontCrossCorners(),
+                        settings.getDiagonalWeight().getWeight(),
+                        settings.getHeuristicFunction());
+
+        return new BFSFinder().findPath(
+                snapshot,
+                snapshot.toIndex(source.getx(), source.gety()),
+                snapshot.toIndex(target.getx(), target.gety()),
+                queryOptions).length > 0;
+    }
+}
@@ -81,7 +81,7 @@ public final class PathFindingApp extends Application {
         stage.show();
         
         stage.setOnCloseRequest(event -> {
-            settingsPane.getSearchState().requestHalt();
+            settingsPane.shutdown();
         });
         
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
@@ -0,0 +1,621 @@
+package io.github.coderodde.pathfinding.app;
+
+import io.github.coderodde.pathfinding.finders.Finder;
+import io.github.coderodde.pathfinding.finders.FinderRegistry;
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.io.MovingAIFormat;
+import io.github.coderodde.pathfinding.io.MovingAIScenario;
+import io.github.coderodde.pathfinding.logic.CounterSearchMetrics;
+import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
+import io.github.coderodde.pathfinding.logic.GridNodeExpander;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings.DiagonalWeight;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
+import io.github.coderodde.pathfinding.logic.SearchState;
+import io.github.coderodde.pathfinding.model.BitGridSnapshot;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.utils.Cell;
+import io.github.coderodde.pathfinding.utils.CellType;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class implements a command line runner executing the queries of a
+ * MovingAI {@code .scen} file against the chosen finders. Each query is run
+ * a number of times; the report lists, per finder and query, whether a path
+ * was found, its cost and its ratio to the optimal cost of the scenario, the
+ * numbers of the expanded and generated cells as counted by
+ * {@link CounterSearchMetrics}, and the percentiles of the latencies. The
+ * report is written as CSV or JSON so that the reports of two releases can
+ * be diffed.
+ *
+ * The optimal costs of the MovingAI scenarios assume octile moves without
+ * corner cutting, which are the default move rules of this runner. Under
+ * other move rules the ratio is still relative to the scenario cost.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class ScenarioRunner {
+
+    private static final String USAGE =
+            """
+            Usage: ScenarioRunner [options] <map file> <scenario file>
+              --finder <name>       a finder to run, may be repeated
+                                    (default: "A* search")
+              --heuristic <name>    the heuristic function (default: Octile)
+              --no-diagonals        allow only horizontal and vertical moves
+              --cross-corners       allow the diagonal moves to cut corners
+              --uniform-diagonals   make the diagonal moves cost 1
+              --beam-width <n>      the beam width (default: 10)
+              --warmup <n>          the warmup rounds over all the queries
+                                    (default: 1)
+              --repetitions <n>     the timed runs per query (default: 10)
+              --limit <n>           the maximum number of the queries
+              --format csv|json     the report format (default: csv)
+              --output <file>       the report file (default: standard
+                                    output)
+            """;
+
+    private static final String[] CSV_COLUMNS = {
+        "finder",
+        "query",
+        "bucket",
+        "start_x",
+        "start_y",
+        "goal_x",
+        "goal_y",
+        "found",
+        "path_cost",
+        "optimal_cost",
+        "suboptimality",
+        "expanded",
+        "generated",
+        "latency_min_us",
+        "latency_p50_us",
+        "latency_p90_us",
+        "latency_p99_us",
+        "latency_max_us",
+    };
+
+    /**
+     * The report of a single query run by a single finder.
+     *
+     * @param finder    the name of the finder.
+     * @param query     the index of the query in the scenario file.
+     * @param scenario  the query.
+     * @param path      the path found, or an empty list.
+     * @param cost      the cost of the path.
+     * @param expanded  the number of the expanded cells.
+     * @param generated the number of the generated cells.
+     * @param latencies the sorted latencies in nanoseconds.
+     */
+    public record QueryReport(String finder,
+                              int query,
+                              MovingAIScenario scenario,
+                              List<Cell> path,
+                              double cost,
+                              int expanded,
+                              int generated,
+                              long[] latencies) {
+
+        public boolean isFound() {
+            return !path.isEmpty();
+        }
+
+        /**
+         * Returns the ratio of the path cost to the optimal cost, or
+         * {@link Double#NaN} if no path was found.
+         *
+         * @return the suboptimality ratio.
+         */
+        public double getSuboptimality() {
+            return isFound() ? cost / scenario.optimalLength() : Double.NaN;
+        }
+
+        /**
+         * Returns the {@code percentile}th percentile of the latencies in
+         * microseconds using the nearest-rank method.
+         *
+         * @param percentile the percentile within {@code [0, 100]}.
+         * @return the latency percentile.
+         */
+        public double getLatencyPercentile(double percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * latencies.length);
+            int index = Math.max(0, Math.min(latencies.length - 1, rank - 1));
+            return latencies[index] / 1000.0;
+        }
+    }
+
+    private final GridModel model;
+    private final PathfindingSettings settings;
+    private final int warmupRounds;
+    private final int repetitions;
+
+    public ScenarioRunner(GridModel model,
+                          PathfindingSettings settings,
+                          int warmupRounds,
+                          int repetitions) {
+        this.model = model;
+        this.settings = settings;
+        this.warmupRounds = warmupRounds;
+        this.repetitions = repetitions;
+
+        if (repetitions < 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The number of repetitions (%d) is less than 1",
+                            repetitions));
+        }
+    }
+
+    /**
+     * Runs all the {@code scenarios} with the finder {@code finderName}.
+     * The trivial queries, whose source and target coincide, are skipped.
+     *
+     * @param finderName the name of the finder in {@link FinderRegistry}.
+     * @param scenarios  the queries.
+     * @return the reports of the queries.
+     */
+    public List<QueryReport> run(String finderName,
+                                 List<MovingAIScenario> scenarios) {
+
+        Finder finder = FinderRegistry.getFinderMap().get(finderName);
+
+        if (finder == null) {
+            throw new IllegalArgumentException(
+                    String.format("Unknown finder \"%s\"", finderName));
+        }
+
+        settings.setFinder(finder);
+
+        GridCellNeighbourIterable neighbourIterable =
+                new GridCellNeighbourIterable(
+                        model,
+                        new GridNodeExpander(model, settings),
+                        settings);
+
+        for (int round = 0; round < warmupRounds; ++round) {
+            for (MovingAIScenario scenario : scenarios) {
+                if (placeTerminals(scenario)) {
+                    model.clearStateCells();
+                    search(finder, neighbourIterable, SearchMetrics.noOp());
+                }
+            }
+        }
+
+        List<QueryReport> reports = new ArrayList<>(scenarios.size());
+
+        for (int query = 0; query < scenarios.size(); ++query) {
+            MovingAIScenario scenario = scenarios.get(query);
+
+            if (!placeTerminals(scenario)) {
+                continue;
+            }
+
+            long[] latencies = new long[repetitions];
+            List<Cell> path = List.of();
+            SearchMetrics searchMetrics = null;
+
+            for (int repetition = 0; repetition < repetitions; ++repetition) {
+                searchMetrics = new CounterSearchMetrics();
+                model.clearStateCells();
+
+                long startTime = System.nanoTime();
+                path = search(finder, neighbourIterable, searchMetrics);
+                latencies[repetition] = System.nanoTime() - startTime;
+            }
+
+            Arrays.sort(latencies);
+
+            reports.add(new QueryReport(
+                    finderName,
+                    query,
+                    scenario,
+                    path,
+                    path.isEmpty() ?
+                            Double.NaN :
+                            Finder.computePathCost(path, settings),
+                    searchMetrics.getVisited(),
+                    searchMetrics.getGenerated(),
+                    latencies));
+        }
+
+        return reports;
+    }
+
+    public static void main(String[] args) {
+        try {
+            runCommandLine(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println(ex.getMessage());
+            System.err.print(USAGE);
+            System.exit(2);
+        } catch (IOException ex) {
+            System.err.println(ex.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void runCommandLine(String[] args) throws IOException {
+        List<String> finderNames = new ArrayList<>();
+        List<String> files = new ArrayList<>();
+        String heuristicName = "Octile";
+        boolean allowDiagonals = true;
+        boolean dontCrossCorners = true;
+        DiagonalWeight diagonalWeight = DiagonalWeight.SQRT2;
+        int beamWidth = 10;
+        int warmupRounds = 1;
+        int repetitions = 10;
+        int limit = Integer.MAX_VALUE;
+        String format = "csv";
+        Path output = null;
+
+        for (int i = 0; i < args.length; ++i) {
+            switch (args[i]) {
+                case "--finder":
+                    finderNames.add(getValue(args, ++i));
+                    break;
+
+                case "--heuristic":
+                    heuristicName = getValue(args, ++i);
+                    break;
+
+                case "--no-diagonals":
+                    allowDiagonals = false;
+                    break;
+
+                case "--cross-corners":
+                    dontCrossCorners = false;
+                    break;
+
+                case "--uniform-diagonals":
+                    diagonalWeight = DiagonalWeight.UNIFORM;
+                    break;
+
+                case "--beam-width":
+                    beamWidth = getIntValue(args, ++i);
+                    break;
+
+                case "--warmup":
+                    warmupRounds = getIntValue(args, ++i);
+                    break;
+
+                case "--repetitions":
+                    repetitions = getIntValue(args, ++i);
+                    break;
+
+                case "--limit":
+                    limit = getIntValue(args, ++i);
+                    break;
+
+                case "--format":
+                    format = getValue(args, ++i);
+                    break;
+
+                case "--output":
+                    output = Path.of(getValue(args, ++i));
+                    break;
+
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException(
+                                String.format("Unknown option \"%s\"",
+                                              args[i]));
+                    }
+
+                    files.add(args[i]);
+            }
+        }
+
+        if (files.size() != 2) {
+            throw new IllegalArgumentException(
+                    "Expected a map file and a scenario file");
+        }
+
+        if (!format.equals("csv") && !format.equals("json")) {
+            throw new IllegalArgumentException(
+                    String.format("Unknown format \"%s\"", format));
+        }
+
+        if (finderNames.isEmpty()) {
+            finderNames.add("A* search");
+        }
+
+        HeuristicFunction heuristicFunction =
+                FinderRegistry.getHeuristicMap().get(heuristicName);
+
+        if (heuristicFunction == null) {
+            throw new IllegalArgumentException(
+                    String.format("Unknown heuristic \"%s\"", heuristicName));
+        }
+
+        Path mapPath = Path.of(files.get(0));
+        Path scenarioPath = Path.of(files.get(1));
+        BitGridSnapshot snapshot = MovingAIFormat.readMap(mapPath);
+        List<MovingAIScenario> scenarios;
+
+        try (Stream<MovingAIScenario> stream =
+                MovingAIFormat.streamScenarios(scenarioPath)) {
+            scenarios = stream.limit(limit).collect(Collectors.toList());
+        }
+
+        for (MovingAIScenario scenario : scenarios) {
+            if (scenario.mapWidth() != snapshot.getWidth() ||
+                scenario.mapHeight() != snapshot.getHeight()) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The scenario map %s is %d x %d, " +
+                                "but %s is %d x %d",
+                                scenario.mapName(),
+                                scenario.mapWidth(),
+                                scenario.mapHeight(),
+                                mapPath,
+                                snapshot.getWidth(),
+                                snapshot.getHeight()));
+            }
+        }
+
+        PathfindingSettings settings = new PathfindingSettings();
+        settings.setAllowDiagonals(allowDiagonals);
+        settings.setDontCrossCorners(dontCrossCorners);
+        settings.setDiagonalWeight(diagonalWeight);
+        settings.setHeuristicFunction(heuristicFunction);
+        settings.setBeamWidth(beamWidth);
+        settings.setFrequency(Integer.MAX_VALUE);
+        settings.setDontSleep(true);
+
+        ScenarioRunner runner =
+                new ScenarioRunner(MovingAIFormat.toGridModel(snapshot),
+                                   settings,
+                                   warmupRounds,
+                                   repetitions);
+
+        List<QueryReport> reports = new ArrayList<>();
+
+        for (String finderName : finderNames) {
+            reports.addAll(runner.run(finderName, scenarios));
+        }
+
+        Writer writer = output == null ?
+                new PrintWriter(System.out) :
+                Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+
+        try (PrintWriter printWriter = new PrintWriter(writer)) {
+            if (format.equals("csv")) {
+                writeCsv(reports, printWriter);
+            } else {
+                writeJson(reports, printWriter);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code reports} as CSV with a header row. The cost and the
+     * suboptimality of a missing path, and all the non-finite values, are
+     * left empty.
+     *
+     * @param reports the query reports.
+     * @param writer  the target writer.
+     */
+    public static void writeCsv(List<QueryReport> reports,
+                                PrintWriter writer) {
+
+        writer.println(String.join(",", CSV_COLUMNS));
+
+        for (QueryReport report : reports) {
+            MovingAIScenario scenario = report.scenario();
+
+            writer.println(
+                    String.join(
+                            ",",
+                            quoteCsv(report.finder()),
+                            Integer.toString(report.query()),
+                            Integer.toString(scenario.bucket()),
+                            Integer.toString(scenario.startX()),
+                            Integer.toString(scenario.startY()),
+                            Integer.toString(scenario.goalX()),
+                            Integer.toString(scenario.goalY()),
+                            Boolean.toString(report.isFound()),
+                            formatDouble(report.cost(), ""),
+                            formatDouble(scenario.optimalLength(), ""),
+                            formatDouble(report.getSuboptimality(), ""),
+                            Integer.toString(report.expanded()),
+                            Integer.toString(report.generated()),
+                            formatDouble(report.getLatencyPercentile(0.0),
+                                         ""),
+                            formatDouble(report.getLatencyPercentile(50.0),
+                                         ""),
+                            formatDouble(report.getLatencyPercentile(90.0),
+                                         ""),
+                            formatDouble(report.getLatencyPercentile(99.0),
+                                         ""),
+                            formatDouble(report.getLatencyPercentile(100.0),
+                                         "")));
+        }
+    }
+
+    /**
+     * Writes {@code reports} as a JSON array of objects with the keys of the
+     * CSV columns. The cost and the suboptimality of a missing path, and all
+     * the non-finite values, which JSON lacks, are {@code null}.
+     *
+     * @param reports the query reports.
+     * @param writer  the target writer.
+     */
+    public static void writeJson(List<QueryReport> reports,
+                                 PrintWriter writer) {
+
+        writer.println("[");
+
+        for (int i = 0; i < reports.size(); ++i) {
+            QueryReport report = reports.get(i);
+            MovingAIScenario scenario = report.scenario();
+
+            writer.print("  {");
+            writer.printf(Locale.ROOT,
+                          "\"finder\": %s, ",
+                          quoteJson(report.finder()));
+            writer.printf(Locale.ROOT,
+                          "\"query\": %d, \"bucket\": %d, " +
+                          "\"start_x\": %d, \"start_y\": %d, " +
+                          "\"goal_x\": %d, \"goal_y\": %d, " +
+                          "\"found\": %b, ",
+                          report.query(),
+                          scenario.bucket(),
+                          scenario.startX(),
+                          scenario.startY(),
+                          scenario.goalX(),
+                          scenario.goalY(),
+                          report.isFound());
+            writer.printf(Locale.ROOT,
+                          "\"path_cost\": %s, \"optimal_cost\": %s, " +
+                          "\"suboptimality\": %s, ",
+                          formatDouble(report.cost(), "null"),
+                          formatDouble(scenario.optimalLength(), "null"),
+                          formatDouble(report.getSuboptimality(), "null"));
+            writer.printf(Locale.ROOT,
+                          "\"expanded\": %d, \"generated\": %d, ",
+                          report.expanded(),
+                          report.generated());
+            writer.printf(Locale.ROOT,
+                          "\"latency_min_us\": %s, \"latency_p50_us\": %s, " +
+                          "\"latency_p90_us\": %s, \"latency_p99_us\": %s, " +
+                          "\"latency_max_us\": %s}",
+                          formatDouble(report.getLatencyPercentile(0.0),
+                                       "null"),
+                          formatDouble(report.getLatencyPercentile(50.0),
+                                       "null"),
+                          formatDouble(report.getLatencyPercentile(90.0),
+                                       "null"),
+                          formatDouble(report.getLatencyPercentile(99.0),
+                                       "null"),
+                          formatDouble(report.getLatencyPercentile(100.0),
+                                       "null"));
+
+            writer.println(i < reports.size() - 1 ? "," : "");
+        }
+
+        writer.println("]");
+    }
+
+    private List<Cell> search(Finder finder,
+                              GridCellNeighbourIterable neighbourIterable,
+                              SearchMetrics searchMetrics) {
+
+        SearchState searchState = new SearchState();
+        searchState.resetState();
+
+        return finder.findPath(model,
+                               neighbourIterable,
+                               settings,
+                               searchState,
+                               searchMetrics);
+    }
+
+    /**
+     * Moves the source and the target of the model to the cells of
+     * {@code scenario}. The model refuses to move a terminal on top of the
+     * other one, so the order of the moves matters.
+     *
+     * @return {@code false} if the source and the target of the scenario
+     *         coincide.
+     */
+    private boolean placeTerminals(MovingAIScenario scenario) {
+        int startX = scenario.startX();
+        int startY = scenario.startY();
+        int goalX = scenario.goalX();
+        int goalY = scenario.goalY();
+
+        if (startX == goalX && startY == goalY) {
+            return false;
+        }
+
+        Cell source = model.getSourceGridCell();
+        Cell target = model.getTargetGridCell();
+        boolean startOnTarget = startX == target.getx() &&
+                                startY == target.gety();
+        boolean goalOnSource = goalX == source.getx() &&
+                               goalY == source.gety();
+
+        if (startOnTarget && goalOnSource) {
+            // The terminals swap places. Park the source on any other free
+            // cell first:
+            parkSource();
+            model.moveTarget(goalX, goalY);
+            model.moveSource(startX, startY);
+        } else if (startOnTarget) {
+            model.moveTarget(goalX, goalY);
+            model.moveSource(startX, startY);
+        } else {
+            model.moveSource(startX, startY);
+            model.moveTarget(goalX, goalY);
+        }
+
+        return true;
+    }
+
+    private void parkSource() {
+        for (int y = 0; y < model.getHeight(); ++y) {
+            for (int x = 0; x < model.getWidth(); ++x) {
+                if (model.getCellType(x, y) == CellType.FREE) {
+                    model.moveSource(x, y);
+                    return;
+                }
+            }
+        }
+    }
+
+    private static String getValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(
+                    String.format("The option \"%s\" has no value",
+                                  args[index - 1]));
+        }
+
+        return args[index];
+    }
+
+    private static int getIntValue(String[] args, int index) {
+        String value = getValue(args, index);
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(
+                    String.format("The option \"%s\" expects an integer, " +
+                                  "got \"%s\"",
+                                  args[index - 1],
+                                  value));
+        }
+    }
+
+    private static String formatDouble(double value, String missingText) {
+        return Double.isFinite(value) ?
+               String.format(Locale.ROOT, "%.6f", value) :
+               missingText;
+    }
+
+    private static String quoteCsv(String text) {
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0) {
+            return text;
+        }
+
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private static String quoteJson(String text) {
+        return '"' + text.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -3,26 +3,8 @@ package io.github.coderodde.pathfinding.app;
 import static io.github.coderodde.pathfinding.app.Configuration.FREQUENCIES;
 import static io.github.coderodde.pathfinding.finders.Finder.computePathCost;
 import io.github.coderodde.pathfinding.controller.GridController;
-import io.github.coderodde.pathfinding.finders.AStarFinder;
-import io.github.coderodde.pathfinding.finders.BFSFinder;
-import io.github.coderodde.pathfinding.finders.BeamSearchFinder;
-import io.github.coderodde.pathfinding.finders.BestFirstSearchFinder;
-import io.github.coderodde.pathfinding.finders.BidirectionalBFSFinder;
-import io.github.coderodde.pathfinding.finders.BidirectionalBeamSearchFinder;
-import io.github.coderodde.pathfinding.finders.BidirectionalBestFirstSearchFinder;
-import io.github.coderodde.pathfinding.finders.BidirectionalDijkstraFinder;
-import io.github.coderodde.pathfinding.finders.DijkstraFinder;
 import io.github.coderodde.pathfinding.finders.Finder;
-import io.github.coderodde.pathfinding.finders.IDAStarFinder;
-import io.github.coderodde.pathfinding.finders.IDDFSFinder;
-import io.github.coderodde.pathfinding.finders.JumpPointSearchFinder;
-import io.github.coderodde.pathfinding.finders.NBAStarFinder;
-import io.github.coderodde.pathfinding.finders.PEAStarFinder;
-import io.github.coderodde.pathfinding.heuristics.ChebyshevHeuristicFunction;
-import io.github.coderodde.pathfinding.heuristics.EuclideanHeuristicFunction;
-import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
-import io.github.coderodde.pathfinding.heuristics.ManhattanHeuristicFunction;
-import io.github.coderodde.pathfinding.heuristics.OctileHeuristicFunction;
+import io.github.coderodde.pathfinding.finders.FinderRegistry;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.GridNodeExpander;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
@@ -31,13 +13,15 @@ import io.github.coderodde.pathfinding.logic.SearchState;
 import io.github.coderodde.pathfinding.logic.SearchState.CurrentState;
 import io.github.coderodde.pathfinding.logic.SearchStatistics;
 import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.SearchTrace;
+import io.github.coderodde.pathfinding.telemetry.FinderTelemetry;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.view.GridView;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import javafx.application.Platform;
@@ -59,91 +43,20 @@ import javafx.util.converter.DoubleStringConverter;
 /**
  *
  * @author Rodion "rodde" EFremov
- * @version 1.0.0 (Aug 27, 2025)
+ * @version 1.2.0 (Oct 19, 2026)
  * @since 1.0.0 (Aug 27, 2025)
  */
 public final class SettingsPane extends Pane {
     
-    private static final String EUCLIDEAN = "Euclidean";
-    private static final String MANHATTAN = "Manhattan";
-    private static final String OCTILE    = "Octile";
-    private static final String CHEBYSHEV = "Chebyshev";
-    
-    private static final String ASTAR             = "A* search";
-    private static final String BFS               = "BFS";
-    private static final String BEAM_SEARCH       = "Beam search";
-    private static final String BEST_FIRST_SEARCH = "Best First search";
-    private static final String BI_BFS            = "Bidirectional BFS";
-    private static final String BI_BEAM_SEARCH    = "Bidirectional beam search";
-    private static final String BI_BEST_FS        = "Bidirectional BeFS";
-    private static final String BI_DIJKSTRA       = "Bidirectional Dijkstra";
-    private static final String DIJKSTRA          = "Dijkstra";
-    private static final String IDASTAR           = "IDA* search";
-    private static final String IDDFS             = "IDDFS";
-    private static final String JUMP_POINT_SEARCH = "Jump point search";
-    private static final String NBASTAR           = "NBA* search";
-    private static final String PEASTAR           = "PEA* search";
-    
-    private static final String[] HEURISTIC_NAMES = {
-        MANHATTAN,
-        EUCLIDEAN,
-        OCTILE,
-        CHEBYSHEV,
-    };
-    
-    private static final String[] FINDER_NAMES = {
-        ASTAR,
-        BFS,
-        BEAM_SEARCH,
-        BEST_FIRST_SEARCH,
-        BI_BFS,
-        BI_BEAM_SEARCH,
-        BI_BEST_FS,
-        BI_DIJKSTRA,
-        DIJKSTRA,
-        IDASTAR,
-        IDDFS,
-        JUMP_POINT_SEARCH,
-        NBASTAR,
-        PEASTAR,
-    };
-    
-    private static final Map<String, HeuristicFunction> HEURISTIC_MAP =
-            new HashMap<>();
-    
-    private static final Map<String, Finder> FINDER_MAP = 
-            new HashMap<>();
-    
-    static {
-        HEURISTIC_MAP.put(EUCLIDEAN, new EuclideanHeuristicFunction());
-        HEURISTIC_MAP.put(MANHATTAN, new ManhattanHeuristicFunction());
-        HEURISTIC_MAP.put(OCTILE,    new OctileHeuristicFunction());
-        HEURISTIC_MAP.put(CHEBYSHEV, new ChebyshevHeuristicFunction());
-        
-        FINDER_MAP.put(ASTAR,             new AStarFinder());
-        FINDER_MAP.put(DIJKSTRA,          new DijkstraFinder());
-        FINDER_MAP.put(BI_DIJKSTRA,       new BidirectionalDijkstraFinder());
-        FINDER_MAP.put(BFS,               new BFSFinder());
-        FINDER_MAP.put(BI_BFS,            new BidirectionalBFSFinder());
-        FINDER_MAP.put(BEST_FIRST_SEARCH, new BestFirstSearchFinder());
-        FINDER_MAP.put(BI_BEAM_SEARCH,    new BidirectionalBeamSearchFinder());  
-        FINDER_MAP.put(BEAM_SEARCH,       new BeamSearchFinder());
-        FINDER_MAP.put(IDASTAR,           new IDAStarFinder());
-        FINDER_MAP.put(IDDFS,             new IDDFSFinder());
-        FINDER_MAP.put(JUMP_POINT_SEARCH, new JumpPointSearchFinder());
-        FINDER_MAP.put(NBASTAR,           new NBAStarFinder());
-        FINDER_MAP.put(BI_BEST_FS,        
-                       new BidirectionalBestFirstSearchFinder());
-        
-        FINDER_MAP.put(PEASTAR,           new PEAStarFinder());
-    }
-    
     private static final int PIXELS_WIDTH  = 300;
     private static final int PIXELS_HEIGHT = 200;
     private static final int PIXELS_MARGIN = 20;
     private final double[] offset = new double[2];
     private GridNodeExpander gridNodeExpander;
     private final SearchState searchState;
+    private final GridModel gridModel;
+    private final GridView gridView;
+    private final GridController gridController;
     private Finder finder;
     private List<Cell> path = new ArrayList<>();
     
@@ -216,7 +129,39 @@ public final class SettingsPane extends Pane {
                     0.0,
                     cutoffValueFilter);
     
-    private volatile boolean searchIsRunning = false;
+    /**
+     * A single search being run or replayed.
+     * 
+     * @param task       the task running the search.
+     * @param control    the state controlling the search.
+     * @param statistics the search statistics.
+     * @param trace      the trace of the search.
+     */
+    private record SearchRun(Task<List<Cell>> task,
+                             SearchState control,
+                             SearchStatistics statistics,
+                             SearchTrace trace) {}
+    
+    /**
+     * Runs the searches. A cancelled search halts on its own thread, so that
+     * the JavaFX application thread does not wait for it. Since the searches
+     * draw into the same grid model, the next search may not start before
+     * the cancelled one has halted.
+     */
+    private final ExecutorService searchExecutor = 
+            Executors.newCachedThreadPool(SettingsPane::newSearchThread);
+    
+    /**
+     * The search being run or replayed, or {@code null} if none. Accessed on
+     * the JavaFX application thread only.
+     */
+    private SearchRun currentRun;
+    
+    /**
+     * The control of the search whose thread has not finished yet, or 
+     * {@code null} if none. Accessed on the JavaFX application thread only.
+     */
+    private SearchState runningControl;
     
     public SettingsPane(GridModel gridModel,
                         GridView gridView,
@@ -225,6 +170,9 @@ public final class SettingsPane extends Pane {
         
         this.searchState = searchState;
         this.searchState.setCurrentState(CurrentState.IDLE);
+        this.gridModel = gridModel;
+        this.gridView = gridView;
+        this.gridController = gridController;
         
         this.labelPathCost.setStyle("-fx-background-color: white;" +                          
                                       "-fx-font-size: 13px;");
@@ -295,7 +243,8 @@ public final class SettingsPane extends Pane {
         
         comboBoxBeamWidth.setValue("8");
         
-        for (String heuristicName : HEURISTIC_NAMES) {
+        for (String heuristicName : FinderRegistry.getHeuristicMap()
+                                                  .keySet()) {
             comboBoxHeuristic.getItems().add(heuristicName);
         }
         
@@ -306,11 +255,11 @@ public final class SettingsPane extends Pane {
                              .add(String.format("%d Hz", frequency));
         }
         
-        for (String finder : FINDER_NAMES) {
+        for (String finder : FinderRegistry.getFinderMap().keySet()) {
             comboBoxFinder.getItems().add(finder);
         }
         
-        comboBoxFinder.setValue(FINDER_NAMES[0]);
+        comboBoxFinder.setValue(FinderRegistry.ASTAR);
         comboBoxFinder.setPrefWidth(PIXELS_WIDTH);
         
         comboBoxFrequency.setValue(
@@ -325,7 +274,7 @@ public final class SettingsPane extends Pane {
         checkBoxDontCrossCorners.setSelected(true);
         
         comboBoxBeamWidth.setValue("3");
-        comboBoxHeuristic.setValue(MANHATTAN);
+        comboBoxHeuristic.setValue(FinderRegistry.MANHATTAN);
         
         comboBoxBeamWidth.setPrefWidth(PIXELS_WIDTH);
         comboBoxHeuristic.setPrefWidth(PIXELS_WIDTH);
@@ -388,36 +337,77 @@ public final class SettingsPane extends Pane {
                 gridNodeExpander = new GridNodeExpander(gridModel,
                                                         pathfindingSettings);
                 
+                Finder searchFinder = finder;
+                String finderName = comboBoxFinder.getValue();
+                GridCellNeighbourIterable neighbourIterable = 
+                        new GridCellNeighbourIterable(gridModel,
+                                                      gridNodeExpander, 
+                                                      pathfindingSettings);
+                
+                SearchState control = new SearchState();
                 SearchStatistics searchStatistics = computeSearchStatistics();
+                SearchTrace trace = new SearchTrace(gridModel.getWidth(),
+                                                    gridModel.getHeight());
+                
+                labelPathCost.setText("Path cost: N/A");
                 
                 Task<List<Cell>> task = new Task<>() {
                     
                     @Override
                     protected List<Cell> call() throws Exception {
-                        Platform.runLater(() -> {
-                            labelPathCost.setText("Path cost: N/A");
-                        });
-                        
-                        searchIsRunning = true;
+                        gridModel.setSearchTrace(trace);
                         
-                        List<Cell> path = finder.findPath(
+                        try {
+                            return FinderTelemetry.findPath(
+                                    finderName,
+                                    searchFinder,
+                                    FinderTelemetry.NO_MAP_ID,
                                     gridModel,
-                                    new GridCellNeighbourIterable(
-                                            gridModel,
-                                            gridNodeExpander, 
-                                            pathfindingSettings),
+                                    neighbourIterable,
                                     pathfindingSettings,
-                                    searchState,
+                                    control,
                                     searchStatistics);
-                        
-                        searchIsRunning = false;
-                        
-                        searchState.setCurrentState(CurrentState.IDLE);
-                        return path;
+                        } finally {
+                            gridModel.detachSearchTrace(trace);
+                            trace.close();
+                            Platform.runLater(() -> searchHalted(control));
+                        }
                     }
                 };
                 
+                SearchRun run = new SearchRun(task, 
+                                              control, 
+                                              searchStatistics, 
+                                              trace);
+                currentRun = run;
+                runningControl = control;
+                
+                // Finish once the view has replayed the whole search:
+                Runnable finishRun = () -> gridView.runAfterReplay(() -> {
+                    currentRun = null;
+                    gridView.drawPath(this.path);
+                    gridController.enableUserInteraction();
+                    searchState.setCurrentState(CurrentState.IDLE);
+                    buttonStartPause.setText("Search");
+
+                    if (this.path.isEmpty()) {
+                        labelPathCost.setText("Path cost: N/A");
+                    } else {
+                        labelPathCost.setText(
+                                "Path cost: " + computePathCost(
+                                                    this.path,
+                                                    pathfindingSettings));
+                    }
+                });
+                
                 task.setOnSucceeded(e -> {
+                    searchStatistics.stop();
+                    
+                    if (currentRun != run) {
+                        // The search was reset meanwhile.
+                        return;
+                    }
+                    
                     try {
                         this.path.clear();
                         this.path.addAll(task.get());
@@ -430,37 +420,50 @@ public final class SettingsPane extends Pane {
                         Platform.exit();
                     }
                     
-                    gridView.drawPath(this.path);
-                    gridController.enableUserInteraction();
-                    searchState.setCurrentState(CurrentState.IDLE);
-                    buttonStartPause.setText("Search");
-                    searchState.resetState();
+                    finishRun.run();
+                }); 
+                
+                task.setOnFailed(e -> {
+                    searchStatistics.stop();
                     
-                    if (this.path.isEmpty()) {
-                        labelPathCost.setText("Path cost: N/A");
-                    } else {
-                        labelPathCost.setText(
-                                "Path cost: " + computePathCost(
-                                                    this.path,
-                                                    pathfindingSettings));
+                    if (currentRun != run) {
+                        // The search was reset meanwhile.
+                        return;
                     }
-                }); 
+                    
+                    System.getLogger(
+                            SettingsPane.class.getName()).log(
+                                    System.Logger.Level.ERROR,
+                                    "The search failed",
+                                    task.getException());
+                    
+                    this.path.clear();
+                    finishRun.run();
+                });
                 
-                new Thread(task).start();
+                searchStatistics.start();
+                gridView.replay(trace, computeReplayFrequency());
+                
+                // Draw the cells cleared above before the search changes 
+                // them, so that they do not overdraw the replay:
+                gridView.drawDirtyCells();
+                searchExecutor.execute(task);
                 
             } else if (searchState
                     .getCurrentState()
                     .equals(CurrentState.SEARCHING)) {
                 
-                // Once here, we need to pause the search:
-                searchState.requestPause();
+                // Once here, we need to pause the search and its replay:
+                currentRun.control().requestPause();
+                gridView.pauseReplay();
                 searchState.setCurrentState(CurrentState.PAUSED);
                 buttonStartPause.setText("Continue");
                 previouslyReset = false;
             } else if (searchState.getCurrentState()
                                   .equals(CurrentState.PAUSED)) {
                 
-                searchState.resetState();
+                currentRun.control().requestResume();
+                gridView.resumeReplay();
                 searchState.setCurrentState(CurrentState.SEARCHING);
                 buttonStartPause.setText("Pause");
                 previouslyReset = false;
@@ -482,6 +485,10 @@ public final class SettingsPane extends Pane {
                 return;
             }
             
+            if (searchState.getCurrentState().equals(CurrentState.HALTING)) {
+                return;
+            }
+            
             if (searchState.getCurrentState().equals(CurrentState.IDLE)) {
                 
             gridModel.clearStateCells();
@@ -496,24 +503,24 @@ public final class SettingsPane extends Pane {
                 return;
             }
             
-            searchState.requestHalt(); // Ask the current finder to halt 
-                                       // immediately.
-            
-            while (searchIsRunning) {
-                try {
-                    Thread.sleep(10L);
-                } catch (InterruptedException ex) {
-                    
-                }
-            }
-            
+            // The search halts on its own; do not wait for it:
+            SearchRun run = currentRun;
+            cancelSearch();
             buttonStartPause.setText("Search");
             gridModel.clearStateCells();
 //            gridView.clearView();
             gridView.drawBorders();
             gridView.drawAllCels();
             previouslyReset = true;
-            searchState.setCurrentState(CurrentState.IDLE);
+            
+            if (run != null && run.control() == runningControl) {
+                // Keep the grid to the halting search until it finishes:
+                buttonStartPause.setDisable(true);
+                searchState.setCurrentState(CurrentState.HALTING);
+            } else {
+                gridController.enableUserInteraction();
+                searchState.setCurrentState(CurrentState.IDLE);
+            }
         });
         
         buttonVBox.getChildren().addAll(buttonStartPause,
@@ -555,6 +562,65 @@ public final class SettingsPane extends Pane {
         return searchState;
     }
     
+    /**
+     * Cancels the current search, if any, and stops running searches. Must 
+     * be called on the JavaFX application thread.
+     */
+    public void shutdown() {
+        cancelSearch();
+        searchExecutor.shutdownNow();
+    }
+    
+    /**
+     * Asks the current search, if any, to halt and stops its replay. Does 
+     * not wait for the search to halt, which happens at its next checkpoint.
+     */
+    private void cancelSearch() {
+        SearchRun run = currentRun;
+        
+        if (run == null) {
+            return;
+        }
+        
+        currentRun = null;
+        run.control().requestHalt();
+        run.task().cancel(true);
+        run.statistics().stop();
+        gridView.stopReplay();
+        gridModel.detachSearchTrace(run.trace());
+    }
+    
+    /**
+     * Called on the JavaFX application thread once the thread of the search
+     * controlled by {@code control} finishes. If the search was reset, 
+     * erases what it drew after the reset and allows the next search.
+     * 
+     * @param control the control of the finished search.
+     */
+    private void searchHalted(SearchState control) {
+        if (runningControl != control) {
+            return;
+        }
+        
+        runningControl = null;
+        
+        if (!searchState.getCurrentState().equals(CurrentState.HALTING)) {
+            return;
+        }
+        
+        gridModel.clearStateCells();
+        gridView.drawAllCels();
+        gridController.enableUserInteraction();
+        buttonStartPause.setDisable(false);
+        searchState.setCurrentState(CurrentState.IDLE);
+    }
+    
+    private static Thread newSearchThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "search");
+        thread.setDaemon(true);
+        return thread;
+    }
+    
     @Override
     public boolean isResizable() {
         return false;
@@ -570,14 +636,26 @@ public final class SettingsPane extends Pane {
                 DiagonalWeight.convert(comboBoxDiagonalWeight.getValue()));
         
         ps.setHeuristicFunction(
-                HEURISTIC_MAP.get(comboBoxHeuristic.getValue()));
+                FinderRegistry.getHeuristicMap()
+                              .get(comboBoxHeuristic.getValue()));
         
-        ps.setFinder(FINDER_MAP.get(comboBoxFinder.getValue()));
+        ps.setFinder(FinderRegistry.getFinderMap()
+                                   .get(comboBoxFinder.getValue()));
         ps.setCutoff(Double.parseDouble(textFieldCutoffValue.getText()));
         
+        // The search runs at full speed; the grid view replays its trace at 
+        // the selected frequency:
+        ps.setDontSleep(true);
+        
         return ps;
     }
     
+    private int computeReplayFrequency() {
+        String frequency = comboBoxFrequency.getValue();
+        return Integer.parseInt(
+                frequency.substring(0, frequency.indexOf(' ')));
+    }
+    
     private SearchStatistics computeSearchStatistics() {
         switch (finder.getClass().getSimpleName()) {
             case "AStarFinder":
@@ -589,8 +667,10 @@ public final class SettingsPane extends Pane {
             case "BidirectionalBeamSearchFinder":
             case "BidirectionalBestFirstSearchFinder":
             case "BidirectionalDijkstraFinder":
+            case "BitParallelBFSFinder":
             case "DijkstraFinder":
             case "PEAStarFinder":
+            case "ParallelAStarFinder":
                 return new SearchStatistics(
                         labelVisitedCount,
                         labelOpenedCount, 
@@ -608,6 +688,7 @@ public final class SettingsPane extends Pane {
                         SearchStatistics.LabelSelector.TRACED);
                 
             case "NBAStarFinder":
+            case "ParallelBidirectionalFinder":
                 return new SearchStatistics(
                         labelVisitedCount,
                         labelOpenedCount, 
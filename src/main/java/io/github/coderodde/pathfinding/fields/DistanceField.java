@@ -0,0 +1,81 @@
+package io.github.coderodde.pathfinding.fields;
+
+import java.nio.FloatBuffer;
+
+/**
+ * This class holds the distances from a set of source cells to every cell of
+ * a grid. The unreachable cells and the walls have the distance
+ * {@link Float#POSITIVE_INFINITY}.
+ *
+ * Internally, each row is padded by one cell on both ends so that the row
+ * kernels never need bounds checks. The distances are held in a
+ * {@link FloatBuffer}, so that a field loaded by {@link FieldArtifacts} reads
+ * straight from the mapped artifact file instead of a copy on the heap.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class DistanceField {
+
+    private final int width;
+    private final int height;
+    final FloatBuffer distances;
+
+    DistanceField(int width, int height, FloatBuffer distances) {
+        this.width = width;
+        this.height = height;
+        this.distances = distances;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public float getDistance(int x, int y) {
+        checkCellLocation(x, y);
+        return distances.get(index(width, x, y));
+    }
+
+    public boolean isReachable(int x, int y) {
+        return getDistance(x, y) != Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the distances in a new row-major array of {@code width * height}
+     * entries.
+     *
+     * @return the distance array.
+     */
+    public float[] toArray() {
+        float[] array = new float[width * height];
+
+        for (int y = 0; y < height; ++y) {
+            distances.get(index(width, 0, y), array, y * width, width);
+        }
+
+        return array;
+    }
+
+    static int stride(int width) {
+        return width + 2;
+    }
+
+    static int index(int width, int x, int y) {
+        return y * stride(width) + x + 1;
+    }
+
+    private void checkCellLocation(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IndexOutOfBoundsException(
+                    String.format(
+                            "(%d, %d), not a valid cell coordinates",
+                            x,
+                            y));
+        }
+    }
+}
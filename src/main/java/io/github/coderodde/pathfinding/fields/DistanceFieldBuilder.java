@@ -0,0 +1,415 @@
+package io.github.coderodde.pathfinding.fields;
+
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.utils.Cell;
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class computes the distances from a set of source cells to all the
+ * cells of a grid. Unlike the Dijkstra's algorithm, it needs no priority
+ * queue: it sweeps the rows downwards and then upwards, relaxing each row
+ * over the previous one and then along itself, until a full round of sweeps
+ * changes nothing. On open maps, a couple of rounds suffice.
+ *
+ * The number of the rounds grows with the number of the times a shortest
+ * path turns back vertically, which is {@code O(n)} on a maze of {@code n}
+ * cells, making the sweeps {@code O(n^2)} in the worst case. Therefore, after
+ * {@value #MAXIMUM_SWEEP_ROUNDS} rounds the builder gives up sweeping and
+ * finishes with the Dijkstra's algorithm seeded with the distances found so
+ * far, which bounds the total work by {@code O(n log n)}.
+ *
+ * The relaxation over the previous row is data-parallel and runs on the
+ * Vector API whenever the {@code jdk.incubator.vector} module is present
+ * ({@code --add-modules jdk.incubator.vector}) and the build includes the
+ * vectorized kernel (the {@code vector-api} Maven profile), and on plain Java
+ * loops otherwise. The relaxation along a row is inherently sequential.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class DistanceFieldBuilder {
+
+    private static final String VECTOR_MODULE_NAME = "jdk.incubator.vector";
+
+    private static final String VECTOR_ROW_KERNEL_CLASS_NAME =
+            "io.github.coderodde.pathfinding.fields.VectorRowKernel";
+
+    private static final RowKernel ROW_KERNEL = createRowKernel();
+
+    private static final float INFINITY = Float.POSITIVE_INFINITY;
+
+    /**
+     * The number of the sweep rounds after which the builder switches to the
+     * Dijkstra's algorithm.
+     */
+    static final int MAXIMUM_SWEEP_ROUNDS = 8;
+
+    private final PathfindingSettings pathfindingSettings;
+
+    public DistanceFieldBuilder(PathfindingSettings pathfindingSettings) {
+        this.pathfindingSettings =
+                Objects.requireNonNull(
+                        pathfindingSettings,
+                        "The input pathfinding settings is null");
+    }
+
+    /**
+     * Returns {@code true} if the row relaxations run on the Vector API.
+     *
+     * @return {@code true} if vectorized.
+     */
+    public static boolean isVectorized() {
+        return !(ROW_KERNEL instanceof ScalarRowKernel);
+    }
+
+    public DistanceField build(GridModel model, Cell source) {
+        return build(model, List.of(source));
+    }
+
+    /**
+     * Computes the distances from the nearest of {@code sources} to each cell
+     * of {@code model}.
+     *
+     * @param model   the grid model.
+     * @param sources the source cells.
+     * @return the distance field.
+     */
+    public DistanceField build(GridModel model, Collection<Cell> sources) {
+        Objects.requireNonNull(model, "The input grid model is null");
+        Objects.requireNonNull(sources, "The input source collection is null");
+
+        int width  = model.getWidth();
+        int height = model.getHeight();
+        int stride = DistanceField.stride(width);
+        int size   = height * stride;
+
+        boolean[] free = new boolean[size];
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                free[DistanceField.index(width, x, y)] = model.isWalkable(x, y);
+            }
+        }
+
+        float[] straight = new float[size];
+
+        for (int i = 0; i < size; ++i) {
+            straight[i] = free[i] ? 1.0f : INFINITY;
+        }
+
+        // The diagonal move costs by the direction of the previous cell:
+        float[] fromNorthWest = diagonalCosts(free, width, height, -1, -1);
+        float[] fromNorthEast = diagonalCosts(free, width, height, +1, -1);
+        float[] fromSouthWest = diagonalCosts(free, width, height, -1, +1);
+        float[] fromSouthEast = diagonalCosts(free, width, height, +1, +1);
+
+        float[] distances = new float[size];
+        Arrays.fill(distances, INFINITY);
+
+        for (Cell source : sources) {
+            if (!model.isWalkable(source.getx(), source.gety())) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The source cell (%d, %d) is not walkable",
+                                source.getx(),
+                                source.gety()));
+            }
+
+            distances[DistanceField.index(width,
+                                          source.getx(),
+                                          source.gety())] = 0.0f;
+        }
+
+        boolean changed;
+        int rounds = 0;
+
+        do {
+            if (rounds++ == MAXIMUM_SWEEP_ROUNDS) {
+                finishByDijkstra(distances,
+                                 width,
+                                 straight,
+                                 fromNorthWest,
+                                 fromNorthEast,
+                                 fromSouthWest,
+                                 fromSouthEast);
+                break;
+            }
+
+            changed = false;
+
+            for (int y = 0; y < height; ++y) {
+                if (y > 0) {
+                    changed |= ROW_KERNEL.relaxRow(distances,
+                                                   y * stride + 1,
+                                                   (y - 1) * stride + 1,
+                                                   width,
+                                                   straight,
+                                                   fromNorthWest,
+                                                   fromNorthEast);
+                }
+
+                changed |= relaxAlongRow(distances,
+                                         y * stride + 1,
+                                         width,
+                                         straight);
+            }
+
+            for (int y = height - 1; y >= 0; --y) {
+                if (y < height - 1) {
+                    changed |= ROW_KERNEL.relaxRow(distances,
+                                                   y * stride + 1,
+                                                   (y + 1) * stride + 1,
+                                                   width,
+                                                   straight,
+                                                   fromSouthWest,
+                                                   fromSouthEast);
+                }
+
+                changed |= relaxAlongRow(distances,
+                                         y * stride + 1,
+                                         width,
+                                         straight);
+            }
+        } while (changed);
+
+        return new DistanceField(width, height, FloatBuffer.wrap(distances));
+    }
+
+    /**
+     * Runs the Dijkstra's algorithm over {@code distances}, treating each
+     * finite distance as a tentative one. Since each finite distance is the
+     * length of some path from a source, the result is exact. The heap
+     * entries pack the bits of the distance, which order as the non-negative
+     * floats do, above the cell index.
+     */
+    private static void finishByDijkstra(float[] distances,
+                                         int width,
+                                         float[] straight,
+                                         float[] fromNorthWest,
+                                         float[] fromNorthEast,
+                                         float[] fromSouthWest,
+                                         float[] fromSouthEast) {
+        int stride = DistanceField.stride(width);
+        LongHeap heap = new LongHeap();
+
+        for (int i = 0; i < distances.length; ++i) {
+            if (distances[i] != INFINITY) {
+                heap.add(entry(distances[i], i));
+            }
+        }
+
+        while (!heap.isEmpty()) {
+            long entry = heap.remove();
+            int i = (int) entry;
+            float d = Float.intBitsToFloat((int)(entry >>> 32));
+
+            if (d > distances[i]) {
+                // Stale entry:
+                continue;
+            }
+
+            relax(distances, heap, d, i - 1,          straight);
+            relax(distances, heap, d, i + 1,          straight);
+            relax(distances, heap, d, i - stride,     straight);
+            relax(distances, heap, d, i + stride,     straight);
+            relax(distances, heap, d, i + stride + 1, fromNorthWest);
+            relax(distances, heap, d, i + stride - 1, fromNorthEast);
+            relax(distances, heap, d, i - stride + 1, fromSouthWest);
+            relax(distances, heap, d, i - stride - 1, fromSouthEast);
+        }
+    }
+
+    /**
+     * Relaxes the cell {@code i} entered with the cost {@code costs[i]} from
+     * a cell at the distance {@code d}.
+     */
+    private static void relax(float[] distances,
+                              LongHeap heap,
+                              float d,
+                              int i,
+                              float[] costs) {
+
+        if (i < 0 || i >= distances.length) {
+            return;
+        }
+
+        float tentative = d + costs[i];
+
+        if (tentative < distances[i]) {
+            distances[i] = tentative;
+            heap.add(entry(tentative, i));
+        }
+    }
+
+    private static long entry(float distance, int index) {
+        return ((long) Float.floatToIntBits(distance) << 32) | index;
+    }
+
+    /**
+     * A minimal binary min-heap of primitive {@code long}s.
+     */
+    private static final class LongHeap {
+
+        private long[] array = new long[64];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void add(long value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, 2 * size);
+            }
+
+            int i = size++;
+
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+
+                if (array[parent] <= value) {
+                    break;
+                }
+
+                array[i] = array[parent];
+                i = parent;
+            }
+
+            array[i] = value;
+        }
+
+        long remove() {
+            long top = array[0];
+            long last = array[--size];
+            int i = 0;
+
+            while (true) {
+                int child = 2 * i + 1;
+
+                if (child >= size) {
+                    break;
+                }
+
+                if (child + 1 < size && array[child + 1] < array[child]) {
+                    ++child;
+                }
+
+                if (last <= array[child]) {
+                    break;
+                }
+
+                array[i] = array[child];
+                i = child;
+            }
+
+            array[i] = last;
+            return top;
+        }
+    }
+
+    /**
+     * Computes the costs of entering each cell {@code (x, y)} diagonally
+     * from {@code (x + dx, y + dy)}.
+     */
+    private float[] diagonalCosts(boolean[] free,
+                                  int width,
+                                  int height,
+                                  int dx,
+                                  int dy) {
+
+        float[] costs = new float[free.length];
+        Arrays.fill(costs, INFINITY);
+
+        if (!pathfindingSettings.allowDiagonals()) {
+            return costs;
+        }
+
+        float weight =
+                (float) pathfindingSettings.getDiagonalWeight().getWeight();
+
+        boolean dontCrossCorners = pathfindingSettings.dontCrossCorners();
+
+        for (int y = 0; y < height; ++y) {
+            int py = y + dy;
+
+            if (py < 0 || py >= height) {
+                continue;
+            }
+
+            for (int x = 0; x < width; ++x) {
+                int i = DistanceField.index(width, x, y);
+
+                if (!free[i]) {
+                    continue;
+                }
+
+                if (dontCrossCorners &&
+                    (!free[i + dx] ||
+                     !free[DistanceField.index(width, x, py)])) {
+                    continue;
+                }
+
+                costs[i] = weight;
+            }
+        }
+
+        return costs;
+    }
+
+    /**
+     * Relaxes the row along itself, first rightwards, then leftwards. The
+     * padding cells are infinitely far and stop the scans.
+     */
+    private static boolean relaxAlongRow(float[] distances,
+                                         int rowOffset,
+                                         int width,
+                                         float[] straight) {
+        boolean changed = false;
+        int end = rowOffset + width;
+
+        for (int i = rowOffset + 1; i < end; ++i) {
+            float d = distances[i - 1] + straight[i];
+
+            if (d < distances[i]) {
+                distances[i] = d;
+                changed = true;
+            }
+        }
+
+        for (int i = end - 2; i >= rowOffset; --i) {
+            float d = distances[i + 1] + straight[i];
+
+            if (d < distances[i]) {
+                distances[i] = d;
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    private static RowKernel createRowKernel() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE_NAME).isPresent()) {
+            try {
+                return (RowKernel) Class.forName(VECTOR_ROW_KERNEL_CLASS_NAME)
+                                        .getDeclaredConstructor()
+                                        .newInstance();
+            } catch (ClassNotFoundException ex) {
+                // Built without the vector-api profile.
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                System.getLogger(DistanceFieldBuilder.class.getName())
+                      .log(System.Logger.Level.WARNING,
+                           "Could not load the vectorized row kernel",
+                           ex);
+            }
+        }
+
+        return new ScalarRowKernel();
+    }
+}
@@ -0,0 +1,223 @@
+package io.github.coderodde.pathfinding.fields;
+
+import io.github.coderodde.pathfinding.io.ArtifactFile;
+import io.github.coderodde.pathfinding.io.StaleArtifactException;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * This class saves the distance fields and the flow fields next to their maps
+ * as {@link ArtifactFile}s, and loads them back. The fields are bound to the
+ * walls of the map and to the move rules they were computed with; loading a 
+ * field for another map or other move rules throws 
+ * {@link StaleArtifactException}.
+ *
+ * The loaded fields read straight from the memory-mapped payload of the 
+ * artifact file, so that loading takes neither a copy nor heap proportional 
+ * to the map. The loaded flow fields are read-only.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class FieldArtifacts {
+    
+    public static final int DISTANCE_FIELD_TYPE = 1;
+    public static final int FLOW_FIELD_TYPE     = 2;
+    
+    private static final int DISTANCE_FIELD_FORMAT_VERSION = 1;
+    private static final int FLOW_FIELD_FORMAT_VERSION     = 1;
+    
+    private FieldArtifacts() {
+        
+    }
+    
+    /**
+     * Saves {@code field} computed over {@code snapshot} with 
+     * {@code pathfindingSettings}.
+     * 
+     * @param field               the distance field.
+     * @param snapshot            the snapshot of the map.
+     * @param pathfindingSettings the settings the field was computed with.
+     * @param path                the path of the artifact file.
+     * @throws IOException if writing fails.
+     */
+    public static void save(DistanceField field,
+                            GridSnapshot snapshot,
+                            PathfindingSettings pathfindingSettings,
+                            Path path) throws IOException {
+        
+        FloatBuffer distances = field.distances.duplicate().clear();
+        ByteBuffer payload = 
+                ByteBuffer.allocate(distances.remaining() * Float.BYTES);
+        
+        payload.asFloatBuffer().put(distances);
+        
+        ArtifactFile.write(path, 
+                           DISTANCE_FIELD_TYPE,
+                           DISTANCE_FIELD_FORMAT_VERSION, 
+                           checkSnapshot(snapshot, 
+                                         field.getWidth(), 
+                                         field.getHeight()), 
+                           parameterKey(pathfindingSettings), 
+                           payload);
+    }
+    
+    /**
+     * Loads a distance field computed over {@code snapshot} with 
+     * {@code pathfindingSettings}.
+     * 
+     * @param snapshot            the snapshot of the map.
+     * @param pathfindingSettings the settings.
+     * @param path                the path of the artifact file.
+     * @return the distance field.
+     * @throws StaleArtifactException if the field was computed for another 
+     *                                map or with other settings.
+     * @throws IOException            if reading fails.
+     */
+    public static DistanceField loadDistanceField(
+            GridSnapshot snapshot,
+            PathfindingSettings pathfindingSettings,
+            Path path) throws IOException {
+        
+        ByteBuffer payload = 
+                ArtifactFile.open(path,
+                                  DISTANCE_FIELD_TYPE, 
+                                  DISTANCE_FIELD_FORMAT_VERSION, 
+                                  snapshot, 
+                                  parameterKey(pathfindingSettings));
+        
+        int width = snapshot.getWidth();
+        int height = snapshot.getHeight();
+        long length = (long) height * DistanceField.stride(width);
+        
+        if (payload.remaining() != length * Float.BYTES) {
+            throw new IOException(
+                    String.format("%s has an invalid payload length", path));
+        }
+        
+        return new DistanceField(width, height, payload.asFloatBuffer());
+    }
+    
+    /**
+     * Saves {@code field} computed over {@code snapshot} with 
+     * {@code pathfindingSettings}.
+     * 
+     * @param field               the flow field.
+     * @param snapshot            the snapshot of the map.
+     * @param pathfindingSettings the settings the field was computed with.
+     * @param path                the path of the artifact file.
+     * @throws IOException if writing fails.
+     */
+    public static void save(FlowField field,
+                            GridSnapshot snapshot,
+                            PathfindingSettings pathfindingSettings,
+                            Path path) throws IOException {
+        
+        int cells = field.costs.capacity();
+        ByteBuffer payload = 
+                ByteBuffer.allocate(2 * Integer.BYTES + 
+                                    cells * (Double.BYTES + 1));
+        
+        payload.putInt(field.getTargetX())
+               .putInt(field.getTargetY());
+        
+        payload.asDoubleBuffer().put(field.costs.duplicate().clear());
+        payload.position(payload.position() + cells * Double.BYTES)
+               .put(field.directions.duplicate().clear())
+               .flip();
+        
+        ArtifactFile.write(path, 
+                           FLOW_FIELD_TYPE,
+                           FLOW_FIELD_FORMAT_VERSION,
+                           checkSnapshot(snapshot, 
+                                         field.getWidth(), 
+                                         field.getHeight()),
+                           parameterKey(pathfindingSettings), 
+                           payload);
+    }
+    
+    /**
+     * Loads a flow field computed over {@code snapshot} with 
+     * {@code pathfindingSettings}.
+     * 
+     * @param snapshot            the snapshot of the map.
+     * @param pathfindingSettings the settings.
+     * @param path                the path of the artifact file.
+     * @return the flow field.
+     * @throws StaleArtifactException if the field was computed for another 
+     *                                map or with other settings.
+     * @throws IOException            if reading fails.
+     */
+    public static FlowField loadFlowField(
+            GridSnapshot snapshot,
+            PathfindingSettings pathfindingSettings,
+            Path path) throws IOException {
+        
+        ByteBuffer payload = 
+                ArtifactFile.open(path,
+                                  FLOW_FIELD_TYPE, 
+                                  FLOW_FIELD_FORMAT_VERSION, 
+                                  snapshot, 
+                                  parameterKey(pathfindingSettings));
+        
+        int width = snapshot.getWidth();
+        int height = snapshot.getHeight();
+        int cells = width * height;
+        
+        if (payload.remaining() != 
+                2 * Integer.BYTES + cells * (Double.BYTES + 1)) {
+            throw new IOException(
+                    String.format("%s has an invalid payload length", path));
+        }
+        
+        int costsOffset = 2 * Integer.BYTES;
+        int directionsOffset = costsOffset + cells * Double.BYTES;
+        
+        return new FlowField(width,
+                             height, 
+                             payload.getInt(0),
+                             payload.getInt(Integer.BYTES),
+                             payload.slice(costsOffset, cells * Double.BYTES)
+                                    .asDoubleBuffer(),
+                             payload.slice(directionsOffset, cells));
+    }
+    
+    /**
+     * Returns the key of the settings the fields depend on: the move rules 
+     * and the diagonal weight.
+     */
+    private static long parameterKey(PathfindingSettings pathfindingSettings) {
+        Objects.requireNonNull(pathfindingSettings, 
+                               "The input pathfinding settings is null");
+        
+        long key = Double.doubleToLongBits(
+                pathfindingSettings.getDiagonalWeight().getWeight());
+        
+        key = 31 * key + (pathfindingSettings.allowDiagonals() ? 1 : 0);
+        key = 31 * key + (pathfindingSettings.dontCrossCorners() ? 1 : 0);
+        return key;
+    }
+    
+    private static GridSnapshot checkSnapshot(GridSnapshot snapshot,
+                                              int width, 
+                                              int height) {
+        if (snapshot.getWidth() != width || snapshot.getHeight() != height) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The field (%d x %d) does not match the map " + 
+                            "(%d x %d)",
+                            width,
+                            height,
+                            snapshot.getWidth(),
+                            snapshot.getHeight()));
+        }
+        
+        return snapshot;
+    }
+}
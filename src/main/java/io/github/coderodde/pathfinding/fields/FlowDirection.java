@@ -0,0 +1,49 @@
+package io.github.coderodde.pathfinding.fields;
+
+/**
+ * Enumerates the eight moves an agent can take from a cell.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public enum FlowDirection {
+    WEST      (-1,  0),
+    NORTH     ( 0, -1),
+    EAST      ( 1,  0),
+    SOUTH     ( 0,  1),
+    NORTH_WEST(-1, -1),
+    NORTH_EAST( 1, -1),
+    SOUTH_WEST(-1,  1),
+    SOUTH_EAST( 1,  1);
+    
+    private static final FlowDirection[] VALUES = values();
+    
+    private final int dx;
+    private final int dy;
+    
+    private FlowDirection(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+    
+    public int getdx() {
+        return dx;
+    }
+    
+    public int getdy() {
+        return dy;
+    }
+    
+    public boolean isDiagonal() {
+        return dx != 0 && dy != 0;
+    }
+    
+    public FlowDirection opposite() {
+        return VALUES[ordinal() ^ (isDiagonal() ? 3 : 2)];
+    }
+    
+    static FlowDirection valueOf(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,136 @@
+package io.github.coderodde.pathfinding.fields;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * This class holds a flow field towards a single target cell. The integration
+ * field maps each cell to the cost of the shortest path to the target, and the
+ * direction field maps each cell to the first move of such a path. An agent
+ * standing on a cell reads its next move in constant time.
+ *
+ * The flow fields are built and kept up to date by {@link FlowFieldBuilder}.
+ * The fields are held in buffers, so that a flow field loaded by 
+ * {@link FieldArtifacts} reads straight from the mapped artifact file instead
+ * of a copy on the heap; such a flow field is read-only.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class FlowField {
+    
+    static final byte NO_DIRECTION = -1;
+    
+    private final int width;
+    private final int height;
+    private final int targetX;
+    private final int targetY;
+    
+    /**
+     * The integration field.
+     */
+    final DoubleBuffer costs;
+    
+    /**
+     * The direction field. Holds the ordinals of {@link FlowDirection}, or 
+     * {@link #NO_DIRECTION} for the target, the walls and the cells from which
+     * the target is not reachable.
+     */
+    final ByteBuffer directions;
+    
+    FlowField(int width, int height, int targetX, int targetY) {
+        this(width, 
+             height, 
+             targetX, 
+             targetY, 
+             DoubleBuffer.wrap(filled(new double[width * height])), 
+             ByteBuffer.wrap(filled(new byte[width * height])));
+    }
+    
+    FlowField(int width, 
+              int height, 
+              int targetX, 
+              int targetY, 
+              DoubleBuffer costs, 
+              ByteBuffer directions) {
+        this.width = width;
+        this.height = height;
+        this.targetX = targetX;
+        this.targetY = targetY;
+        this.costs = costs;
+        this.directions = directions;
+    }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
+    
+    public int getTargetX() {
+        return targetX;
+    }
+    
+    public int getTargetY() {
+        return targetY;
+    }
+    
+    /**
+     * Returns the cost of the shortest path from the cell {@code (x, y)} to 
+     * the target, or {@link Double#POSITIVE_INFINITY} if there is no path.
+     * 
+     * @param x the {@code X}-coordinate of the cell.
+     * @param y the {@code Y}-coordinate of the cell.
+     * @return the cost to the target.
+     */
+    public double getCost(int x, int y) {
+        return costs.get(index(x, y));
+    }
+    
+    public boolean isReachable(int x, int y) {
+        return getCost(x, y) != Double.POSITIVE_INFINITY;
+    }
+    
+    /**
+     * Returns the next move from the cell {@code (x, y)} towards the target, 
+     * or {@code null} if the cell is the target or the target is not 
+     * reachable from it.
+     * 
+     * @param x the {@code X}-coordinate of the cell.
+     * @param y the {@code Y}-coordinate of the cell.
+     * @return the next move.
+     */
+    public FlowDirection getDirection(int x, int y) {
+        byte direction = directions.get(index(x, y));
+        
+        return direction == NO_DIRECTION ? 
+               null : 
+               FlowDirection.valueOf(direction);
+    }
+    
+    private static double[] filled(double[] costs) {
+        Arrays.fill(costs, Double.POSITIVE_INFINITY);
+        return costs;
+    }
+    
+    private static byte[] filled(byte[] directions) {
+        Arrays.fill(directions, NO_DIRECTION);
+        return directions;
+    }
+    
+    private int index(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            throw new IndexOutOfBoundsException(
+                    String.format(
+                            "(%d, %d), not a valid cell coordinates",
+                            x,
+                            y));
+        }
+        
+        return y * width + x;
+    }
+}
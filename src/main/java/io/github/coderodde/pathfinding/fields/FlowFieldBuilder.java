@@ -0,0 +1,517 @@
+package io.github.coderodde.pathfinding.fields;
+
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.WallChangeListener;
+import io.github.coderodde.pathfinding.utils.Cell;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * This class builds and caches the flow fields of a grid model. A flow field
+ * is computed by a single reverse Dijkstra's algorithm from the target cell
+ * and serves any number of agents heading to that target.
+ *
+ * The builder listens to the wall changes of the model from its creation by
+ * {@link #attach(GridModel, PathfindingSettings)} until {@link #detach()}.
+ * The changed cells are collected into a bit set, so that any number of
+ * changes to a cell take a single bit, and applied to every cached flow field
+ * incrementally on the next call to {@link #getFlowField(int, int)}: the
+ * cells whose direction chains
+ * went through a changed cell are invalidated, and the Dijkstra's algorithm
+ * is resumed from the cells around the invalidated region and the cells that
+ * became walkable.
+ *
+ * The move rules are taken from the pathfinding settings at construction
+ * time. This class is not thread-safe.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class FlowFieldBuilder implements WallChangeListener {
+
+    private static final int DEFAULT_CACHE_CAPACITY = 8;
+
+    private static final FlowDirection[] ALL_DIRECTIONS =
+            FlowDirection.values();
+
+    private static final FlowDirection[] ORTHOGONAL_DIRECTIONS = {
+        FlowDirection.WEST,
+        FlowDirection.NORTH,
+        FlowDirection.EAST,
+        FlowDirection.SOUTH,
+    };
+
+    private final GridModel model;
+    private final int width;
+    private final int height;
+    private final boolean dontCrossCorners;
+    private final double diagonalWeight;
+    private final FlowDirection[] directions;
+
+    /**
+     * Maps the target cell indices to their flow fields in access order.
+     */
+    private final Map<Integer, FlowField> cache;
+
+    /**
+     * The bit set of the cells whose wall state changed since the cached flow
+     * fields were last updated. The current state is read from the model.
+     */
+    private final long[] changedCells;
+
+    private boolean hasChangedCells;
+
+    /**
+     * Creates a flow field builder listening to the wall changes of 
+     * {@code model}.
+     *
+     * @param model               the grid model.
+     * @param pathfindingSettings the pathfinding settings.
+     * @return the flow field builder.
+     */
+    public static FlowFieldBuilder attach(
+            GridModel model,
+            PathfindingSettings pathfindingSettings) {
+        return attach(model, pathfindingSettings, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Creates a flow field builder caching at most {@code cacheCapacity} flow
+     * fields and listening to the wall changes of {@code model}.
+     *
+     * @param model               the grid model.
+     * @param pathfindingSettings the pathfinding settings.
+     * @param cacheCapacity       the maximum number of the cached fields.
+     * @return the flow field builder.
+     */
+    public static FlowFieldBuilder attach(
+            GridModel model,
+            PathfindingSettings pathfindingSettings,
+            int cacheCapacity) {
+
+        FlowFieldBuilder builder = new FlowFieldBuilder(model,
+                                                        pathfindingSettings,
+                                                        cacheCapacity);
+
+        // Registered only once fully constructed:
+        model.addWallChangeListener(builder);
+        return builder;
+    }
+
+    private FlowFieldBuilder(GridModel model,
+                             PathfindingSettings pathfindingSettings,
+                             int cacheCapacity) {
+
+        this.model = Objects.requireNonNull(model,
+                                            "The input grid model is null");
+
+        Objects.requireNonNull(pathfindingSettings,
+                               "The input pathfinding settings is null");
+
+        if (cacheCapacity < 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The cache capacity (%d) is less than 1",
+                            cacheCapacity));
+        }
+
+        this.width = model.getWidth();
+        this.height = model.getHeight();
+        this.dontCrossCorners = pathfindingSettings.dontCrossCorners();
+        this.diagonalWeight =
+                pathfindingSettings.getDiagonalWeight().getWeight();
+
+        this.directions = pathfindingSettings.allowDiagonals() ?
+                          ALL_DIRECTIONS :
+                          ORTHOGONAL_DIRECTIONS;
+
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Integer, FlowField> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+
+        this.changedCells = new long[(width * height + Long.SIZE - 1)
+                                     / Long.SIZE];
+    }
+
+    /**
+     * Returns the flow field towards the current target cell of the model.
+     *
+     * @return the flow field.
+     */
+    public FlowField getFlowField() {
+        Cell target = model.getTargetGridCell();
+        return getFlowField(target.getx(), target.gety());
+    }
+
+    /**
+     * Returns the flow field towards the cell {@code (targetX, targetY)}.
+     * Builds the field unless cached.
+     *
+     * @param targetX the {@code X}-coordinate of the target cell.
+     * @param targetY the {@code Y}-coordinate of the target cell.
+     * @return the flow field.
+     */
+    public FlowField getFlowField(int targetX, int targetY) {
+        if (!model.isWalkable(targetX, targetY)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The target cell (%d, %d) is not walkable",
+                            targetX,
+                            targetY));
+        }
+
+        applyPendingWallChanges();
+
+        int targetIndex = targetY * width + targetX;
+        FlowField flowField = cache.get(targetIndex);
+
+        if (flowField == null) {
+            flowField = build(targetX, targetY);
+            cache.put(targetIndex, flowField);
+        }
+
+        return flowField;
+    }
+
+    /**
+     * Stops listening to the wall changes of the model and drops the cached
+     * flow fields.
+     */
+    public void detach() {
+        model.removeWallChangeListener(this);
+        clearChangedCells();
+        cache.clear();
+    }
+
+    @Override
+    public void onWallChanged(int x, int y, boolean wall) {
+        if (!cache.isEmpty()) {
+            int index = y * width + x;
+            changedCells[index / Long.SIZE] |= 1L << index;
+            hasChangedCells = true;
+        }
+    }
+
+    private FlowField build(int targetX, int targetY) {
+        FlowField flowField = new FlowField(width, height, targetX, targetY);
+        int targetIndex = targetY * width + targetX;
+        Queue<HeapEntry> heap = new PriorityQueue<>();
+
+        flowField.costs.put(targetIndex, 0.0);
+        heap.add(new HeapEntry(targetIndex, 0.0));
+        propagate(flowField, heap);
+        return flowField;
+    }
+
+    private void applyPendingWallChanges() {
+        if (!hasChangedCells) {
+            return;
+        }
+
+        Iterator<FlowField> iterator = cache.values().iterator();
+
+        while (iterator.hasNext()) {
+            FlowField flowField = iterator.next();
+
+            if (!model.isWalkable(flowField.getTargetX(),
+                                  flowField.getTargetY())) {
+                iterator.remove();
+                continue;
+            }
+
+            update(flowField);
+        }
+
+        clearChangedCells();
+    }
+
+    private void clearChangedCells() {
+        Arrays.fill(changedCells, 0L);
+        hasChangedCells = false;
+    }
+
+    /**
+     * Returns the index of the first changed cell at or after
+     * {@code fromIndex}, or -1 if there is none.
+     */
+    private int nextChangedCell(int fromIndex) {
+        int wordIndex = fromIndex / Long.SIZE;
+
+        if (wordIndex >= changedCells.length) {
+            return -1;
+        }
+
+        long word = changedCells[wordIndex] & (-1L << fromIndex);
+
+        while (word == 0L) {
+            if (++wordIndex == changedCells.length) {
+                return -1;
+            }
+
+            word = changedCells[wordIndex];
+        }
+
+        return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * Brings the flow field up to date with the pending wall changes.
+     */
+    private void update(FlowField flowField) {
+        // Step 1: invalidate the cells whose direction chains use a move that
+        // is no longer possible:
+        Deque<Integer> stack = new ArrayDeque<>();
+        List<Integer> invalidated = new ArrayList<>();
+
+        for (int index = nextChangedCell(0);
+                 index != -1;
+                 index = nextChangedCell(index + 1)) {
+
+            int changeX = index % width;
+            int changeY = index / width;
+
+            addIfInvalid(flowField, changeX, changeY, stack);
+
+            for (FlowDirection direction : ALL_DIRECTIONS) {
+                int x = changeX + direction.getdx();
+                int y = changeY + direction.getdy();
+
+                if (isInside(x, y)) {
+                    addIfInvalid(flowField, x, y, stack);
+                }
+            }
+        }
+
+        while (!stack.isEmpty()) {
+            int index = stack.pop();
+            invalidated.add(index);
+
+            int x = index % width;
+            int y = index / width;
+
+            // Invalidate the cells whose next move leads to this cell:
+            for (FlowDirection direction : directions) {
+                int childX = x - direction.getdx();
+                int childY = y - direction.getdy();
+
+                if (!isInside(childX, childY)) {
+                    continue;
+                }
+
+                int childIndex = childY * width + childX;
+
+                if (flowField.directions.get(childIndex) ==
+                        direction.ordinal()) {
+                    invalidate(flowField, childIndex);
+                    stack.push(childIndex);
+                }
+            }
+        }
+
+        // Step 2: seed the heap with all the cells that may be inconsistent,
+        // that is, may get a lower cost from one of their neighbours:
+        Queue<HeapEntry> heap = new PriorityQueue<>();
+
+        for (int index : invalidated) {
+            seed(flowField, index % width, index / width, heap);
+        }
+
+        for (int index = nextChangedCell(0);
+                 index != -1;
+                 index = nextChangedCell(index + 1)) {
+
+            int changeX = index % width;
+            int changeY = index / width;
+
+            if (!isWalkable(changeX, changeY)) {
+                continue;
+            }
+
+            // The cell and the diagonal moves around it may have become
+            // possible:
+            seed(flowField, changeX, changeY, heap);
+
+            for (FlowDirection direction : ALL_DIRECTIONS) {
+                seed(flowField,
+                     changeX + direction.getdx(),
+                     changeY + direction.getdy(),
+                     heap);
+            }
+        }
+
+        // Step 3: resume the Dijkstra's algorithm:
+        propagate(flowField, heap);
+    }
+
+    /**
+     * Invalidates the cell {@code (x, y)} and pushes it to {@code stack} if
+     * the cell is a wall or its next move is no longer possible.
+     */
+    private void addIfInvalid(FlowField flowField,
+                              int x,
+                              int y,
+                              Deque<Integer> stack) {
+
+        int index = y * width + x;
+
+        if (flowField.costs.get(index) == Double.POSITIVE_INFINITY) {
+            // Already invalid, or not reachable in the first place:
+            return;
+        }
+
+        byte direction = flowField.directions.get(index);
+        boolean valid;
+
+        if (!isWalkable(x, y)) {
+            valid = false;
+        } else if (direction == FlowField.NO_DIRECTION) {
+            // The target:
+            valid = true;
+        } else {
+            valid = canMove(x, y, FlowDirection.valueOf(direction));
+        }
+
+        if (!valid) {
+            invalidate(flowField, index);
+            stack.push(index);
+        }
+    }
+
+    private static void invalidate(FlowField flowField, int index) {
+        flowField.costs.put(index, Double.POSITIVE_INFINITY);
+        flowField.directions.put(index, FlowField.NO_DIRECTION);
+    }
+
+    /**
+     * Lowers the cost of the cell {@code (x, y)} to the best cost over its
+     * neighbours, and pushes it to the heap if lowered.
+     */
+    private void seed(FlowField flowField,
+                      int x,
+                      int y,
+                      Queue<HeapEntry> heap) {
+
+        if (!isWalkable(x, y)) {
+            return;
+        }
+
+        int index = y * width + x;
+
+        for (FlowDirection direction : directions) {
+            if (!canMove(x, y, direction)) {
+                continue;
+            }
+
+            int neighbourIndex = (y + direction.getdy()) * width
+                               + (x + direction.getdx());
+
+            double cost = flowField.costs.get(neighbourIndex)
+                        + weight(direction);
+
+            if (flowField.costs.get(index) > cost) {
+                flowField.costs.put(index, cost);
+                flowField.directions.put(index, (byte) direction.ordinal());
+            }
+        }
+
+        if (flowField.costs.get(index) != Double.POSITIVE_INFINITY) {
+            heap.add(new HeapEntry(index, flowField.costs.get(index)));
+        }
+    }
+
+    /**
+     * Runs the reverse Dijkstra's algorithm until the heap is empty.
+     */
+    private void propagate(FlowField flowField, Queue<HeapEntry> heap) {
+        while (!heap.isEmpty()) {
+            HeapEntry entry = heap.remove();
+            int index = entry.index();
+
+            if (entry.cost() > flowField.costs.get(index)) {
+                // Stale entry:
+                continue;
+            }
+
+            int x = index % width;
+            int y = index / width;
+
+            for (FlowDirection direction : directions) {
+                // The neighbour moves to this cell in 'direction':
+                int neighbourX = x - direction.getdx();
+                int neighbourY = y - direction.getdy();
+
+                if (!isInside(neighbourX, neighbourY) ||
+                    !canMove(neighbourX, neighbourY, direction)) {
+                    continue;
+                }
+
+                int neighbourIndex = neighbourY * width + neighbourX;
+                double cost = entry.cost() + weight(direction);
+
+                if (flowField.costs.get(neighbourIndex) > cost) {
+                    flowField.costs.put(neighbourIndex, cost);
+                    flowField.directions.put(neighbourIndex,
+                                             (byte) direction.ordinal());
+
+                    heap.add(new HeapEntry(neighbourIndex, cost));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if an agent may move from the cell {@code (x, y)}
+     * in the direction {@code direction}. Follows the rules of
+     * {@link io.github.coderodde.pathfinding.logic.GridNodeExpander}.
+     */
+    private boolean canMove(int x, int y, FlowDirection direction) {
+        int nextX = x + direction.getdx();
+        int nextY = y + direction.getdy();
+
+        if (!isWalkable(x, y) || !isWalkable(nextX, nextY)) {
+            return false;
+        }
+
+        if (direction.isDiagonal() && dontCrossCorners) {
+            return isWalkable(nextX, y) && isWalkable(x, nextY);
+        }
+
+        return true;
+    }
+
+    private double weight(FlowDirection direction) {
+        return direction.isDiagonal() ? diagonalWeight : 1.0;
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private boolean isWalkable(int x, int y) {
+        return model.isWalkable(x, y);
+    }
+
+    private record HeapEntry(int index, double cost)
+            implements Comparable<HeapEntry> {
+
+        @Override
+        public int compareTo(HeapEntry other) {
+            return Double.compare(cost, other.cost);
+        }
+    }
+}
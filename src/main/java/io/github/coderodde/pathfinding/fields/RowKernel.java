@@ -0,0 +1,38 @@
+package io.github.coderodde.pathfinding.fields;
+
+/**
+ * Relaxes the distances of a row from the distances of an adjacent row. All
+ * the arrays share the padded row-major layout of {@link DistanceField}; the
+ * cost arrays hold the cost of entering each cell from the respective
+ * direction, {@link Float#POSITIVE_INFINITY} if the move is not allowed.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+interface RowKernel {
+
+    /**
+     * Relaxes the row starting at {@code rowOffset} over the row starting at
+     * {@code adjacentRowOffset}:
+     * {@code d[x] = min(d[x], a[x] + straight[x], a[x - 1] + fromLeft[x],
+     * a[x + 1] + fromRight[x])}.
+     *
+     * @param distances         the distance array.
+     * @param rowOffset         the index of the first cell of the row.
+     * @param adjacentRowOffset the index of the first cell of the adjacent
+     *                          row.
+     * @param width             the number of cells in a row.
+     * @param straight          the costs of the vertical moves.
+     * @param fromLeft          the costs of the diagonal moves from the left.
+     * @param fromRight         the costs of the diagonal moves from the right.
+     * @return {@code true} if any distance decreased.
+     */
+    boolean relaxRow(float[] distances,
+                     int rowOffset,
+                     int adjacentRowOffset,
+                     int width,
+                     float[] straight,
+                     float[] fromLeft,
+                     float[] fromRight);
+}
@@ -0,0 +1,62 @@
+package io.github.coderodde.pathfinding.fields;
+
+/**
+ * The plain Java row kernel. Used whenever the {@code jdk.incubator.vector}
+ * module is not present.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class ScalarRowKernel implements RowKernel {
+
+    @Override
+    public boolean relaxRow(float[] distances,
+                            int rowOffset,
+                            int adjacentRowOffset,
+                            int width,
+                            float[] straight,
+                            float[] fromLeft,
+                            float[] fromRight) {
+
+        return relaxRange(distances,
+                          rowOffset,
+                          adjacentRowOffset,
+                          0,
+                          width,
+                          straight,
+                          fromLeft,
+                          fromRight);
+    }
+
+    /**
+     * Relaxes the cells {@code from, ..., to - 1} of the row. Also used for
+     * the tails of the vectorized rows.
+     */
+    static boolean relaxRange(float[] distances,
+                              int rowOffset,
+                              int adjacentRowOffset,
+                              int from,
+                              int to,
+                              float[] straight,
+                              float[] fromLeft,
+                              float[] fromRight) {
+        boolean changed = false;
+
+        for (int x = from; x < to; ++x) {
+            int i = rowOffset + x;
+            int a = adjacentRowOffset + x;
+
+            float d = Math.min(distances[a] + straight[i],
+                      Math.min(distances[a - 1] + fromLeft[i],
+                               distances[a + 1] + fromRight[i]));
+
+            if (d < distances[i]) {
+                distances[i] = d;
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.coderodde.pathfinding.fields;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The row kernel over the Vector API. Relaxes
+ * {@code SPECIES.length()} cells per iteration. Loaded reflectively by
+ * {@link DistanceFieldBuilder} only if the {@code jdk.incubator.vector}
+ * module is present.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class VectorRowKernel implements RowKernel {
+
+    private static final VectorSpecies<Float> SPECIES =
+            FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public boolean relaxRow(float[] distances,
+                            int rowOffset,
+                            int adjacentRowOffset,
+                            int width,
+                            float[] straight,
+                            float[] fromLeft,
+                            float[] fromRight) {
+
+        boolean changed = false;
+        int bound = SPECIES.loopBound(width);
+        int x = 0;
+
+        for (; x < bound; x += SPECIES.length()) {
+            int i = rowOffset + x;
+            int a = adjacentRowOffset + x;
+
+            FloatVector current = FloatVector.fromArray(SPECIES, distances, i);
+
+            FloatVector viaStraight =
+                    FloatVector.fromArray(SPECIES, distances, a)
+                               .add(FloatVector.fromArray(SPECIES,
+                                                          straight,
+                                                          i));
+
+            FloatVector viaLeft =
+                    FloatVector.fromArray(SPECIES, distances, a - 1)
+                               .add(FloatVector.fromArray(SPECIES,
+                                                          fromLeft,
+                                                          i));
+
+            FloatVector viaRight =
+                    FloatVector.fromArray(SPECIES, distances, a + 1)
+                               .add(FloatVector.fromArray(SPECIES,
+                                                          fromRight,
+                                                          i));
+
+            FloatVector relaxed =
+                    viaStraight.min(viaLeft).min(viaRight).min(current);
+
+            if (relaxed.compare(VectorOperators.LT, current).anyTrue()) {
+                relaxed.intoArray(distances, i);
+                changed = true;
+            }
+        }
+
+        return ScalarRowKernel.relaxRange(distances,
+                                          rowOffset,
+                                          adjacentRowOffset,
+                                          x,
+                                          width,
+                                          straight,
+                                          fromLeft,
+                                          fromRight) | changed;
+    }
+}
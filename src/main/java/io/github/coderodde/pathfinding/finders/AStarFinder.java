@@ -4,9 +4,11 @@ import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
 import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
 import java.util.HashMap;
@@ -23,14 +25,14 @@ import java.util.Set;
 * @version 1.0.0 (Sep 7, 2025)
 * @since 1.0.0 (Sep 7, 2025)
 */
-public final class AStarFinder implements Finder {
+public final class AStarFinder implements Finder, SnapshotFinder {
 
     @Override
     public List<Cell> findPath(GridModel model, 
                                GridCellNeighbourIterable neighbourIterable,
                                PathfindingSettings pathfindingSettings, 
                                SearchState searchState,
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
 
         Queue<HeapNode> open        = new PriorityQueue<>();
         Set<Cell> closed            = new HashSet<>();
@@ -43,22 +45,17 @@ public final class AStarFinder implements Finder {
         HeuristicFunction h = pathfindingSettings.getHeuristicFunction();
 
         open.add(new HeapNode(source, 0.0));
-        searchStatistics.incrementOpened();
+        searchMetrics.incrementOpened();
         parents.put(source, null);
         distances.put(source, 0.0);
 
         while (!open.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
 
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-
             Cell current = open.remove().cell;
-            searchStatistics.decrementOpened();
+            searchMetrics.decrementOpened();
             
             if (current.equals(target)) {
                 return tracebackPath(target, parents);
@@ -69,23 +66,14 @@ public final class AStarFinder implements Finder {
                 model.setCellType(current, CellType.VISITED);
             }
 
-            searchStatistics.incrementVisited();
+            searchMetrics.incrementVisited();
             closed.add(current);
             neighbourIterable.setStartingCell(current);
 
             for (Cell child : neighbourIterable) {
-                if (searchState.haltRequested()) {
+                if (searchState.checkpoint()) {
                     return List.of();
                 }
-
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
-                    
-                    if (searchState.haltRequested()) {
-                        // Requested halt while in pause:
-                        return List.of();
-                    }
-                }
                 
                 if (closed.contains(child)) {
                     continue;
@@ -110,7 +98,7 @@ public final class AStarFinder implements Finder {
                                     tentativeDistance + h.estimate(child, 
                                                                    target)));
                     
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                     searchSleep(pathfindingSettings);
                 }
             }
@@ -118,5 +106,19 @@ public final class AStarFinder implements Finder {
      
         return List.of();
     }
+
+    @Override
+    public int[] findPath(GridSnapshot snapshot,
+                          int source,
+                          int target,
+                          QueryOptions queryOptions,
+                          SearchWorkspace workspace) {
+        return SnapshotSearch.aStar(snapshot,
+                                    source,
+                                    target,
+                                    queryOptions,
+                                    true,
+                                    workspace);
+    }
 }
 
@@ -3,9 +3,11 @@ package io.github.coderodde.pathfinding.finders;
 import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
 import java.util.ArrayDeque;
@@ -20,14 +22,14 @@ import java.util.Map;
  * @version 1.0.0 (Aug 27, 2025)
  * @since 1.0.0 (Aug 27, 2025)
  */
-public final class BFSFinder implements Finder {
+public final class BFSFinder implements Finder, SnapshotFinder {
 
     @Override
     public List<Cell> findPath(GridModel model,
                                GridCellNeighbourIterable neighbourIterable,
                                PathfindingSettings pathfindingSettings,
                                SearchState searchState,
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         
         Map<Cell, Cell> parents = new HashMap<>();
@@ -38,22 +40,17 @@ public final class BFSFinder implements Finder {
         
         parents.put(source, null);
         queue.addLast(source);
-        searchStatistics.incrementOpened();
+        searchMetrics.incrementOpened();
         
         while (!queue.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             Cell current = queue.removeFirst();
             
-            searchStatistics.incrementVisited();
-            searchStatistics.decrementOpened();
+            searchMetrics.incrementVisited();
+            searchMetrics.decrementOpened();
             
             if (!current.equals(source)) {
                 model.setCellType(current, CellType.VISITED);
@@ -66,19 +63,10 @@ public final class BFSFinder implements Finder {
             neighbourIterable.setStartingCell(current);
             
             for (Cell neighbour : neighbourIterable) {
-                if (searchState.haltRequested()) {
+                if (searchState.checkpoint()) {
                     return List.of();
                 }
                 
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
-                    
-                    if (searchState.haltRequested()) {
-                        // Requested halt while on pause:
-                        return List.of();
-                    }
-                }
-                
                 searchSleep(pathfindingSettings);
                 
                 if (parents.containsKey(neighbour)) {
@@ -91,10 +79,23 @@ public final class BFSFinder implements Finder {
                     
                 parents.put(neighbour, current);
                 queue.addLast(neighbour);
-                searchStatistics.incrementOpened();
+                searchMetrics.incrementOpened();
             }
         }
         
         return List.of();
     }
+
+    @Override
+    public int[] findPath(GridSnapshot snapshot,
+                          int source,
+                          int target,
+                          QueryOptions queryOptions,
+                          SearchWorkspace workspace) {
+        return SnapshotSearch.breadthFirstSearch(snapshot,
+                                                 source,
+                                                 target,
+                                                 queryOptions,
+                                                 workspace);
+    }
 }
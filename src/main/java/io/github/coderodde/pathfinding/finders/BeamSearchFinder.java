@@ -5,7 +5,7 @@ import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -29,7 +29,7 @@ public final class BeamSearchFinder implements Finder {
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings pathfindingSettings, 
                                SearchState searchState,
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         Map<Cell, Cell> parents = new HashMap<>();
         Deque<Cell> queue = new ArrayDeque<>();
@@ -39,43 +39,39 @@ public final class BeamSearchFinder implements Finder {
         
         parents.put(source, null);
         queue.addLast(source);
-        searchStatistics.incrementOpened();
+        searchMetrics.incrementOpened();
         
         while (!queue.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             if (queue.size() > pathfindingSettings.getBeamWidth()) {
                 List<Cell> layer = new ArrayList<>(queue);
                 
                 HeuristicFunction H = 
                         pathfindingSettings.getHeuristicFunction();
                 
-                layer.sort((a, b) -> {
-                    return Double.compare(H.estimate(a, target),
-                                          H.estimate(b, target));
-                });
+                // The best cells in order, so that the best one is expanded
+                // first:
+                QuickSelect.selectSorted(layer,
+                                         pathfindingSettings.getBeamWidth(),
+                                         cell -> H.estimate(cell, target));
                 
-                searchStatistics.addToOpened(-layer.size());
+                searchMetrics.addToOpened(-layer.size());
                 
                 queue.clear();
                 queue.addAll(
                         layer.subList(0,
                                       pathfindingSettings.getBeamWidth()));
 
-                searchStatistics.addToOpened(queue.size());
+                searchMetrics.addToOpened(queue.size());
             }
             
             Cell current = queue.removeFirst();
             
-            searchStatistics.incrementVisited();
-            searchStatistics.decrementOpened();
+            searchMetrics.incrementVisited();
+            searchMetrics.decrementOpened();
             
             if (current.equals(target)) {
                 return tracebackPath(target, parents);
@@ -88,19 +84,10 @@ public final class BeamSearchFinder implements Finder {
             neighbourIterable.setStartingCell(current);
             
             for (Cell neighbour : neighbourIterable) {
-                if (searchState.haltRequested()) {
+                if (searchState.checkpoint()) {
                     return List.of();
                 }
                 
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
-                    
-                    if (searchState.haltRequested()) {
-                        // Requested halt while on pause:
-                        return List.of();
-                    }
-                }
-                
                 searchSleep(pathfindingSettings);
                 
                 if (parents.containsKey(neighbour)) {
@@ -111,7 +98,7 @@ public final class BeamSearchFinder implements Finder {
                     model.setCellType(neighbour, CellType.OPENED);
                 }
                     
-                searchStatistics.incrementOpened();
+                searchMetrics.incrementOpened();
                 parents.put(neighbour, current);
                 queue.addLast(neighbour);
             }
@@ -0,0 +1,563 @@
+package io.github.coderodde.pathfinding.finders;
+
+import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.SearchState;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.utils.Cell;
+import io.github.coderodde.pathfinding.utils.CellType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class implements the beam-stack search by Zhou and Hansen. Like the
+ * beam search, it keeps at most {@code beamWidth} cells per layer. Unlike the
+ * beam search, it remembers on the beam stack which range of {@code f}-values
+ * was admitted to each layer, and backtracks in order to admit the pruned
+ * cells later. The search is thus complete, and with an admissible heuristic
+ * function returns an optimal path.
+ *
+ * Since two cells may have the same {@code f}-value, the ranges are over the
+ * pairs {@code (f, cell index)} ordered lexicographically.
+ *
+ * Besides the beam stack, a run keeps only the layer being generated, the
+ * current layer and a few layers before it for the duplicate detection,
+ * each of at most {@code beamWidth} cells. Instead of the parents of all the
+ * layers, the finder remembers the beam stack of the run that found the best
+ * path, and rebuilds the path backwards by re-running that run to each layer
+ * of the path in turn. The initial upper bound comes from a breadth-first 
+ * probe keeping a single bit per cell besides its frontier.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class BeamStackSearchFinder implements Finder {
+
+    /**
+     * The relative slack added to the initial upper bound, covering the 
+     * rounding of the sums of the diagonal weights. The probe path giving 
+     * the initial upper bound is not kept, so the search must still admit a
+     * path of exactly that cost.
+     */
+    private static final double BOUND_SLACK = 1e-9;
+
+    /**
+     * The number of the layers before the current one checked for the 
+     * duplicates. With a single layer, as in the breadth-first heuristic 
+     * search, the narrow beams run around short cycles for long.
+     */
+    private static final int DUPLICATE_DETECTION_LAYERS = 8;
+
+    @Override
+    public List<Cell> findPath(GridModel model,
+                               GridCellNeighbourIterable neighbourIterable,
+                               PathfindingSettings pathfindingSettings,
+                               SearchState searchState,
+                               SearchMetrics searchMetrics) {
+
+        Search search = new Search(model,
+                                   neighbourIterable,
+                                   pathfindingSettings,
+                                   searchState,
+                                   searchMetrics);
+
+        if (search.source.equals(search.target)) {
+            return List.of(search.target);
+        }
+
+        if (!search.computeInitialUpperBound()) {
+            // The target is not reachable, or halt was requested:
+            return List.of();
+        }
+
+        List<BeamStackEntry> beamStack = new ArrayList<>();
+        beamStack.add(new BeamStackEntry(search.getUpperBound()));
+
+        while (true) {
+            if (!search.run(beamStack)) {
+                // Halt requested:
+                return List.of();
+            }
+
+            double upperBound = search.getUpperBound();
+
+            // Pop all the layers whose all admissible cells were considered:
+            while (!beamStack.isEmpty() &&
+                    beamStack.getLast().fmax >= upperBound) {
+                beamStack.removeLast();
+            }
+
+            if (beamStack.isEmpty()) {
+                return search.rebuildBestPath();
+            }
+
+            // Shift the admitted range of the deepest layer that still has
+            // pruned cells:
+            BeamStackEntry entry = beamStack.getLast();
+            entry.fmin     = entry.fmax;
+            entry.indexMin = entry.indexMax;
+            entry.fmax     = upperBound;
+            entry.indexMax = Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Describes the range of {@code (f, cell index)} pairs admitted to a
+     * layer. The lower bound is inclusive, the upper bound exclusive.
+     */
+    private static final class BeamStackEntry {
+        double fmin     = 0.0;
+        int    indexMin = Integer.MIN_VALUE;
+        double fmax;
+        int    indexMax = Integer.MIN_VALUE;
+
+        BeamStackEntry(double fmax) {
+            this.fmax = fmax;
+        }
+
+        BeamStackEntry(BeamStackEntry entry) {
+            this.fmin     = entry.fmin;
+            this.indexMin = entry.indexMin;
+            this.fmax     = entry.fmax;
+            this.indexMax = entry.indexMax;
+        }
+
+        boolean admits(double f, int index) {
+            return compareKeys(f, index, fmin, indexMin) >= 0 &&
+                   compareKeys(f, index, fmax, indexMax) < 0;
+        }
+    }
+
+    private static int compareKeys(double f1, int index1,
+                                   double f2, int index2) {
+        int cmp = Double.compare(f1, f2);
+        return cmp != 0 ? cmp : Integer.compare(index1, index2);
+    }
+
+    /**
+     * Runs the layered searches, one per call to {@link #run(java.util.List)},
+     * and remembers how to rebuild the best path found so far.
+     */
+    private final class Search {
+
+        private final GridModel model;
+        private final GridCellNeighbourIterable iterable;
+        private final PathfindingSettings pathfindingSettings;
+        private final SearchState searchState;
+        private final SearchMetrics searchMetrics;
+        private final HeuristicFunction h;
+        private final Cell source;
+        private final Cell target;
+        private final int beamWidth;
+
+        private double upperBound = Double.POSITIVE_INFINITY;
+
+        /**
+         * The upper bounds the layers of the current run were generated 
+         * under, the layer {@code l} being the entry {@code l}. Since the
+         * upper bound may drop while a layer is generated, the cells of the
+         * layer at or above the bound it ends with are dropped, so that the
+         * layer depends on that bound only.
+         */
+        private final List<Double> layerBounds = new ArrayList<>();
+
+        /**
+         * The admitted ranges of the layers of the run that found the best
+         * path, up to the layer of the last cell before the target, or 
+         * {@code null} if no path is found yet.
+         */
+        private List<BeamStackEntry> bestRanges;
+
+        /**
+         * The upper bounds of the same layers.
+         */
+        private double[] bestBounds;
+
+        /**
+         * The last cell of the best path before the target.
+         */
+        private Cell bestParent;
+
+        /**
+         * The f-values of the cells of the layer being generated, for 
+         * pruning it. Cleared per layer of a run.
+         */
+        private final Map<Cell, Double> fValues = new HashMap<>();
+
+        private final Comparator<Cell> keyComparator = (a, b) -> {
+            return compareKeys(fValues.get(a), index(a),
+                               fValues.get(b), index(b));
+        };
+
+        Search(GridModel model,
+               GridCellNeighbourIterable iterable,
+               PathfindingSettings pathfindingSettings,
+               SearchState searchState,
+               SearchMetrics searchMetrics) {
+
+            this.model = model;
+            this.iterable = iterable;
+            this.pathfindingSettings = pathfindingSettings;
+            this.searchState = searchState;
+            this.searchMetrics = searchMetrics;
+            this.h = pathfindingSettings.getHeuristicFunction();
+            this.source = model.getSourceGridCell();
+            this.target = model.getTargetGridCell();
+            this.beamWidth = pathfindingSettings.getBeamWidth();
+        }
+
+        double getUpperBound() {
+            return upperBound;
+        }
+
+        /**
+         * Computes the initial upper bound as the cost of a breadth-first
+         * search path. Without an upper bound, the backtracking degenerates
+         * into an exhaustive search over the layer choices. The 
+         * breadth-first probe keeps only a bit per cell and the distances of
+         * the frontier, and is not visualized.
+         *
+         * @return {@code false} if the target is not reachable, or if halt
+         *         was requested.
+         */
+        boolean computeInitialUpperBound() {
+            BitSet reached = new BitSet(model.getWidth() * model.getHeight());
+            Map<Cell, Double> frontier = new HashMap<>();
+            reached.set(index(source));
+            frontier.put(source, 0.0);
+
+            while (!frontier.isEmpty()) {
+                Map<Cell, Double> nextFrontier = new HashMap<>();
+
+                for (Map.Entry<Cell, Double> e : frontier.entrySet()) {
+                    if (searchState.checkpoint()) {
+                        return false;
+                    }
+
+                    Cell current = e.getKey();
+                    iterable.setStartingCell(current);
+
+                    for (Cell child : iterable) {
+                        double distance = 
+                                e.getValue() +
+                                pathfindingSettings.getWeight(current, child);
+
+                        if (child.equals(target)) {
+                            upperBound = distance * (1.0 + BOUND_SLACK);
+                            return true;
+                        }
+
+                        if (!reached.get(index(child))) {
+                            reached.set(index(child));
+                            nextFrontier.put(child, distance);
+                        }
+                    }
+                }
+
+                frontier = nextFrontier;
+            }
+
+            return false;
+        }
+
+        /**
+         * Runs a single layered search from the source cell. The layer
+         * {@code l} admits only the cells within the range
+         * {@code beamStack.get(l)}. If a layer has more than
+         * {@code beamWidth} cells, the worst cells are pruned and the upper
+         * bound of the range is lowered to the best pruned key.
+         *
+         * @param beamStack the beam stack.
+         * @return {@code false} if halt was requested, {@code true} otherwise.
+         */
+        boolean run(List<BeamStackEntry> beamStack) {
+            Deque<Map<Cell, Double>> previousLayers = new ArrayDeque<>();
+            Map<Cell, Double> layer = new HashMap<>();
+            layer.put(source, 0.0);
+            layerBounds.clear();
+            layerBounds.add(upperBound);
+            searchMetrics.incrementOpened();
+
+            for (int l = 0; !layer.isEmpty(); ++l) {
+                if (beamStack.size() == l + 1) {
+                    beamStack.add(new BeamStackEntry(upperBound));
+                }
+
+                BeamStackEntry range = beamStack.get(l + 1);
+                Map<Cell, Double> nextLayer = new HashMap<>();
+                fValues.clear();
+
+                for (Map.Entry<Cell, Double> e : layer.entrySet()) {
+                    Cell current = e.getKey();
+                    double currentDistance = e.getValue();
+                    searchMetrics.decrementOpened();
+                    searchMetrics.incrementVisited();
+
+                    if (!current.equals(source)) {
+                        model.setCellType(current, CellType.VISITED);
+                    }
+
+                    iterable.setStartingCell(current);
+
+                    for (Cell child : iterable) {
+                        if (searchState.checkpoint()) {
+                            return false;
+                        }
+
+                        double tentativeDistance =
+                                currentDistance +
+                                pathfindingSettings.getWeight(current, child);
+
+                        if (child.equals(target)) {
+                            if (upperBound > tentativeDistance) {
+                                upperBound = tentativeDistance;
+                                rememberBestPath(beamStack, l, current);
+                            }
+
+                            continue;
+                        }
+
+                        boolean isNew = !nextLayer.containsKey(child);
+
+                        if (!generate(child,
+                                      tentativeDistance,
+                                      previousLayers,
+                                      layer,
+                                      nextLayer,
+                                      range,
+                                      upperBound)) {
+                            continue;
+                        }
+
+                        if (isNew) {
+                            searchMetrics.incrementOpened();
+                        }
+
+                        searchSleep(pathfindingSettings);
+                    }
+                }
+
+                dropBeyondUpperBound(nextLayer);
+                layerBounds.add(upperBound);
+
+                if (nextLayer.size() > beamWidth) {
+                    pruneLayer(nextLayer, range);
+                }
+
+                for (Cell cell : nextLayer.keySet()) {
+                    model.setCellType(cell, CellType.OPENED);
+                }
+
+                previousLayers.addFirst(layer);
+
+                if (previousLayers.size() > DUPLICATE_DETECTION_LAYERS) {
+                    previousLayers.removeLast();
+                }
+
+                layer = nextLayer;
+            }
+
+            return true;
+        }
+
+        /**
+         * Rebuilds the best path by re-running the run that found it, once 
+         * per layer of the path, from the last layer towards the source.
+         *
+         * @return the best path, or an empty list if there is no path or if
+         *         halt was requested.
+         */
+        List<Cell> rebuildBestPath() {
+            if (bestRanges == null) {
+                return List.of();
+            }
+
+            List<Cell> path = new ArrayList<>();
+            path.add(target);
+            Cell cell = bestParent;
+
+            for (int l = bestRanges.size() - 1; l > 0; --l) {
+                path.add(cell);
+                Map<Cell, Cell> parents = rerun(l);
+
+                if (parents == null) {
+                    // Halt requested:
+                    return List.of();
+                }
+
+                cell = parents.get(cell);
+            }
+
+            path.add(source);
+            return path.reversed();
+        }
+
+        /**
+         * Generates {@code child} with the distance {@code distance} into
+         * {@code nextLayer} unless it is a duplicate of a cell in the
+         * previous or in the current layer, is already in the next layer via
+         * a path not longer, or is out of {@code range} or not below 
+         * {@code bound}.
+         *
+         * @return {@code true} if {@code child} was generated.
+         */
+        private boolean generate(Cell child,
+                                 double distance,
+                                 Deque<Map<Cell, Double>> previousLayers,
+                                 Map<Cell, Double> layer,
+                                 Map<Cell, Double> nextLayer,
+                                 BeamStackEntry range,
+                                 double bound) {
+
+            if (layer.containsKey(child)) {
+                return false;
+            }
+
+            for (Map<Cell, Double> previousLayer : previousLayers) {
+                if (previousLayer.containsKey(child)) {
+                    return false;
+                }
+            }
+
+            Double childDistance = nextLayer.get(child);
+
+            if (childDistance != null && childDistance <= distance) {
+                return false;
+            }
+
+            double f = distance + h.estimate(child, target);
+
+            if (f >= bound || !range.admits(f, index(child))) {
+                return false;
+            }
+
+            nextLayer.put(child, distance);
+            fValues.put(child, f);
+            return true;
+        }
+
+        private void dropBeyondUpperBound(Map<Cell, Double> layer) {
+            Iterator<Map.Entry<Cell, Double>> iterator = 
+                    layer.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                if (fValues.get(iterator.next().getKey()) >= upperBound) {
+                    iterator.remove();
+                    searchMetrics.decrementOpened();
+                }
+            }
+        }
+
+        private void rememberBestPath(List<BeamStackEntry> beamStack,
+                                      int layerIndex,
+                                      Cell parent) {
+            // The ranges of the layers up to layerIndex are final by now:
+            bestRanges = new ArrayList<>(layerIndex + 1);
+            bestBounds = new double[layerIndex + 1];
+
+            for (int l = 0; l <= layerIndex; ++l) {
+                bestRanges.add(new BeamStackEntry(beamStack.get(l)));
+                bestBounds[l] = layerBounds.get(l);
+            }
+
+            bestParent = parent;
+        }
+
+        /**
+         * Re-runs the run that found the best path up to the layer 
+         * {@code depth}, neither visualizing nor counting it. Each layer of
+         * the re-run has at most {@code beamWidth} cells, since its range
+         * and its bound admit exactly the cells the run kept.
+         *
+         * @param depth the index of the last layer to generate.
+         * @return the parents of the cells of the layer {@code depth} in the
+         *         layer before, or {@code null} if halt was requested.
+         */
+        private Map<Cell, Cell> rerun(int depth) {
+            Deque<Map<Cell, Double>> previousLayers = new ArrayDeque<>();
+            Map<Cell, Double> layer = new HashMap<>();
+            Map<Cell, Cell> parents = new HashMap<>();
+            layer.put(source, 0.0);
+
+            for (int l = 0; l < depth; ++l) {
+                BeamStackEntry range = bestRanges.get(l + 1);
+                double bound = bestBounds[l + 1];
+                Map<Cell, Double> nextLayer = new HashMap<>();
+                parents.clear();
+
+                for (Map.Entry<Cell, Double> e : layer.entrySet()) {
+                    Cell current = e.getKey();
+                    iterable.setStartingCell(current);
+
+                    for (Cell child : iterable) {
+                        if (searchState.checkpoint()) {
+                            return null;
+                        }
+
+                        if (!child.equals(target) &&
+                            generate(child,
+                                     e.getValue() + 
+                                     pathfindingSettings
+                                             .getWeight(current, child),
+                                     previousLayers,
+                                     layer,
+                                     nextLayer,
+                                     range,
+                                     bound)) {
+                            parents.put(child, current);
+                        }
+                    }
+                }
+
+                previousLayers.addFirst(layer);
+
+                if (previousLayers.size() > DUPLICATE_DETECTION_LAYERS) {
+                    previousLayers.removeLast();
+                }
+
+                layer = nextLayer;
+            }
+
+            return parents;
+        }
+
+        private void pruneLayer(Map<Cell, Double> layer, 
+                                BeamStackEntry range) {
+            List<Cell> cells = new ArrayList<>(layer.keySet());
+            QuickSelect.select(cells, beamWidth, keyComparator);
+
+            List<Cell> pruned = cells.subList(beamWidth, cells.size());
+            Cell bestPruned = pruned.get(0);
+
+            for (Cell cell : pruned) {
+                if (keyComparator.compare(cell, bestPruned) < 0) {
+                    bestPruned = cell;
+                }
+            }
+
+            range.fmax     = fValues.get(bestPruned);
+            range.indexMax = index(bestPruned);
+
+            searchMetrics.addToOpened(-pruned.size());
+
+            for (Cell cell : pruned) {
+                layer.remove(cell);
+            }
+        }
+
+        private int index(Cell cell) {
+            return cell.gety() * model.getWidth() + cell.getx();
+        }
+    }
+}
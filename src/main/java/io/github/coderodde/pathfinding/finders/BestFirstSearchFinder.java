@@ -4,7 +4,7 @@ import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -29,7 +29,7 @@ public final class BestFirstSearchFinder implements Finder {
                                GridCellNeighbourIterable neighbourIterable,
                                PathfindingSettings pathfindingSettings, 
                                SearchState searchState,
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         Queue<HeapNode> open    = new PriorityQueue<>();
         Set<Cell> closed        = new HashSet<>();
@@ -40,18 +40,13 @@ public final class BestFirstSearchFinder implements Finder {
         
         open.add(new HeapNode(source, 0.0));
         parents.put(source, null);
-        searchStatistics.incrementOpened();
+        searchMetrics.incrementOpened();
         
         while (!open.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             Cell current = open.remove().cell;
             
             if (current.equals(target)) {
@@ -65,23 +60,14 @@ public final class BestFirstSearchFinder implements Finder {
            
             closed.add(current);
             neighbourIterable.setStartingCell(current);
-            searchStatistics.decrementOpened();
-            searchStatistics.incrementVisited();
+            searchMetrics.decrementOpened();
+            searchMetrics.incrementVisited();
             
             for (Cell child : neighbourIterable) {
-                if (searchState.haltRequested()) {
+                if (searchState.checkpoint()) {
                     return List.of();
                 }
                 
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
-                    
-                    if (searchState.haltRequested()) {
-                        // Requested halt while on pause:
-                        return List.of();
-                    }
-                }
-                
                 if (closed.contains(child)) {
                     continue;
                 }
@@ -98,7 +84,7 @@ public final class BestFirstSearchFinder implements Finder {
                                                        .estimate(child, 
                                                                  target)));
                     
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                 }
             }
         }
@@ -3,9 +3,11 @@ package io.github.coderodde.pathfinding.finders;
 import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
 import java.util.ArrayDeque;
@@ -20,14 +22,14 @@ import java.util.Map;
  * @version 1.0.0 (Sep 1, 2025)
  * @since 1.0.0 (Sep 1, 2025)
  */
-public final class BidirectionalBFSFinder implements Finder {
+public final class BidirectionalBFSFinder implements Finder, SnapshotFinder {
 
     @Override
     public List<Cell> findPath(GridModel model, 
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings pathfindingSettings, 
                                SearchState searchState,
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         Deque<Cell> queuef = new ArrayDeque<>();
         Deque<Cell> queueb = new ArrayDeque<>();
@@ -51,19 +53,14 @@ public final class BidirectionalBFSFinder implements Finder {
         int bestCost = Integer.MAX_VALUE;
         Cell touchCell = null;
         
-        searchStatistics.incrementOpened(); // Inc for forward search.
-        searchStatistics.incrementOpened(); // Inc for backward search.
+        searchMetrics.incrementOpened(); // Inc for forward search.
+        searchMetrics.incrementOpened(); // Inc for backward search.
         
         while (!queuef.isEmpty() && !queueb.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             int distf = distancef.get(queuef.getFirst());
             int distb = distanceb.get(queueb.getFirst());
             
@@ -76,8 +73,8 @@ public final class BidirectionalBFSFinder implements Finder {
             if (distf <= distb) {
                 Cell current = queuef.removeFirst();
                 
-                searchStatistics.decrementOpened();
-                searchStatistics.incrementVisited();
+                searchMetrics.decrementOpened();
+                searchMetrics.incrementVisited();
                 
                 if (!current.getCellType().equals(CellType.SOURCE)) {
                     model.setCellType(current, CellType.VISITED);
@@ -93,17 +90,8 @@ public final class BidirectionalBFSFinder implements Finder {
                 neighbourIterable.setStartingCell(current);
                 
                 for (Cell neighbour : neighbourIterable) {
-                    if (searchState.haltRequested()) {
+                    if (searchState.checkpoint()) {
                         return List.of();
-                    }    
-                    
-                    while (searchState.pauseRequested()) {
-                        searchSleep(pathfindingSettings);
-                        
-                        if (searchState.haltRequested()) {
-                            // Requested halt while on pause:
-                            return List.of();
-                        }
                     }
                     
                     if (parentsf.containsKey(neighbour)) {
@@ -125,13 +113,13 @@ public final class BidirectionalBFSFinder implements Finder {
                     
                     queuef.addLast(neighbour);
                     
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                 }
             } else {
                 Cell current = queueb.removeFirst();
                 
-                searchStatistics.decrementOpened();
-                searchStatistics.incrementVisited();
+                searchMetrics.decrementOpened();
+                searchMetrics.incrementVisited();
                 
                 if (!current.getCellType().equals(CellType.TARGET)) {
                     model.setCellType(current, CellType.VISITED);
@@ -141,24 +129,15 @@ public final class BidirectionalBFSFinder implements Finder {
                         && bestCost > distf + distb) {
                     bestCost = distf + distb;
                     touchCell = current;
-                    searchStatistics.incrementVisited();
+                    searchMetrics.incrementVisited();
                 }
                 
                 neighbourIterable.setStartingCell(current);
                 
                 for (Cell neighbour : neighbourIterable) {
-                    if (searchState.haltRequested()) {
+                    if (searchState.checkpoint()) {
                         return List.of();
                     }
-                    
-                    while (searchState.pauseRequested()) {
-                        searchSleep(pathfindingSettings);
-                        
-                        if (searchState.haltRequested()) {
-                            // Requested halt while on pause:
-                            return List.of();
-                        }
-                    }
 
                     if (parentsb.containsKey(neighbour)) {
                         continue;
@@ -174,11 +153,24 @@ public final class BidirectionalBFSFinder implements Finder {
                     parentsb.put(neighbour, current);
                     queueb.addLast(neighbour);
                     
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                 }
             }
         }
         
         return List.of();
     }
+
+    @Override
+    public int[] findPath(GridSnapshot snapshot,
+                          int source,
+                          int target,
+                          QueryOptions queryOptions,
+                          SearchWorkspace workspace) {
+        return SnapshotSearch.breadthFirstSearch(snapshot,
+                                                 source,
+                                                 target,
+                                                 queryOptions,
+                                                 workspace);
+    }
 }
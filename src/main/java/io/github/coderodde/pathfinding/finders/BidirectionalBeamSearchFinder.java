@@ -5,7 +5,7 @@ import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -29,7 +29,7 @@ public final class BidirectionalBeamSearchFinder implements Finder {
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings pathfindingSettings,
                                SearchState searchState, 
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         Deque<Cell> queuef = new ArrayDeque<>();
         Deque<Cell> queueb = new ArrayDeque<>();
@@ -53,19 +53,14 @@ public final class BidirectionalBeamSearchFinder implements Finder {
         int bestCost = Integer.MAX_VALUE;
         Cell touchCell = null;
         
-        searchStatistics.incrementOpened(); // Inc for forward search.
-        searchStatistics.incrementOpened(); // Inc for backward search.
+        searchMetrics.incrementOpened(); // Inc for forward search.
+        searchMetrics.incrementOpened(); // Inc for backward search.
         
         while (!queuef.isEmpty() && !queueb.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             int distf = distancef.get(queuef.getFirst());
             int distb = distanceb.get(queueb.getFirst());
             
@@ -80,13 +75,13 @@ public final class BidirectionalBeamSearchFinder implements Finder {
                     pruneQueueForward(queuef,
                                       target,
                                       pathfindingSettings,
-                                      searchStatistics);
+                                      searchMetrics);
                 }
                 
                 Cell current = queuef.removeFirst();
                 
-                searchStatistics.incrementVisited();
-                searchStatistics.decrementOpened();
+                searchMetrics.incrementVisited();
+                searchMetrics.decrementOpened();
                 
                 if (!current.getCellType().equals(CellType.SOURCE)) {
                     model.setCellType(current, CellType.VISITED);
@@ -97,23 +92,14 @@ public final class BidirectionalBeamSearchFinder implements Finder {
                     
                     bestCost  = distf + distb;
                     touchCell = current;
-                    searchStatistics.incrementVisited();
+                    searchMetrics.incrementVisited();
                 }
                 
                 neighbourIterable.setStartingCell(current);
                 
                 for (Cell neighbour : neighbourIterable) {
-                    if (searchState.haltRequested()) {
+                    if (searchState.checkpoint()) {
                         return List.of();
-                    }    
-                    
-                    while (searchState.pauseRequested()) {
-                        searchSleep(pathfindingSettings);
-                        
-                        if (searchState.haltRequested()) {
-                            // Requested halt while on pause:
-                            return List.of();
-                        }
                     }
                     
                     if (parentsf.containsKey(neighbour)) {
@@ -135,20 +121,20 @@ public final class BidirectionalBeamSearchFinder implements Finder {
                     
                     queuef.addLast(neighbour);
                     
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                 }
             } else {
                 if (queueb.size() > pathfindingSettings.getBeamWidth()) {
                     pruneQueueBackward(queueb,
                                        source,
                                        pathfindingSettings,
-                                       searchStatistics);
+                                       searchMetrics);
                 }
                 
                 Cell current = queueb.removeFirst();
                 
-                searchStatistics.decrementOpened();
-                searchStatistics.incrementVisited();
+                searchMetrics.decrementOpened();
+                searchMetrics.incrementVisited();
                 
                 if (!current.getCellType().equals(CellType.TARGET)) {
                     model.setCellType(current, CellType.VISITED);
@@ -158,24 +144,15 @@ public final class BidirectionalBeamSearchFinder implements Finder {
                         && bestCost > distf + distb) {
                     bestCost = distf + distb;
                     touchCell = current;
-                    searchStatistics.incrementVisited();
+                    searchMetrics.incrementVisited();
                 }
                 
                 neighbourIterable.setStartingCell(current);
                 
                 for (Cell neighbour : neighbourIterable) {
-                    if (searchState.haltRequested()) {
+                    if (searchState.checkpoint()) {
                         return List.of();
                     }
-                    
-                    while (searchState.pauseRequested()) {
-                        searchSleep(pathfindingSettings);
-                        
-                        if (searchState.haltRequested()) {
-                            // Requested halt while on pause:
-                            return List.of();
-                        }
-                    }
 
                     if (parentsb.containsKey(neighbour)) {
                         continue;
@@ -191,7 +168,7 @@ public final class BidirectionalBeamSearchFinder implements Finder {
                     parentsb.put(neighbour, current);
                     queueb.addLast(neighbour);
                     
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                 }
             }
         }
@@ -202,45 +179,43 @@ public final class BidirectionalBeamSearchFinder implements Finder {
     private static void pruneQueueForward(Deque<Cell> queue,
                                           Cell target,
                                           PathfindingSettings ps,
-                                          SearchStatistics searchStatistics) {
+                                          SearchMetrics searchMetrics) {
         
         List<Cell> layer = new ArrayList<>(queue);
-        searchStatistics.addToOpened(-layer.size());
+        searchMetrics.addToOpened(-layer.size());
         
         HeuristicFunction h = ps.getHeuristicFunction();
         
-        layer.sort((a, b) -> {
-            return Double.compare(h.estimate(a, target),
-                                  h.estimate(b, target));
-        });
+        QuickSelect.selectSorted(layer,
+                                 ps.getBeamWidth(),
+                                 cell -> h.estimate(cell, target));
         
         queue.clear();
         queue.addAll(
                 layer.subList(0, ps.getBeamWidth()));
         
-        searchStatistics.addToOpened(queue.size());
+        searchMetrics.addToOpened(queue.size());
     }
     
     private static void pruneQueueBackward(
             Deque<Cell> queue,
             Cell source,
             PathfindingSettings pathfindingSettings,
-            SearchStatistics searchStatistics) {
+            SearchMetrics searchMetrics) {
         
         List<Cell> layer = new ArrayList<>(queue);
-        searchStatistics.addToOpened(-layer.size());
+        searchMetrics.addToOpened(-layer.size());
         
         HeuristicFunction h = pathfindingSettings.getHeuristicFunction();
         
-        layer.sort((a, b) -> {
-            return Double.compare(h.estimate(a, source),
-                                  h.estimate(b, source));
-        });
+        QuickSelect.selectSorted(layer,
+                                 pathfindingSettings.getBeamWidth(),
+                                 cell -> h.estimate(cell, source));
         
         queue.clear();
         queue.addAll(
                 layer.subList(0, pathfindingSettings.getBeamWidth()));
         
-        searchStatistics.addToOpened(queue.size());
+        searchMetrics.addToOpened(queue.size());
     }
 }
@@ -5,7 +5,7 @@ import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -30,7 +30,7 @@ public final class BidirectionalBestFirstSearchFinder implements Finder {
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings pathfindingSettings, 
                                SearchState searchState, 
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         Queue<HeapNode> openf = new PriorityQueue<>();
         Queue<HeapNode> openb = new PriorityQueue<>();
@@ -49,21 +49,16 @@ public final class BidirectionalBestFirstSearchFinder implements Finder {
         openf.add(new HeapNode(source, 0.0));
         openb.add(new HeapNode(target, 0.0));
         
-        searchStatistics.addToOpened(2); // Count source and target.
+        searchMetrics.addToOpened(2); // Count source and target.
         
         parentsf.put(source, null);
         parentsb.put(target, null);
         
         while (!openf.isEmpty() && !openb.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             if (openf.size() <= openb.size()) {
                 Cell current = openf.remove().cell;
                 
@@ -78,24 +73,15 @@ public final class BidirectionalBestFirstSearchFinder implements Finder {
                 }
                 
                 closedf.add(current);
-                searchStatistics.decrementOpened();
-                searchStatistics.incrementVisited();
+                searchMetrics.decrementOpened();
+                searchMetrics.incrementVisited();
                 neighbourIterable.setStartingCell(current);
                 
                 for (Cell child : neighbourIterable) {
-                    if (searchState.haltRequested()) {
+                    if (searchState.checkpoint()) {
                         return List.of();
                     }
                     
-                    while (searchState.pauseRequested()) {
-                        searchSleep(pathfindingSettings);
-                        
-                        if (searchState.haltRequested()) {
-                            // Requested halt while on pause:
-                            return List.of();
-                        }
-                    }
-                    
                     if (closedf.contains(child)) {
                         continue;
                     }
@@ -110,7 +96,7 @@ public final class BidirectionalBestFirstSearchFinder implements Finder {
                                         child,
                                         h.estimate(child, target)));
                         
-                        searchStatistics.incrementOpened();
+                        searchMetrics.incrementOpened();
                     }
                 }
             } else {
@@ -127,24 +113,15 @@ public final class BidirectionalBestFirstSearchFinder implements Finder {
                 }
                 
                 closedb.add(current);
-                searchStatistics.decrementOpened();
-                searchStatistics.incrementVisited();
+                searchMetrics.decrementOpened();
+                searchMetrics.incrementVisited();
                 neighbourIterable.setStartingCell(current);
                 
                 for (Cell parent : neighbourIterable) {
-                    if (searchState.haltRequested()) {
+                    if (searchState.checkpoint()) {
                         return List.of();
                     }
                     
-                    while (searchState.pauseRequested()) {
-                        searchSleep(pathfindingSettings);
-                        
-                        if (searchState.haltRequested()) {
-                            // Requested halt while on pause:
-                            return List.of();
-                        }
-                    }
-                    
                     if (closedb.contains(parent)) {
                         continue;
                     }
@@ -159,7 +136,7 @@ public final class BidirectionalBestFirstSearchFinder implements Finder {
                                         parent,
                                         h.estimate(parent, source)));
                         
-                        searchStatistics.incrementOpened();
+                        searchMetrics.incrementOpened();
                     }
                 }
             }
@@ -4,9 +4,11 @@ import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
 import static io.github.coderodde.pathfinding.finders.Finder.tracebackPathBiDijkstra;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
 import java.util.HashMap;
@@ -23,14 +25,14 @@ import java.util.Set;
  * @version 1.0.0 (Sep 8, 2025)
  * @since 1.0.0 (Sep 8, 2025)
  */
-public final class BidirectionalDijkstraFinder implements Finder {
+public final class BidirectionalDijkstraFinder implements Finder, SnapshotFinder {
 
     @Override
     public List<Cell> findPath(GridModel model,
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings pathfindingSettings, 
                                SearchState searchState,
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
     
         Queue<HeapNode> queuef = new PriorityQueue<>();
         Queue<HeapNode> queueb = new PriorityQueue<>();
@@ -56,30 +58,25 @@ public final class BidirectionalDijkstraFinder implements Finder {
         parentsf.put(source, null);
         parentsb.put(target, null);
         
-        searchStatistics.addToOpened(2);
+        searchMetrics.addToOpened(2);
         
         double mu = Double.POSITIVE_INFINITY;
         Cell touchf = null;
         Cell touchb = null;
         
         while (!queuef.isEmpty() && !queueb.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             Cell currentf = queuef.remove().cell;
             Cell currentb = queueb.remove().cell;
             
             closedf.add(currentf);
             closedb.add(currentb);
             
-            searchStatistics.addToOpened(-2);
-            searchStatistics.addToVisited(2);
+            searchMetrics.addToOpened(-2);
+            searchMetrics.addToVisited(2);
             
             if (!currentf.getCellType().equals(CellType.SOURCE)) {
                 model.setCellType(currentf, CellType.VISITED);
@@ -92,18 +89,9 @@ public final class BidirectionalDijkstraFinder implements Finder {
             neighbourIterable.setStartingCell(currentf);
             
             for (Cell child : neighbourIterable) {
-                if (searchState.haltRequested()) {
+                if (searchState.checkpoint()) {
                     return List.of();
                 }
-
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
-
-                    if (searchState.haltRequested()) {
-                        // Requested halt while on pause:
-                        return List.of();
-                    }
-                }
                 
                 if (closedf.contains(child)) {
                     continue;
@@ -128,7 +116,7 @@ public final class BidirectionalDijkstraFinder implements Finder {
                     }
                     
                     searchSleep(pathfindingSettings);
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                 }
                 
                 if (closedb.contains(child)) {
@@ -148,18 +136,9 @@ public final class BidirectionalDijkstraFinder implements Finder {
             neighbourIterable.setStartingCell(currentb);
             
             for (Cell parent : neighbourIterable) {
-                if (searchState.haltRequested()) {
+                if (searchState.checkpoint()) {
                     return List.of();
                 }
-
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
-
-                    if (searchState.haltRequested()) {
-                        // Requested halt while on pause:
-                        return List.of();
-                    }
-                }
                     
                 if (closedb.contains(parent)) {
                     continue;
@@ -183,7 +162,7 @@ public final class BidirectionalDijkstraFinder implements Finder {
                     }
                     
                     searchSleep(pathfindingSettings);
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                 }
                 
                 if (closedf.contains(parent)) {
@@ -210,4 +189,18 @@ public final class BidirectionalDijkstraFinder implements Finder {
         
         return List.of();
     }
+
+    @Override
+    public int[] findPath(GridSnapshot snapshot,
+                          int source,
+                          int target,
+                          QueryOptions queryOptions,
+                          SearchWorkspace workspace) {
+        return SnapshotSearch.aStar(snapshot,
+                                    source,
+                                    target,
+                                    queryOptions,
+                                    false,
+                                    workspace);
+    }
 }
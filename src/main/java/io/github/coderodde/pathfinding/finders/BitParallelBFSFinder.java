@@ -0,0 +1,465 @@
+package io.github.coderodde.pathfinding.finders;
+
+import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
+import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.logic.SearchState;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import io.github.coderodde.pathfinding.utils.Cell;
+import io.github.coderodde.pathfinding.utils.CellType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class implements the breadth-first search over bitsets. The free cells
+ * and the frontier are stored as rows of 64-bit words, and a whole frontier
+ * level is expanded by word-level shifts and ANDs, 64 cells per operation.
+ * The level of each reached cell is recorded in a distance field, from which
+ * the path is traced back once the target is reached.
+ *
+ * Like {@link BFSFinder} and {@link BidirectionalBFSFinder}, this finder
+ * minimizes the number of moves and ignores the diagonal weight. Since whole
+ * levels are expanded at once, the visualization is updated per level.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class BitParallelBFSFinder implements Finder, SnapshotFinder {
+
+    /**
+     * If set to {@code true}, the frontiers are grown from both the source
+     * and the target cells.
+     */
+    private final boolean bidirectional;
+
+    public BitParallelBFSFinder() {
+        this(false);
+    }
+
+    public BitParallelBFSFinder(boolean bidirectional) {
+        this.bidirectional = bidirectional;
+    }
+
+    public boolean isBidirectional() {
+        return bidirectional;
+    }
+
+    @Override
+    public List<Cell> findPath(GridModel model,
+                               GridCellNeighbourIterable neighbourIterable,
+                               PathfindingSettings pathfindingSettings,
+                               SearchState searchState,
+                               SearchMetrics searchMetrics) {
+
+        Cell source = model.getSourceGridCell();
+        Cell target = model.getTargetGridCell();
+
+        if (source.equals(target)) {
+            return List.of(target);
+        }
+
+        BitGrid grid = new BitGrid(model, pathfindingSettings);
+        Frontier forward = new Frontier(grid, source);
+        Frontier backward = bidirectional ? new Frontier(grid, target) : null;
+
+        searchMetrics.addToOpened(bidirectional ? 2 : 1);
+
+        while (true) {
+            if (searchState.checkpoint()) {
+                return List.of();
+            }
+
+            // Grow the smaller frontier:
+            Frontier frontier =
+                    backward != null &&
+                    backward.frontierSize < forward.frontierSize ?
+                    backward :
+                    forward;
+
+            Frontier opposite = frontier == forward ? backward : forward;
+
+            int visited = frontier.frontierSize;
+            int opened = frontier.expand();
+
+            searchMetrics.addToVisited(visited);
+            searchMetrics.addToOpened(opened - visited);
+            paint(model, frontier, source, target);
+            searchSleep(pathfindingSettings);
+
+            if (opposite == null) {
+                int targetIndex = grid.index(target);
+
+                if (frontier.levels[targetIndex] != -1) {
+                    return tracebackPath(grid,
+                                         neighbourIterable,
+                                         forward,
+                                         targetIndex);
+                }
+            } else {
+                int meetingIndex = frontier.findIntersection(opposite);
+
+                if (meetingIndex != -1) {
+                    List<Cell> path =
+                            tracebackPath(grid,
+                                          neighbourIterable,
+                                          forward,
+                                          meetingIndex);
+
+                    List<Cell> backwardPath =
+                            tracebackPath(grid,
+                                          neighbourIterable,
+                                          backward,
+                                          meetingIndex);
+
+                    for (int i = backwardPath.size() - 2; i >= 0; --i) {
+                        path.add(backwardPath.get(i));
+                    }
+
+                    return path;
+                }
+            }
+
+            if (opened == 0) {
+                return List.of();
+            }
+        }
+    }
+
+    /**
+     * Paints the cells of the frontier just expanded as visited and the new
+     * frontier cells as opened.
+     */
+    private static void paint(GridModel model,
+                              Frontier frontier,
+                              Cell source,
+                              Cell target) {
+
+        BitGrid grid = frontier.grid;
+
+        for (int i = 0; i < frontier.current.length; ++i) {
+            long visitedWord = frontier.previous[i];
+            long openedWord  = frontier.current[i];
+
+            while (visitedWord != 0L) {
+                paintCell(model, grid, i, visitedWord, CellType.VISITED,
+                          source, target);
+
+                visitedWord &= visitedWord - 1;
+            }
+
+            while (openedWord != 0L) {
+                paintCell(model, grid, i, openedWord, CellType.OPENED,
+                          source, target);
+
+                openedWord &= openedWord - 1;
+            }
+        }
+    }
+
+    private static void paintCell(GridModel model,
+                                  BitGrid grid,
+                                  int wordIndex,
+                                  long word,
+                                  CellType cellType,
+                                  Cell source,
+                                  Cell target) {
+
+        int index = grid.cellIndex(wordIndex, Long.numberOfTrailingZeros(word));
+        Cell cell = grid.cell(index);
+
+        if (!cell.equals(source) && !cell.equals(target)) {
+            model.setCellType(cell, cellType);
+        }
+    }
+
+    /**
+     * Returns the path from the origin of the frontier to the cell with the
+     * index {@code cellIndex}. Follows the levels of the distance field
+     * downwards. Works since the neighbourhood relation is symmetric.
+     */
+    private static List<Cell> tracebackPath(
+            BitGrid grid,
+            GridCellNeighbourIterable neighbourIterable,
+            Frontier frontier,
+            int cellIndex) {
+
+        List<Cell> path = new ArrayList<>();
+        Cell cell = grid.cell(cellIndex);
+        path.add(cell);
+
+        for (int level = frontier.levels[cellIndex]; level > 0; --level) {
+            neighbourIterable.setStartingCell(cell);
+
+            for (Cell neighbour : neighbourIterable) {
+                if (frontier.levels[grid.index(neighbour)] == level - 1) {
+                    cell = neighbour;
+                    break;
+                }
+            }
+
+            path.add(cell);
+        }
+
+        return path.reversed();
+    }
+
+    /**
+     * Holds the free cells of the grid as a bitset. Bit {@code x % 64} of word
+     * {@code y * wordsPerRow + x / 64} is set if and only if the cell
+     * {@code (x, y)} is walkable. The padding bits past the row end are
+     * zeros.
+     */
+    private static final class BitGrid {
+
+        final GridModel model;
+        final int width;
+        final int height;
+        final int wordsPerRow;
+        final boolean allowDiagonals;
+        final boolean dontCrossCorners;
+        final long[] free;
+
+        /**
+         * {@code freeEast} has the bit of {@code (x, y)} set if
+         * {@code (x - 1, y)} is free, {@code freeWest} if {@code (x + 1, y)}
+         * is free. Used for the corner crossing tests.
+         */
+        final long[] freeEast;
+        final long[] freeWest;
+
+        BitGrid(GridModel model, PathfindingSettings pathfindingSettings) {
+            this.model = model;
+            this.width = model.getWidth();
+            this.height = model.getHeight();
+            this.wordsPerRow = (width + Long.SIZE - 1) / Long.SIZE;
+            this.allowDiagonals = pathfindingSettings.allowDiagonals();
+            this.dontCrossCorners = pathfindingSettings.dontCrossCorners();
+            this.free = new long[height * wordsPerRow];
+
+            for (int y = 0; y < height; ++y) {
+                for (int x = 0; x < width; ++x) {
+                    if (model.isWalkable(x, y)) {
+                        free[y * wordsPerRow + x / Long.SIZE] |=
+                                1L << (x % Long.SIZE);
+                    }
+                }
+            }
+
+            this.freeEast = new long[free.length];
+            this.freeWest = new long[free.length];
+            shiftEast(free, freeEast);
+            shiftWest(free, freeWest);
+        }
+
+        int index(Cell cell) {
+            return cell.gety() * width + cell.getx();
+        }
+
+        int cellIndex(int wordIndex, int bit) {
+            int y = wordIndex / wordsPerRow;
+            int x = (wordIndex % wordsPerRow) * Long.SIZE + bit;
+            return y * width + x;
+        }
+
+        Cell cell(int cellIndex) {
+            return model.getCell(cellIndex % width, cellIndex / width);
+        }
+
+        /**
+         * Moves each set bit from {@code (x, y)} to {@code (x + 1, y)}. The
+         * bits shifted past the row end land in the padding or are dropped.
+         */
+        void shiftEast(long[] in, long[] out) {
+            for (int row = 0; row < in.length; row += wordsPerRow) {
+                long carry = 0L;
+
+                for (int i = row; i < row + wordsPerRow; ++i) {
+                    long word = in[i];
+                    out[i] = (word << 1) | carry;
+                    carry = word >>> (Long.SIZE - 1);
+                }
+            }
+        }
+
+        /**
+         * Moves each set bit from {@code (x, y)} to {@code (x - 1, y)}.
+         */
+        void shiftWest(long[] in, long[] out) {
+            for (int row = 0; row < in.length; row += wordsPerRow) {
+                long carry = 0L;
+
+                for (int i = row + wordsPerRow - 1; i >= row; --i) {
+                    long word = in[i];
+                    out[i] = (word >>> 1) | carry;
+                    carry = word << (Long.SIZE - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds a breadth-first frontier and the distance field grown from its
+     * origin cell.
+     */
+    private static final class Frontier {
+
+        final BitGrid grid;
+        final int[] levels;
+
+        long[] previous;
+        long[] current;
+        final long[] reached;
+
+        private final long[] east;
+        private final long[] west;
+        private long[] next;
+
+        int depth = 0;
+        int frontierSize = 1;
+
+        Frontier(BitGrid grid, Cell origin) {
+            this.grid = grid;
+            this.levels = new int[grid.width * grid.height];
+            this.previous = new long[grid.free.length];
+            this.current = new long[grid.free.length];
+            this.reached = new long[grid.free.length];
+            this.east = new long[grid.free.length];
+            this.west = new long[grid.free.length];
+            this.next = new long[grid.free.length];
+
+            Arrays.fill(levels, -1);
+
+            int x = origin.getx();
+            int y = origin.gety();
+            long bit = 1L << (x % Long.SIZE);
+            current[y * grid.wordsPerRow + x / Long.SIZE] = bit;
+            reached[y * grid.wordsPerRow + x / Long.SIZE] = bit;
+            levels[grid.index(origin)] = 0;
+        }
+
+        /**
+         * Expands the whole current frontier by one level.
+         *
+         * @return the size of the new frontier.
+         */
+        int expand() {
+            BitGrid g = grid;
+            int wpr = g.wordsPerRow;
+            long[] free = g.free;
+
+            g.shiftEast(current, east);
+            g.shiftWest(current, west);
+
+            ++depth;
+            frontierSize = 0;
+
+            for (int y = 0; y < g.height; ++y) {
+                int row = y * wpr;
+                boolean hasNorth = y > 0;
+                boolean hasSouth = y < g.height - 1;
+
+                for (int i = row; i < row + wpr; ++i) {
+                    long word = east[i] | west[i];
+
+                    if (hasNorth) {
+                        word |= current[i - wpr];
+                    }
+
+                    if (hasSouth) {
+                        word |= current[i + wpr];
+                    }
+
+                    if (g.allowDiagonals) {
+                        word |= diagonals(i, hasNorth, hasSouth);
+                    }
+
+                    word &= free[i] & ~reached[i];
+                    next[i] = word;
+                    reached[i] |= word;
+                    frontierSize += Long.bitCount(word);
+
+                    for (long w = word; w != 0L; w &= w - 1) {
+                        int bit = Long.numberOfTrailingZeros(w);
+                        levels[g.cellIndex(i, bit)] = depth;
+                    }
+                }
+            }
+
+            long[] tmp = previous;
+            previous = current;
+            current = next;
+            next = tmp;
+            return frontierSize;
+        }
+
+        /**
+         * Returns the bits of the word {@code i} reachable by a diagonal move
+         * from the current frontier.
+         */
+        private long diagonals(int i, boolean hasNorth, boolean hasSouth) {
+            BitGrid g = grid;
+            int wpr = g.wordsPerRow;
+            long word = 0L;
+
+            if (!g.dontCrossCorners) {
+                if (hasNorth) {
+                    word |= east[i - wpr] | west[i - wpr];
+                }
+
+                if (hasSouth) {
+                    word |= east[i + wpr] | west[i + wpr];
+                }
+
+                return word;
+            }
+
+            // A diagonal move from (x - dx, y - dy) to (x, y) requires both
+            // (x, y - dy) and (x - dx, y) be free:
+            if (hasNorth) {
+                word |= east[i - wpr] & g.free[i - wpr] & g.freeEast[i];
+                word |= west[i - wpr] & g.free[i - wpr] & g.freeWest[i];
+            }
+
+            if (hasSouth) {
+                word |= east[i + wpr] & g.free[i + wpr] & g.freeEast[i];
+                word |= west[i + wpr] & g.free[i + wpr] & g.freeWest[i];
+            }
+
+            return word;
+        }
+
+        /**
+         * Returns the index of a cell in the current frontier that is also
+         * reached by {@code other}, or -1 if there is no such cell.
+         */
+        int findIntersection(Frontier other) {
+            for (int i = 0; i < current.length; ++i) {
+                long word = current[i] & other.reached[i];
+
+                if (word != 0L) {
+                    return grid.cellIndex(i, Long.numberOfTrailingZeros(word));
+                }
+            }
+
+            return -1;
+        }
+    }
+
+    @Override
+    public int[] findPath(GridSnapshot snapshot,
+                          int source,
+                          int target,
+                          QueryOptions queryOptions,
+                          SearchWorkspace workspace) {
+        return SnapshotSearch.breadthFirstSearch(snapshot,
+                                                 source,
+                                                 target,
+                                                 queryOptions,
+                                                 workspace);
+    }
+}
@@ -4,9 +4,11 @@ import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
 import io.github.coderodde.pathfinding.heuristics.ZeroHeuristicFunction;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
 import io.github.coderodde.pathfinding.utils.Cell;
 import java.util.List;
 
@@ -16,14 +18,14 @@ import java.util.List;
  * @version 1.0.0 (Sep 7, 2025)
  * @since 1.0.0 (Sep 7, 2025)
  */
-public final class DijkstraFinder implements Finder {
+public final class DijkstraFinder implements Finder, SnapshotFinder {
 
     @Override
     public List<Cell> findPath(GridModel model,
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings pathfindingSettings,
                                SearchState searchState,
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         HeuristicFunction oldHeuristicFunction = 
                 pathfindingSettings.getHeuristicFunction();
@@ -37,10 +39,24 @@ public final class DijkstraFinder implements Finder {
                                 neighbourIterable, 
                                 pathfindingSettings,
                                 searchState,
-                                searchStatistics);
+                                searchMetrics);
         
         pathfindingSettings.setHeuristicFunction(oldHeuristicFunction);
         return path;
     
     }
+
+    @Override
+    public int[] findPath(GridSnapshot snapshot,
+                          int source,
+                          int target,
+                          QueryOptions queryOptions,
+                          SearchWorkspace workspace) {
+        return SnapshotSearch.aStar(snapshot,
+                                    source,
+                                    target,
+                                    queryOptions,
+                                    false,
+                                    workspace);
+    }
 }
@@ -3,18 +3,20 @@ package io.github.coderodde.pathfinding.finders;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  *
  * @author Rodion "rodde" Efremov
- * @version 1.0.0 (Aug 27, 2025)
+ * @version 1.3.1 (Oct 19, 2026)
  * @since 1.0.0 (Aug 27, 2025)
  */
 public interface Finder {
@@ -35,7 +37,7 @@ public interface Finder {
                                GridCellNeighbourIterable neighbourIterable,
                                PathfindingSettings pathfindingSettings,
                                SearchState searchState,
-                               SearchStatistics searchStatistics);
+                               SearchMetrics searchMetrics);
     
     public default List<Cell> 
         tracebackPath(Cell target, Map<Cell, Cell> parentMap) {
@@ -126,12 +128,23 @@ public interface Finder {
         return path;
     }
         
+    /**
+     * Throttles the search to the frequency of {@code pathfindingSettings}
+     * unless it is set not to sleep. An interrupt cuts the wait short and is
+     * left pending for the next {@link SearchState#checkpoint()} to halt the
+     * search.
+     * 
+     * @param pathfindingSettings the pathfinding settings.
+     */
     public static void searchSleep(PathfindingSettings pathfindingSettings) {
-        try {
-            Thread.sleep(pathfindingSettings.getWaitTime());
-        } catch (InterruptedException ex) {
-            System.getLogger(Finder.class.getName())
-                  .log(System.Logger.Level.ERROR, (String) null, ex);
+        if (pathfindingSettings.dontSleep()) {
+            return;
+        }
+        
+        long waitTime = pathfindingSettings.getWaitTime();
+        
+        if (waitTime > 0L) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(waitTime));
         }
     }
     
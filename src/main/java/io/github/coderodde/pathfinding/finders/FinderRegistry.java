@@ -0,0 +1,112 @@
+package io.github.coderodde.pathfinding.finders;
+
+import io.github.coderodde.pathfinding.heuristics.ChebyshevHeuristicFunction;
+import io.github.coderodde.pathfinding.heuristics.EuclideanHeuristicFunction;
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.heuristics.ManhattanHeuristicFunction;
+import io.github.coderodde.pathfinding.heuristics.OctileHeuristicFunction;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class names the finders and the heuristic functions offered to the
+ * user. The settings pane, the scenario runner and the benchmarks look them
+ * up by these names. Unlike the settings pane, this class does not load any
+ * UI classes, and so may be used in a headless JVM. The maps iterate in the
+ * order the names are offered in.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class FinderRegistry {
+
+    public static final String EUCLIDEAN = "Euclidean";
+    public static final String MANHATTAN = "Manhattan";
+    public static final String OCTILE    = "Octile";
+    public static final String CHEBYSHEV = "Chebyshev";
+
+    public static final String ASTAR             = "A* search";
+    public static final String BFS               = "BFS";
+    public static final String BEAM_SEARCH       = "Beam search";
+    public static final String BEAM_STACK_SEARCH = "Beam stack search";
+    public static final String BEST_FIRST_SEARCH = "Best First search";
+    public static final String BIT_BFS           = "Bit-parallel BFS";
+    public static final String BI_BFS            = "Bidirectional BFS";
+    public static final String BI_BIT_BFS
+            = "Bidirectional bit-parallel BFS";
+    public static final String BI_BEAM_SEARCH    = "Bidirectional beam search";
+    public static final String BI_BEST_FS        = "Bidirectional BeFS";
+    public static final String BI_DIJKSTRA       = "Bidirectional Dijkstra";
+    public static final String DIJKSTRA          = "Dijkstra";
+    public static final String IDASTAR           = "IDA* search";
+    public static final String IDDFS             = "IDDFS";
+    public static final String JUMP_POINT_SEARCH = "Jump point search";
+    public static final String NBASTAR           = "NBA* search";
+    public static final String PARALLEL_ASTAR    = "Parallel A* search";
+    public static final String PARALLEL_BI_DIJKSTRA
+            = "Parallel bidirectional Dijkstra";
+    public static final String PARALLEL_IDDFS    = "Parallel IDDFS";
+    public static final String PARALLEL_NBASTAR  = "Parallel NBA* search";
+    public static final String PEASTAR           = "PEA* search";
+
+    private static final Map<String, HeuristicFunction> HEURISTIC_MAP =
+            new LinkedHashMap<>();
+
+    private static final Map<String, Finder> FINDER_MAP =
+            new LinkedHashMap<>();
+
+    static {
+        HEURISTIC_MAP.put(MANHATTAN, new ManhattanHeuristicFunction());
+        HEURISTIC_MAP.put(EUCLIDEAN, new EuclideanHeuristicFunction());
+        HEURISTIC_MAP.put(OCTILE,    new OctileHeuristicFunction());
+        HEURISTIC_MAP.put(CHEBYSHEV, new ChebyshevHeuristicFunction());
+
+        FINDER_MAP.put(ASTAR,             new AStarFinder());
+        FINDER_MAP.put(BFS,               new BFSFinder());
+        FINDER_MAP.put(BEAM_SEARCH,       new BeamSearchFinder());
+        FINDER_MAP.put(BEAM_STACK_SEARCH, new BeamStackSearchFinder());
+        FINDER_MAP.put(BEST_FIRST_SEARCH, new BestFirstSearchFinder());
+        FINDER_MAP.put(BIT_BFS,           new BitParallelBFSFinder());
+        FINDER_MAP.put(BI_BFS,            new BidirectionalBFSFinder());
+        FINDER_MAP.put(BI_BIT_BFS,        new BitParallelBFSFinder(true));
+        FINDER_MAP.put(BI_BEAM_SEARCH,    new BidirectionalBeamSearchFinder());
+        FINDER_MAP.put(BI_BEST_FS,
+                       new BidirectionalBestFirstSearchFinder());
+        FINDER_MAP.put(BI_DIJKSTRA,       new BidirectionalDijkstraFinder());
+        FINDER_MAP.put(DIJKSTRA,          new DijkstraFinder());
+        FINDER_MAP.put(IDASTAR,           new IDAStarFinder());
+        FINDER_MAP.put(IDDFS,             new IDDFSFinder());
+        FINDER_MAP.put(JUMP_POINT_SEARCH, new JumpPointSearchFinder());
+        FINDER_MAP.put(NBASTAR,           new NBAStarFinder());
+        FINDER_MAP.put(PARALLEL_ASTAR,    new ParallelAStarFinder());
+        FINDER_MAP.put(PARALLEL_BI_DIJKSTRA,
+                       new ParallelBidirectionalFinder(false));
+        FINDER_MAP.put(PARALLEL_IDDFS,    new IDDFSFinder(true));
+        FINDER_MAP.put(PARALLEL_NBASTAR,  new ParallelBidirectionalFinder());
+        FINDER_MAP.put(PEASTAR,           new PEAStarFinder());
+    }
+
+    private FinderRegistry() {
+
+    }
+
+    /**
+     * Returns the finders by their names.
+     *
+     * @return the unmodifiable finder map.
+     */
+    public static Map<String, Finder> getFinderMap() {
+        return Collections.unmodifiableMap(FINDER_MAP);
+    }
+
+    /**
+     * Returns the heuristic functions by their names.
+     *
+     * @return the unmodifiable heuristic function map.
+     */
+    public static Map<String, HeuristicFunction> getHeuristicMap() {
+        return Collections.unmodifiableMap(HEURISTIC_MAP);
+    }
+}
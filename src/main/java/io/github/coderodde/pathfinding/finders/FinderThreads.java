@@ -0,0 +1,40 @@
+package io.github.coderodde.pathfinding.finders;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class holds the thread pool shared by the finders searching in
+ * parallel. The pool grows on demand and reuses its idle threads, so that a
+ * query does not start threads of its own. Since the pool is unbounded, the
+ * tasks of a single query may wait for each other without starving.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class FinderThreads {
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private static final ExecutorService EXECUTOR =
+            Executors.newCachedThreadPool(FinderThreads::newThread);
+
+    private FinderThreads() {
+
+    }
+
+    static ExecutorService executor() {
+        return EXECUTOR;
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        Thread thread =
+                new Thread(runnable,
+                           "finder-worker-" + THREAD_NUMBER.incrementAndGet());
+
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -5,7 +5,7 @@ import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -15,7 +15,7 @@ import java.util.List;
 /**
  *
  * @author Rodion "rodde" Efremov
- * @version 1.0.0 (Sep 10, 2025)
+ * @version 1.0.1 (Oct 19, 2026)
  * @since 1.0.0 (Sep 10, 2025)
  */
 public final class IDAStarFinder implements Finder {
@@ -25,7 +25,7 @@ public final class IDAStarFinder implements Finder {
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings pathfindingSettings, 
                                SearchState searchState, 
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         HeuristicFunction h = pathfindingSettings.getHeuristicFunction();
         Cell source = model.getSourceGridCell();
@@ -35,15 +35,10 @@ public final class IDAStarFinder implements Finder {
         SolutionFound solutionFound = new SolutionFound();
         
         while (true) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             double t = search(path,
                               0.0,
                               bound,
@@ -51,7 +46,7 @@ public final class IDAStarFinder implements Finder {
                               target,
                               neighbourIterable,
                               pathfindingSettings,
-                              searchStatistics,
+                              searchMetrics,
                               solutionFound,
                               searchState);
             
@@ -74,24 +69,16 @@ public final class IDAStarFinder implements Finder {
                                  Cell target,
                                  GridCellNeighbourIterable iterable,
                                  PathfindingSettings pathfindingSettings,
-                                 SearchStatistics searchStatistics,
+                                 SearchMetrics searchMetrics,
                                  SolutionFound solutionFound,
                                  SearchState searchState) {
         
-        if (searchState.haltRequested()) {
+        if (searchState.checkpoint()) {
             return Double.NaN;
         }
         
-        while (searchState.pauseRequested()) {
-            searchSleep(pathfindingSettings);
-            
-            if (searchState.haltRequested()) {
-                return Double.NaN;
-            }
-        }
-        
         searchSleep(pathfindingSettings);
-        searchStatistics.incrementTraced();
+        searchMetrics.incrementTraced();
         
         HeuristicFunction h = pathfindingSettings.getHeuristicFunction();
         
@@ -108,12 +95,15 @@ public final class IDAStarFinder implements Finder {
             return f;
         }
         
+        searchMetrics.incrementVisited();
+        
         double min = Double.POSITIVE_INFINITY;
         iterable.setStartingCell(cell);
         
         for (Cell child : iterable) {
             if (!path.contains(child)) {
                 path.add(child);
+                searchMetrics.incrementOpened();
                 // Color as TRACED:
                 model.setCellType(path.getLast(), CellType.TRACED);
                 
@@ -125,7 +115,7 @@ public final class IDAStarFinder implements Finder {
                                target,
                                iterable,
                                pathfindingSettings,
-                               searchStatistics,
+                               searchMetrics,
                                solutionFound,
                                searchState);
                 
@@ -141,6 +131,7 @@ public final class IDAStarFinder implements Finder {
                 }
                 
                 path.removeLast();
+                searchMetrics.decrementOpened();
             }
         } 
         
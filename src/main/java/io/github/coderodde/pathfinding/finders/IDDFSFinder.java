@@ -1,99 +1,351 @@
-    package io.github.coderodde.pathfinding.finders;
-
-    import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
-    import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
-    import io.github.coderodde.pathfinding.logic.PathfindingSettings;
-    import io.github.coderodde.pathfinding.logic.SearchState;
-    import io.github.coderodde.pathfinding.logic.SearchStatistics;
-    import io.github.coderodde.pathfinding.model.GridModel;
-    import io.github.coderodde.pathfinding.utils.Cell;
-    import io.github.coderodde.pathfinding.utils.CellType;
-    import java.util.ArrayList;
-    import java.util.Collections;
-    import java.util.HashSet;
-    import java.util.List;
-    import java.util.Set;
+package io.github.coderodde.pathfinding.finders;
+
+import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
+import io.github.coderodde.pathfinding.logic.CounterSearchMetrics;
+import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
+import io.github.coderodde.pathfinding.logic.GridNodeExpander;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.SearchState;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.utils.Cell;
+import io.github.coderodde.pathfinding.utils.CellType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class implements the iterative deepening depth-first search. Each
+ * depth-limited pass runs on an explicit stack and remembers, per cell, the
+ * largest remaining depth the cell was expanded with during the pass. A cell
+ * reached again with no larger depth budget is not searched twice.
+ *
+ * Optionally, the subtrees of the source cell neighbours are searched in
+ * parallel in the pool of the {@link FinderThreads}. The first subtree search
+ * that reaches the target halts its siblings. Since the grid model is not
+ * thread-safe, the subtree searches do not paint the cells, and count into
+ * the metrics of their own, merged into the search metrics after each pass.
+ *
+ * Each cell entered counts as visited and as generated, and the open set is
+ * the current search path.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.2.2 (Oct 19, 2026)
+ * @since 1.0.0 (Sep 13, 2025)
+ */
+public final class IDDFSFinder implements Finder {
+
+    private enum Result {
+        FOUND,
+        CUTOFF,
+        FAIL,
+    }
 
     /**
-     *
-     * @author Rodion "rodde" Efremov
-     * @version 1.0.0 (Sep 13, 2025)
-     * @since 1.0.0 (Sep 13, 2025)
+     * If set to {@code true}, the subtrees of the source cell neighbours are
+     * searched in parallel.
      */
-    public final class IDDFSFinder implements Finder {
+    private final boolean parallelRootSplitting;
+
+    public IDDFSFinder() {
+        this(false);
+    }
+
+    public IDDFSFinder(boolean parallelRootSplitting) {
+        this.parallelRootSplitting = parallelRootSplitting;
+    }
 
-        private enum Result {
-            FOUND,
-            CUTOFF,
-            FAIL,
+    public boolean isParallelRootSplitting() {
+        return parallelRootSplitting;
+    }
+
+    @Override
+    public List<Cell> findPath(GridModel model,
+                               GridCellNeighbourIterable neighbourIterable,
+                               PathfindingSettings pathfindingSettings,
+                               SearchState searchState,
+                               SearchMetrics searchMetrics) {
+
+        Cell source = model.getSourceGridCell();
+        Cell target = model.getTargetGridCell();
+
+        if (source.equals(target)) {
+            return List.of(target);
         }
 
-        @Override
-        public List<Cell> findPath(GridModel model, 
-                                   GridCellNeighbourIterable neighbourIterable, 
-                                   PathfindingSettings pathfindingSettings, 
-                                   SearchState searchState, 
-                                   SearchStatistics searchStatistics) {
+        if (parallelRootSplitting) {
+            return findPathParallel(source,
+                                    target,
+                                    model,
+                                    neighbourIterable,
+                                    pathfindingSettings,
+                                    searchState,
+                                    searchMetrics);
+        }
 
-            Cell source = model.getSourceGridCell();
-            Cell target = model.getTargetGridCell();
+        DepthLimitedSearch search =
+                new DepthLimitedSearch(model,
+                                       neighbourIterable,
+                                       pathfindingSettings,
+                                       searchState,
+                                       searchState,
+                                       searchMetrics,
+                                       true);
 
-            Set<Cell> onPath = new HashSet<>();
-            List<Cell> path = new ArrayList<>();
+        for (int depth = 1;; ++depth) {
+            if (searchState.checkpoint()) {
+                return List.of();
+            }
 
-            for (int depth = 0;; ++depth) {
-                if (searchState.haltRequested()) {
-                    return List.of();
-                }
+            search.beginPass();
+
+            Result result = search.run(source, target, depth);
+
+            if (result == Result.FOUND) {
+                return search.getPath();
+            }
+
+            if (result == Result.FAIL) {
+                return List.of();
+            }
+        }
+    }
+
+    private static List<Cell> findPathParallel(
+            Cell source,
+            Cell target,
+            GridModel model,
+            GridCellNeighbourIterable neighbourIterable,
+            PathfindingSettings pathfindingSettings,
+            SearchState searchState,
+            SearchMetrics searchMetrics) {
+
+        List<Cell> rootChildren = new ArrayList<>();
+        neighbourIterable.setStartingCell(source);
+
+        for (Cell child : neighbourIterable) {
+            if (child.equals(target)) {
+                return List.of(source, target);
+            }
+
+            rootChildren.add(child);
+        }
 
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
+        // Each subtree search gets its own neighbour iterable since the
+        // iterables are not thread-safe:
+        List<DepthLimitedSearch> searches = new ArrayList<>(rootChildren.size());
 
-                    if (searchState.haltRequested()) {
-                        return List.of();
+        for (int i = 0; i < rootChildren.size(); ++i) {
+            searches.add(
+                    new DepthLimitedSearch(
+                            model,
+                            new GridCellNeighbourIterable(
+                                    model,
+                                    new GridNodeExpander(model,
+                                                         pathfindingSettings),
+                                    pathfindingSettings),
+                            pathfindingSettings,
+                            searchState,
+                            new SearchState(),
+                            SearchMetrics.noOp(),
+                            false));
+        }
+
+        ExecutorService executor = FinderThreads.executor();
+
+        for (int depth = 1;; ++depth) {
+            if (searchState.checkpoint()) {
+                return List.of();
+            }
+
+            // The first subtree search to reach the target halts its siblings
+            // through this state:
+            SearchState siblingState = new SearchState();
+            AtomicReference<List<Cell>> foundPath = new AtomicReference<>();
+            List<Callable<Result>> tasks = new ArrayList<>(searches.size());
+            List<CounterSearchMetrics> passMetrics =
+                    new ArrayList<>(searches.size());
+
+            int passDepth = depth;
+
+            for (int i = 0; i < searches.size(); ++i) {
+                DepthLimitedSearch search = searches.get(i);
+                Cell rootChild = rootChildren.get(i);
+                CounterSearchMetrics metrics = new CounterSearchMetrics();
+                passMetrics.add(metrics);
+
+                tasks.add(() -> {
+                    search.setSiblingState(siblingState);
+                    search.setSearchMetrics(metrics);
+                    search.beginPass();
+                    search.markExpanded(source, passDepth);
+
+                    Result result = search.run(rootChild,
+                                               target,
+                                               passDepth - 1);
+
+                    if (result == Result.FOUND) {
+                        List<Cell> path = new ArrayList<>();
+                        path.add(source);
+                        path.addAll(search.getPath());
+
+                        if (foundPath.compareAndSet(null, path)) {
+                            siblingState.requestHalt();
+                        }
                     }
-                }
 
-                path.clear();
-                onPath.clear();
-
-                Result result = depthLimitedSearch(
-                                   source,
-                                   target,
-                                   depth, 
-                                   path,
-                                   onPath,
-                                   model,
-                                   neighbourIterable, 
-                                   pathfindingSettings, 
-                                   searchState, 
-                                   searchStatistics);
-
-                if (result == Result.FOUND) {
-                    Collections.reverse(path);
-                    return path;
-                }
+                    return result;
+                });
+            }
+
+            boolean anyCutoff = false;
+            List<Future<Result>> futures;
+
+            try {
+                // Cancels all the tasks if interrupted while waiting:
+                futures = executor.invokeAll(tasks);
+            } catch (InterruptedException ex) {
+                siblingState.requestHalt();
+                Thread.currentThread().interrupt();
+                return List.of();
+            }
+
+            // The pass is over; the counters are safe to read. The paths of
+            // the subtree searches are gone, so only their generated cells
+            // are counted:
+            for (CounterSearchMetrics metrics : passMetrics) {
+                searchMetrics.addToVisited(metrics.getVisited());
+                searchMetrics.addToGenerated(metrics.getGenerated());
+                searchMetrics.addToTraced(metrics.getTraced());
+            }
+
+            for (Future<Result> future : futures) {
+                try {
+                    if (future.get() == Result.CUTOFF) {
+                        anyCutoff = true;
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return List.of();
+                } catch (ExecutionException ex) {
+                    System.getLogger(IDDFSFinder.class.getName())
+                          .log(System.Logger.Level.ERROR,
+                               "A subtree search of the parallel IDDFS failed",
+                               ex);
 
-                if (result == Result.FAIL) {
                     return List.of();
                 }
             }
+
+            if (foundPath.get() != null) {
+                return foundPath.get();
+            }
+
+            if (!anyCutoff) {
+                return List.of();
+            }
+        }
+    }
+
+    /**
+     * Implements a depth-limited depth-first search over an explicit stack.
+     * The object is reused between the passes of the iterative deepening.
+     */
+    private static final class DepthLimitedSearch {
+
+        private final GridModel model;
+        private final GridCellNeighbourIterable iterable;
+        private final PathfindingSettings pathfindingSettings;
+        private final SearchState searchState;
+        private SearchMetrics searchMetrics;
+        private SearchState siblingState;
+
+        /**
+         * If set to {@code false}, the cells are not painted. The subtree
+         * searches running in parallel must not touch the grid model.
+         */
+        private final boolean paintCells;
+
+        /**
+         * Maps the cell indices to the largest remaining depth the cell was
+         * expanded with during the current pass. Zero means that the cell was
+         * reached with no depth budget left.
+         */
+        private final int[] expandedDepth;
+
+        /**
+         * Maps the cell indices to the pass index during which
+         * {@code expandedDepth} was last written. Saves us clearing
+         * {@code expandedDepth} between the passes.
+         */
+        private final int[] expandedPass;
+
+        private final List<Cell> path = new ArrayList<>();
+        private final List<Iterator<Cell>> iterators = new ArrayList<>();
+        private int pass = 0;
+
+        /**
+         * The number of cells that were reached during the current pass, but
+         * were never expanded. If zero after the pass, deeper passes cannot
+         * find anything new.
+         */
+        private int cutoffCells;
+
+        DepthLimitedSearch(GridModel model,
+                           GridCellNeighbourIterable iterable,
+                           PathfindingSettings pathfindingSettings,
+                           SearchState searchState,
+                           SearchState siblingState,
+                           SearchMetrics searchMetrics,
+                           boolean paintCells) {
+
+            this.model = model;
+            this.iterable = iterable;
+            this.pathfindingSettings = pathfindingSettings;
+            this.searchState = searchState;
+            this.siblingState = siblingState;
+            this.searchMetrics = searchMetrics;
+            this.paintCells = paintCells;
+
+            int cells = model.getWidth() * model.getHeight();
+            this.expandedDepth = new int[cells];
+            this.expandedPass  = new int[cells];
         }
 
-        private static Result depthLimitedSearch(
-                Cell cell, 
-                Cell target,
-                int depth,
-                List<Cell> path,
-                Set<Cell> onPath,
-                GridModel model,
-                GridCellNeighbourIterable iterable,
-                PathfindingSettings pathfindingSettings,
-                SearchState searchState,
-                SearchStatistics searchStatistics) {
+        void setSiblingState(SearchState siblingState) {
+            this.siblingState = siblingState;
+        }
 
-            if (cell.equals(target)) {
-                path.add(target);
+        void setSearchMetrics(SearchMetrics searchMetrics) {
+            this.searchMetrics = searchMetrics;
+        }
+
+        void beginPass() {
+            ++pass;
+            cutoffCells = 0;
+            searchMetrics.addToOpened(-path.size());
+            path.clear();
+            iterators.clear();
+        }
+
+        List<Cell> getPath() {
+            return new ArrayList<>(path);
+        }
+
+        void markExpanded(Cell cell, int depth) {
+            int index = index(cell);
+            expandedPass [index] = pass;
+            expandedDepth[index] = depth;
+        }
+
+        Result run(Cell root, Cell target, int depth) {
+            if (root.equals(target)) {
+                path.add(root);
                 return Result.FOUND;
             }
 
@@ -101,67 +353,94 @@
                 return Result.CUTOFF;
             }
 
-            if (!onPath.add(cell)) {
-                return Result.FAIL;
-            }
-
-            boolean anyCutoff = false;
-            iterable.setStartingCell(cell);
+            enter(root, depth);
 
-            if (!cell.getCellType().equals(CellType.SOURCE) && 
-                !cell.getCellType().equals(CellType.TARGET)) {
-                model.setCellType(cell, CellType.TRACED);
-            }
+            while (!path.isEmpty()) {
+                if (checkpoint()) {
+                    return Result.FAIL;
+                }
 
-            searchStatistics.incrementTraced();
+                Iterator<Cell> iterator = iterators.getLast();
 
-            for (Cell child : iterable) {
-                if (onPath.contains(child)) {
+                if (!iterator.hasNext()) {
+                    leave();
                     continue;
                 }
 
-                if (searchState.haltRequested()) {
-                    return Result.FAIL;
+                Cell child = iterator.next();
+                int childDepth = depth - path.size();
+
+                if (child.equals(target)) {
+                    path.add(child);
+                    return Result.FOUND;
                 }
 
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
+                int childIndex = index(child);
+                boolean seen = expandedPass[childIndex] == pass;
 
-                    if (searchState.haltRequested()) {
-                        return Result.FAIL;
-                    }
+                if (seen && expandedDepth[childIndex] >= childDepth) {
+                    // Already searched with at least the same depth budget:
+                    continue;
+                }
+
+                if (childDepth == 0) {
+                    expandedPass [childIndex] = pass;
+                    expandedDepth[childIndex] = 0;
+                    ++cutoffCells;
+                    continue;
                 }
 
                 searchSleep(pathfindingSettings);
+                enter(child, childDepth);
+            }
 
-                Result result = 
-                        depthLimitedSearch(child,
-                                           target, 
-                                           depth - 1, 
-                                           path, 
-                                           onPath,
-                                           model,
-                                           iterable, 
-                                           pathfindingSettings, 
-                                           searchState, 
-                                           searchStatistics);
-
-                if (result == Result.FOUND) {
-                    path.add(cell);
-                    onPath.remove(cell);
-                    return Result.FOUND;
-                } else if (result == Result.CUTOFF) {
-                    anyCutoff = true;
-                }
+            return cutoffCells > 0 ? Result.CUTOFF : Result.FAIL;
+        }
+
+        private void enter(Cell cell, int depth) {
+            int index = index(cell);
+
+            if (expandedPass[index] == pass && expandedDepth[index] == 0) {
+                // Was cut off earlier in this pass, but is expanded now:
+                --cutoffCells;
+            }
+
+            expandedPass [index] = pass;
+            expandedDepth[index] = depth;
+
+            iterable.setStartingCell(cell);
+            path.add(cell);
+            iterators.add(iterable.iterator());
+
+            if (paintCells &&
+                !cell.getCellType().equals(CellType.SOURCE) &&
+                !cell.getCellType().equals(CellType.TARGET)) {
+                model.setCellType(cell, CellType.TRACED);
             }
 
-            onPath.remove(cell);
+            searchMetrics.incrementVisited();
+            searchMetrics.incrementOpened();
+            searchMetrics.incrementTraced();
+        }
+
+        private void leave() {
+            Cell cell = path.removeLast();
+            iterators.removeLast();
+            searchMetrics.decrementOpened();
 
-            if (!cell.getCellType().equals(CellType.SOURCE) &&
+            if (paintCells &&
+                !cell.getCellType().equals(CellType.SOURCE) &&
                 !cell.getCellType().equals(CellType.TARGET)) {
                 model.setCellType(cell, CellType.FREE);
             }
+        }
+
+        private boolean checkpoint() {
+            return searchState.checkpoint() || siblingState.haltRequested();
+        }
 
-            return anyCutoff ? Result.CUTOFF : Result.FAIL;
+        private int index(Cell cell) {
+            return cell.gety() * model.getWidth() + cell.getx();
         }
     }
+}
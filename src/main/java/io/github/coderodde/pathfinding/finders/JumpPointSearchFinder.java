@@ -12,7 +12,7 @@ import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -68,7 +68,7 @@ public final class JumpPointSearchFinder implements Finder {
          * @param px               the {@code x} coordinate of the parent cell.
          * @param py               the {@code y} coordinate of the parent cell.
          * @param model            the grid model.
-         * @param searchStatistics the search statistics object.
+         * @param searchMetrics    the search metrics.
          * 
          * @return the next jump point cell or {@code null} if there is no such.
          */
@@ -77,7 +77,7 @@ public final class JumpPointSearchFinder implements Finder {
                   int px,
                   int py,
                   GridModel model,
-                  SearchStatistics searchStatistics);
+                  SearchMetrics searchMetrics);
     }
     
     @Override
@@ -85,7 +85,7 @@ public final class JumpPointSearchFinder implements Finder {
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings pathfindingSettings, 
                                SearchState searchState, 
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         NeighbourFinder neighbourFinder = 
                 getNeighbourFinder(pathfindingSettings);
@@ -107,15 +107,10 @@ public final class JumpPointSearchFinder implements Finder {
         distanceMap.put(source, 0.0);
         
         while (!open.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             Cell current = open.remove().cell;
             
             if (model.getCellType(current) != CellType.SOURCE &&
@@ -130,7 +125,7 @@ public final class JumpPointSearchFinder implements Finder {
                                   model);
             }
             
-            searchStatistics.incrementVisited();
+            searchMetrics.incrementVisited();
             closed.add(current);
             
             identifySuccessors(current,
@@ -142,7 +137,7 @@ public final class JumpPointSearchFinder implements Finder {
                                model,
                                pathfindingSettings,
                                searchState,
-                               searchStatistics,
+                               searchMetrics,
                                neighbourFinder,
                                jumper);
         }
@@ -198,7 +193,7 @@ public final class JumpPointSearchFinder implements Finder {
                                            GridModel model,
                                            PathfindingSettings ps,
                                            SearchState searchState,
-                                           SearchStatistics searchStatistics,
+                                           SearchMetrics searchMetrics,
                                            NeighbourFinder neighbourFinder,
                                            Jumper jumper) {
         
@@ -213,24 +208,16 @@ public final class JumpPointSearchFinder implements Finder {
         HeuristicFunction hf = ps.getHeuristicFunction();
         
         for (Cell child : neighbors) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 throw new HaltRequestedException();
             }
             
-            while (searchState.pauseRequested()) {
-                searchSleep(ps);
-                
-                if (searchState.haltRequested()) {
-                    throw new HaltRequestedException();
-                }
-            }
-            
             Cell jumpCell = jumper.jump(child.getx(),
                                         child.gety(),
                                         x,
                                         y,
                                         model,
-                                        searchStatistics);
+                                        searchMetrics);
             
             if (jumpCell == null) {
                 continue;
@@ -267,7 +254,7 @@ public final class JumpPointSearchFinder implements Finder {
                 
                 open.add(new HeapNode(jumpCell, f));
                 
-                searchStatistics.incrementOpened();
+                searchMetrics.incrementOpened();
                 searchSleep(ps);
             }
         }
@@ -0,0 +1,257 @@
+package io.github.coderodde.pathfinding.finders;
+
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
+import io.github.coderodde.pathfinding.logic.GridNodeExpander;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.utils.Cell;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * This class searches from an explicit source cell to a set of target cells
+ * in a single pass, instead of running a finder once per target. The source
+ * and the target cells of the grid model are ignored, and the model is not
+ * modified.
+ *
+ * The nearest target is searched by A* with the heuristic estimate being the
+ * minimum of the estimates to each target, which is admissible and consistent
+ * whenever the heuristic function is. With more than
+ * {@link #MAXIMUM_HEURISTIC_TARGETS} targets, computing the minimum costs more
+ * than it saves, and the Dijkstra's algorithm is used instead. The paths to
+ * all the targets are searched by a single Dijkstra's algorithm stopping once
+ * all the targets are settled.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class MultiTargetFinder {
+
+    /**
+     * The maximum number of targets for which the nearest target search uses
+     * the heuristic function.
+     */
+    public static final int MAXIMUM_HEURISTIC_TARGETS = 16;
+
+    private final PathfindingSettings pathfindingSettings;
+
+    public MultiTargetFinder(PathfindingSettings pathfindingSettings) {
+        this.pathfindingSettings =
+                Objects.requireNonNull(
+                        pathfindingSettings,
+                        "The input pathfinding settings is null");
+    }
+
+    /**
+     * Returns a shortest path from {@code source} to the nearest of
+     * {@code targets}, or an empty list if no target is reachable.
+     *
+     * @param model   the grid model.
+     * @param source  the source cell.
+     * @param targets the target cells.
+     * @return the path to the nearest target.
+     */
+    public List<Cell> findPathToNearestTarget(GridModel model,
+                                              Cell source,
+                                              Collection<Cell> targets) {
+        Search search = new Search(model, source, targets);
+        HeuristicFunction h = pathfindingSettings.getHeuristicFunction();
+        boolean useHeuristic =
+                h != null && targets.size() <= MAXIMUM_HEURISTIC_TARGETS;
+
+        int target = search.run(1, useHeuristic ? h : null);
+        return target == -1 ? List.of() : search.tracebackPath(target);
+    }
+
+    /**
+     * Returns the shortest paths from {@code source} to each of
+     * {@code targets}. The unreachable targets are not mapped.
+     *
+     * @param model   the grid model.
+     * @param source  the source cell.
+     * @param targets the target cells.
+     * @return the map from targets to their shortest paths.
+     */
+    public Map<Cell, List<Cell>> findPathsToAllTargets(
+            GridModel model,
+            Cell source,
+            Collection<Cell> targets) {
+
+        Search search = new Search(model, source, targets);
+        search.run(search.targetCount, null);
+
+        Map<Cell, List<Cell>> paths = new HashMap<>();
+
+        for (Cell target : targets) {
+            int index = search.index(target);
+
+            if (search.closed[index]) {
+                paths.put(target, search.tracebackPath(index));
+            }
+        }
+
+        return paths;
+    }
+
+    private record HeapEntry(int index, double f)
+            implements Comparable<HeapEntry> {
+
+        @Override
+        public int compareTo(HeapEntry other) {
+            return Double.compare(f, other.f);
+        }
+    }
+
+    /**
+     * Holds the state of a single search.
+     */
+    private final class Search {
+
+        private final GridModel model;
+        private final GridCellNeighbourIterable iterable;
+        private final int sourceIndex;
+        private final Set<Integer> targetIndices = new HashSet<>();
+        private final List<Cell> targetCells = new ArrayList<>();
+        private final int targetCount;
+
+        private final double[] distances;
+        private final int[] parents;
+        private final boolean[] closed;
+
+        Search(GridModel model, Cell source, Collection<Cell> targets) {
+            this.model = Objects.requireNonNull(model,
+                                                "The input grid model is null");
+
+            Objects.requireNonNull(source, "The input source cell is null");
+            Objects.requireNonNull(targets, "The input target set is null");
+
+            this.iterable =
+                    new GridCellNeighbourIterable(
+                            model,
+                            new GridNodeExpander(model, pathfindingSettings),
+                            pathfindingSettings);
+
+            int cells = model.getWidth() * model.getHeight();
+            this.distances = new double[cells];
+            this.parents = new int[cells];
+            this.closed = new boolean[cells];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+            this.sourceIndex = index(source);
+
+            for (Cell target : targets) {
+                if (targetIndices.add(index(target))) {
+                    targetCells.add(target);
+                }
+            }
+
+            this.targetCount = targetIndices.size();
+        }
+
+        /**
+         * Runs the search until {@code targetsToSettle} targets are settled.
+         *
+         * @param targetsToSettle the number of targets to settle.
+         * @param h               the heuristic function, or {@code null}.
+         * @return the index of the last target settled, or -1 if not all
+         *         the requested targets were reached.
+         */
+        int run(int targetsToSettle, HeuristicFunction h) {
+            if (targetsToSettle == 0) {
+                return -1;
+            }
+
+            Queue<HeapEntry> open = new PriorityQueue<>();
+            distances[sourceIndex] = 0.0;
+            parents[sourceIndex] = -1;
+            open.add(new HeapEntry(sourceIndex,
+                                   estimate(cell(sourceIndex), h)));
+
+            int settledTargets = 0;
+
+            while (!open.isEmpty()) {
+                int currentIndex = open.remove().index();
+
+                if (closed[currentIndex]) {
+                    continue;
+                }
+
+                closed[currentIndex] = true;
+
+                if (targetIndices.contains(currentIndex) &&
+                    ++settledTargets == targetsToSettle) {
+                    return currentIndex;
+                }
+
+                Cell current = cell(currentIndex);
+                iterable.setStartingCell(current);
+
+                for (Cell child : iterable) {
+                    int childIndex = index(child);
+
+                    if (closed[childIndex]) {
+                        continue;
+                    }
+
+                    double tentativeDistance =
+                            distances[currentIndex] +
+                            pathfindingSettings.getWeight(current, child);
+
+                    if (distances[childIndex] > tentativeDistance) {
+                        distances[childIndex] = tentativeDistance;
+                        parents[childIndex] = currentIndex;
+                        open.add(new HeapEntry(
+                                childIndex,
+                                tentativeDistance + estimate(child, h)));
+                    }
+                }
+            }
+
+            return -1;
+        }
+
+        private double estimate(Cell cell, HeuristicFunction h) {
+            if (h == null) {
+                return 0.0;
+            }
+
+            double estimate = Double.POSITIVE_INFINITY;
+
+            for (Cell target : targetCells) {
+                estimate = Math.min(estimate, h.estimate(cell, target));
+            }
+
+            return estimate;
+        }
+
+        List<Cell> tracebackPath(int targetIndex) {
+            List<Cell> path = new ArrayList<>();
+
+            for (int index = targetIndex; index != -1; index = parents[index]) {
+                path.add(cell(index));
+            }
+
+            return path.reversed();
+        }
+
+        int index(Cell cell) {
+            return cell.gety() * model.getWidth() + cell.getx();
+        }
+
+        private Cell cell(int index) {
+            return model.getCell(index % model.getWidth(),
+                                 index / model.getWidth());
+        }
+    }
+}
@@ -5,7 +5,7 @@ import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -30,7 +30,7 @@ public final class NBAStarFinder implements Finder {
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings pathfindingSettings, 
                                SearchState searchState,
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
         
         Queue<HeapNode> opena = new PriorityQueue<>();
         Queue<HeapNode> openb = new PriorityQueue<>();
@@ -64,18 +64,13 @@ public final class NBAStarFinder implements Finder {
         parentsa.put(source, null);
         parentsb.put(target, null);
         
-        searchStatistics.addToOpened(2);
+        searchMetrics.addToOpened(2);
         
         while (!opena.isEmpty() && !openb.isEmpty()) {
-            if (searchState.haltRequested()) {
+            if (searchState.checkpoint()) {
                 return List.of();
             }
             
-            if (searchState.pauseRequested()) {
-                searchSleep(pathfindingSettings);
-                continue;
-            }
-            
             if (opena.size() <= openb.size()) {
                 try {
                     expandInForwardDirection(opena, 
@@ -92,7 +87,7 @@ public final class NBAStarFinder implements Finder {
                                              neighbourIterable, 
                                              pathfindingSettings,
                                              searchState,
-                                             searchStatistics);
+                                             searchMetrics);
                 } catch (HaltRequestedException ex) {
                     return List.of();
                 }
@@ -112,7 +107,7 @@ public final class NBAStarFinder implements Finder {
                                               neighbourIterable, 
                                               pathfindingSettings,
                                               searchState,
-                                              searchStatistics);
+                                              searchMetrics);
                 } catch (HaltRequestedException ex) {
                     return List.of();
                 }
@@ -143,7 +138,7 @@ public final class NBAStarFinder implements Finder {
             GridCellNeighbourIterable iterable,
             PathfindingSettings pathfindingSettings,
             SearchState searchState,
-            SearchStatistics searchStatistics) {
+            SearchMetrics searchMetrics) {
         
         Cell current = open.remove().cell;
         
@@ -152,8 +147,8 @@ public final class NBAStarFinder implements Finder {
         }
         
         closed.add(current);
-        searchStatistics.decrementOpened();
-        searchStatistics.incrementVisited();
+        searchMetrics.decrementOpened();
+        searchMetrics.incrementVisited();
         
         if (!current.getCellType().equals(CellType.SOURCE)) {
             model.setCellType(current, CellType.VISITED);
@@ -165,24 +160,16 @@ public final class NBAStarFinder implements Finder {
                                    >= bestPathCost.value ||
             f.value - h.estimate(current, source) >= bestPathCost.value) {
             // Reject current.
-            searchStatistics.incrementRejected();
+            searchMetrics.incrementRejected();
             model.setCellType(current, CellType.OPENED);
         } else {
             iterable.setStartingCell(current);
             
             for (Cell child : iterable) {
-                if (searchState.haltRequested()) {
+                if (searchState.checkpoint()) {
                     throw new HaltRequestedException();
                 }
                 
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
-                    
-                    if (searchState.haltRequested()) {
-                        throw new HaltRequestedException();
-                    }
-                }
-                
                 if (closed.contains(child)) {
                     continue;
                 }
@@ -209,7 +196,7 @@ public final class NBAStarFinder implements Finder {
                     
                     open.add(hn);
                     
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                     
                     if (distanceb.containsKey(child)) {
                         double pathCost = tentativeDistance 
@@ -244,7 +231,7 @@ public final class NBAStarFinder implements Finder {
             GridCellNeighbourIterable iterable,
             PathfindingSettings pathfindingSettings,
             SearchState searchState,
-            SearchStatistics searchStatistics) {
+            SearchMetrics searchMetrics) {
         
         Cell current = open.remove().cell;
         
@@ -253,8 +240,8 @@ public final class NBAStarFinder implements Finder {
         }
         
         closed.add(current);
-        searchStatistics.decrementOpened();
-        searchStatistics.incrementVisited();
+        searchMetrics.decrementOpened();
+        searchMetrics.incrementVisited();
         
         if (!current.getCellType().equals(CellType.TARGET)) {
             model.setCellType(current, CellType.VISITED);
@@ -266,24 +253,16 @@ public final class NBAStarFinder implements Finder {
                                    >= bestPathCost.value ||
             f.value - h.estimate(current, target) >= bestPathCost.value) {
             // Reject current.
-            searchStatistics.incrementRejected();
+            searchMetrics.incrementRejected();
             model.setCellType(current, CellType.OPENED);
         } else {
             iterable.setStartingCell(current);
             
             for (Cell parent : iterable) {
-                if (searchState.haltRequested()) {
+                if (searchState.checkpoint()) {
                     throw new HaltRequestedException();
                 }
                 
-                while (searchState.pauseRequested()) {
-                    searchSleep(pathfindingSettings);
-                    
-                    if (searchState.haltRequested()) {
-                        throw new HaltRequestedException();
-                    }
-                }
-                
                 if (closed.contains(parent)) {
                     continue;
                 }
@@ -310,7 +289,7 @@ public final class NBAStarFinder implements Finder {
                     
                     open.add(hn);
                     
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                     
                     if (distancea.containsKey(parent)) {
                         double pathCost = tentativeDistance 
@@ -5,7 +5,7 @@ import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
 import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
 import io.github.coderodde.pathfinding.logic.PathfindingSettings;
 import io.github.coderodde.pathfinding.logic.SearchState;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -33,7 +33,7 @@ public final class PEAStarFinder implements Finder {
                                GridCellNeighbourIterable neighbourIterable, 
                                PathfindingSettings ps,
                                SearchState searchState, 
-                               SearchStatistics searchStatistics) {
+                               SearchMetrics searchMetrics) {
     
         Cell source = model.getSourceGridCell();
         Cell target = model.getTargetGridCell();
@@ -57,8 +57,8 @@ public final class PEAStarFinder implements Finder {
             HeapNode heapNode = open.remove();
             Cell cell = heapNode.cell;
             openSet.remove(cell);
-            searchStatistics.decrementOpened();
-            searchStatistics.incrementVisited();
+            searchMetrics.decrementOpened();
+            searchMetrics.incrementVisited();
             
             if (!cell.getCellType().equals(CellType.SOURCE) &&
                 !cell.getCellType().equals(CellType.TARGET)) {
@@ -86,7 +86,7 @@ public final class PEAStarFinder implements Finder {
                     aboveSet.add(child);
                 }
                 
-                searchStatistics.incrementOpened();
+                searchMetrics.incrementOpened();
                 model.setCellType(child, CellType.OPENED);
             }
             
@@ -96,19 +96,11 @@ public final class PEAStarFinder implements Finder {
                 
                 if (!openSet.contains(child) && !closed.contains(child)) {
                     
-                    if (searchState.haltRequested()) {
+                    if (searchState.checkpoint()) {
                         return List.of();
                     }
                     
-                    while (searchState.pauseRequested()) {
-                        searchSleep(ps);
-                        
-                        if (searchState.haltRequested()) {
-                            return List.of();
-                        }
-                    }
-                    
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                     searchSleep(ps);
                     
                     g.put(child, tentativeDistance);
@@ -120,19 +112,11 @@ public final class PEAStarFinder implements Finder {
                 } else if (openSet.contains(child) 
                         && tentativeDistance < g.get(child)) {
                     
-                    if (searchState.haltRequested()) {
+                    if (searchState.checkpoint()) {
                         return List.of();
                     }
                     
-                    while (searchState.pauseRequested()) {
-                        searchSleep(ps);
-                        
-                        if (searchState.haltRequested()) {
-                            return List.of();
-                        }
-                    }
-                    
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                     searchSleep(ps);
                     
                     g.put(child, tentativeDistance);
@@ -142,19 +126,11 @@ public final class PEAStarFinder implements Finder {
                 } else if (closed.contains(child) 
                         && tentativeDistance < g.get(child)) {
                     
-                    if (searchState.haltRequested()) {
+                    if (searchState.checkpoint()) {
                         return List.of();
                     }
                     
-                    while (searchState.pauseRequested()) {
-                        searchSleep(ps);
-                        
-                        if (searchState.haltRequested()) {
-                            return List.of();
-                        }
-                    }
-                    
-                    searchStatistics.incrementOpened();
+                    searchMetrics.incrementOpened();
                     searchSleep(ps);
                     
                     g.put(child, tentativeDistance);
@@ -196,7 +172,7 @@ public final class PEAStarFinder implements Finder {
                     model.setCellType(cell, CellType.OPENED);
                 }
                 
-                searchStatistics.incrementOpened();
+                searchMetrics.incrementOpened();
             }
         }
         
@@ -0,0 +1,583 @@
+package io.github.coderodde.pathfinding.finders;
+
+import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
+import io.github.coderodde.pathfinding.logic.GridNodeExpander;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.SearchState;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.utils.Cell;
+import io.github.coderodde.pathfinding.utils.CellType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class implements the hash-distributed A* (HDA*). Each cell is owned by
+ * exactly one worker thread, chosen by a Zobrist hash of the square region the
+ * cell belongs to. Hashing regions instead of single cells keeps most of the
+ * successors with the worker that generated them. Each worker runs A* over
+ * its own open list and sends the successors owned by other workers to their
+ * inboxes. The inboxes are lock-free {@link ConcurrentLinkedQueue}s, polled
+ * only by their owners.
+ *
+ * The cost of the best path found so far, the incumbent, is shared by all the
+ * workers. A worker whose open list has no cell with an {@code f}-value below
+ * the incumbent goes idle. The search terminates when all the workers are
+ * idle and no message is in flight, at which point the incumbent is optimal
+ * with an admissible heuristic function.
+ *
+ * An idle worker parks until a message arrives, the search terminates or a
+ * short timeout elapses, and parks in {@link SearchState#checkpoint()} while
+ * the search is paused. The workers run in the pool of the
+ * {@link FinderThreads}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.2 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class ParallelAStarFinder implements Finder {
+
+    /**
+     * The side length of the square cell regions hashed to the workers.
+     */
+    private static final int REGION_SIZE = 4;
+
+    /**
+     * The number of expansions after which a worker flushes its local
+     * counters to the shared search metrics.
+     */
+    private static final int STATISTICS_FLUSH_PERIOD = 64;
+
+    private static final long ZOBRIST_SEED = 13L;
+
+    /**
+     * The longest time an idle worker parks before checking the search
+     * state again, in nanoseconds.
+     */
+    private static final long IDLE_PARK_NANOS = 1_000_000L;
+
+    private final int numberOfWorkers;
+
+    public ParallelAStarFinder() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelAStarFinder(int numberOfWorkers) {
+        if (numberOfWorkers < 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The number of workers (%d) is less than 1",
+                            numberOfWorkers));
+        }
+
+        this.numberOfWorkers = numberOfWorkers;
+    }
+
+    public int getNumberOfWorkers() {
+        return numberOfWorkers;
+    }
+
+    @Override
+    public List<Cell> findPath(GridModel model,
+                               GridCellNeighbourIterable neighbourIterable,
+                               PathfindingSettings pathfindingSettings,
+                               SearchState searchState,
+                               SearchMetrics searchMetrics) {
+
+        Cell source = model.getSourceGridCell();
+        Cell target = model.getTargetGridCell();
+
+        if (source.equals(target)) {
+            return List.of(target);
+        }
+
+        SharedState shared = new SharedState(model,
+                                             pathfindingSettings,
+                                             searchState,
+                                             searchMetrics,
+                                             numberOfWorkers);
+
+        Worker[] workers = shared.workers;
+
+        for (int i = 0; i < numberOfWorkers; ++i) {
+            workers[i] = new Worker(i, shared);
+        }
+
+        int sourceIndex = shared.index(source);
+        workers[shared.owner(sourceIndex)].relax(sourceIndex, 0.0, -1);
+
+        List<Future<?>> futures = new ArrayList<>(numberOfWorkers);
+
+        for (Worker worker : workers) {
+            futures.add(FinderThreads.executor().submit(worker));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException ex) {
+            shared.halt();
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException ex) {
+            shared.halt();
+            System.getLogger(ParallelAStarFinder.class.getName())
+                  .log(System.Logger.Level.ERROR,
+                       "A worker of the parallel A* failed",
+                       ex);
+
+            return List.of();
+        }
+
+        if (shared.halted ||
+            shared.getIncumbent() == Double.POSITIVE_INFINITY) {
+            return List.of();
+        }
+
+        List<Cell> path = new ArrayList<>();
+
+        for (int index = shared.index(target);
+                 index != -1;
+                 index = shared.parents[index]) {
+
+            path.add(model.getCell(index % model.getWidth(),
+                                   index / model.getWidth()));
+        }
+
+        return path.reversed();
+    }
+
+    /**
+     * A successor sent to the worker owning it.
+     */
+    private record Message(int cellIndex, double g, int parentIndex) {}
+
+    private record OpenNode(int cellIndex, double g, double f)
+            implements Comparable<OpenNode> {
+
+        @Override
+        public int compareTo(OpenNode other) {
+            return Double.compare(f, other.f);
+        }
+    }
+
+    /**
+     * The state shared by all the workers of a single search.
+     */
+    private static final class SharedState {
+
+        final GridModel model;
+        final PathfindingSettings pathfindingSettings;
+        final SearchState searchState;
+        final SearchMetrics searchMetrics;
+        final HeuristicFunction h;
+        final Cell target;
+        final int targetIndex;
+        final int numberOfWorkers;
+
+        /**
+         * The best known distances and the parents of the cells. Each entry
+         * is read and written only by the worker owning the cell, and read by
+         * the calling thread after all the workers have terminated.
+         */
+        final double[] distances;
+        final int[] parents;
+
+        final long[] zobristX;
+        final long[] zobristY;
+
+        final List<Queue<Message>> inboxes;
+
+        final Worker[] workers;
+
+        /**
+         * The number of busy workers plus the number of messages in flight.
+         * Once it drops to zero, no worker can have any work left.
+         */
+        final AtomicInteger activity;
+
+        /**
+         * The bits of the incumbent cost. Non-negative doubles order the same
+         * way as their bits.
+         */
+        final AtomicLong incumbentBits =
+                new AtomicLong(
+                        Double.doubleToLongBits(Double.POSITIVE_INFINITY));
+
+        volatile boolean terminated;
+        volatile boolean halted;
+
+        SharedState(GridModel model,
+                    PathfindingSettings pathfindingSettings,
+                    SearchState searchState,
+                    SearchMetrics searchMetrics,
+                    int numberOfWorkers) {
+
+            this.model = model;
+            this.pathfindingSettings = pathfindingSettings;
+            this.searchState = searchState;
+            this.searchMetrics = searchMetrics;
+            this.h = pathfindingSettings.getHeuristicFunction();
+            this.target = model.getTargetGridCell();
+            this.targetIndex = index(target);
+            this.numberOfWorkers = numberOfWorkers;
+            this.activity = new AtomicInteger(numberOfWorkers);
+
+            int cells = model.getWidth() * model.getHeight();
+            this.distances = new double[cells];
+            this.parents = new int[cells];
+            Arrays.fill(distances, Double.POSITIVE_INFINITY);
+
+            Random random = new Random(ZOBRIST_SEED);
+            this.zobristX = new long[model.getWidth()  / REGION_SIZE + 1];
+            this.zobristY = new long[model.getHeight() / REGION_SIZE + 1];
+
+            for (int i = 0; i < zobristX.length; ++i) {
+                zobristX[i] = random.nextLong();
+            }
+
+            for (int i = 0; i < zobristY.length; ++i) {
+                zobristY[i] = random.nextLong();
+            }
+
+            this.workers = new Worker[numberOfWorkers];
+            this.inboxes = new ArrayList<>(numberOfWorkers);
+
+            for (int i = 0; i < numberOfWorkers; ++i) {
+                inboxes.add(new ConcurrentLinkedQueue<>());
+            }
+        }
+
+        int index(Cell cell) {
+            return cell.gety() * model.getWidth() + cell.getx();
+        }
+
+        int owner(int cellIndex) {
+            int x = cellIndex % model.getWidth();
+            int y = cellIndex / model.getWidth();
+            long hash = zobristX[x / REGION_SIZE] ^ zobristY[y / REGION_SIZE];
+            return (int) Long.remainderUnsigned(hash, numberOfWorkers);
+        }
+
+        double getIncumbent() {
+            return Double.longBitsToDouble(incumbentBits.get());
+        }
+
+        void offerIncumbent(double cost) {
+            long bits = Double.doubleToLongBits(cost);
+            long current;
+
+            do {
+                current = incumbentBits.get();
+
+                if (current <= bits) {
+                    return;
+                }
+            } while (!incumbentBits.compareAndSet(current, bits));
+        }
+
+        void releaseActivity() {
+            if (activity.decrementAndGet() == 0) {
+                terminated = true;
+                wakeUpAll();
+            }
+        }
+
+        void halt() {
+            halted = true;
+            wakeUpAll();
+        }
+
+        /**
+         * Sends a successor to the worker owning it, waking the worker up if
+         * idle.
+         */
+        void send(int owner, Message message) {
+            activity.incrementAndGet();
+            inboxes.get(owner).add(message);
+
+            Worker worker = workers[owner];
+
+            if (worker.idle) {
+                LockSupport.unpark(worker.thread);
+            }
+        }
+
+        private void wakeUpAll() {
+            for (Worker worker : workers) {
+                LockSupport.unpark(worker.thread);
+            }
+        }
+    }
+
+    private static final class Worker implements Runnable {
+
+        private final int id;
+        private final SharedState shared;
+        private final Queue<Message> inbox;
+        private final Queue<OpenNode> open = new PriorityQueue<>();
+        private final GridCellNeighbourIterable iterable;
+        private final Cell source;
+
+        private int openedDelta;
+        private int visitedDelta;
+        private int expansionsSinceFlush;
+
+        /**
+         * The thread running this worker, or {@code null} before it starts.
+         */
+        volatile Thread thread;
+
+        /**
+         * Set while this worker is about to park for the lack of messages.
+         */
+        volatile boolean idle;
+
+        Worker(int id, SharedState shared) {
+            this.id = id;
+            this.shared = shared;
+            this.inbox = shared.inboxes.get(id);
+            this.source = shared.model.getSourceGridCell();
+
+            // The neighbour iterables are not thread-safe:
+            this.iterable =
+                    new GridCellNeighbourIterable(
+                            shared.model,
+                            new GridNodeExpander(shared.model,
+                                                 shared.pathfindingSettings),
+                            shared.pathfindingSettings);
+        }
+
+        @Override
+        public void run() {
+            thread = Thread.currentThread();
+
+            try {
+                search();
+            } catch (Throwable throwable) {
+                // Stop the other workers, or they would wait for this one
+                // forever:
+                shared.halt();
+                throw throwable;
+            } finally {
+                flushStatistics();
+            }
+        }
+
+        private void search() {
+            SearchState searchState = shared.searchState;
+
+            while (!shared.terminated && !shared.halted) {
+                if (searchState.checkpoint()) {
+                    shared.halt();
+                    return;
+                }
+
+                drainInbox();
+
+                OpenNode node = pollOpen();
+
+                if (node == null) {
+                    if (!waitForMessages()) {
+                        return;
+                    }
+
+                    continue;
+                }
+
+                expand(node);
+            }
+        }
+
+        /**
+         * Processes all the messages currently in the inbox. The worker must
+         * be busy.
+         */
+        private void drainInbox() {
+            Message message;
+
+            while ((message = inbox.poll()) != null) {
+                relax(message.cellIndex(),
+                      message.g(),
+                      message.parentIndex());
+
+                shared.releaseActivity();
+            }
+        }
+
+        /**
+         * Returns the open node with the lowest {@code f}-value, or
+         * {@code null} if there is no open node below the incumbent.
+         */
+        private OpenNode pollOpen() {
+            double incumbent = shared.getIncumbent();
+
+            while (!open.isEmpty()) {
+                OpenNode node = open.remove();
+                --openedDelta;
+
+                if (node.f() >= incumbent) {
+                    // The incumbent never grows, so the rest is useless too:
+                    openedDelta -= open.size();
+                    open.clear();
+                    return null;
+                }
+
+                if (node.g() == shared.distances[node.cellIndex()]) {
+                    return node;
+                }
+
+                // Otherwise, the node is stale.
+            }
+
+            return null;
+        }
+
+        /**
+         * Idles until a message arrives or the search terminates. Parks
+         * between the polls instead of spinning.
+         *
+         * @return {@code true} if a message arrived.
+         */
+        private boolean waitForMessages() {
+            shared.releaseActivity();
+
+            while (!shared.terminated && !shared.halted) {
+                if (shared.searchState.checkpoint()) {
+                    shared.halt();
+                    return false;
+                }
+
+                Message message = inbox.poll();
+
+                if (message != null) {
+                    // Become busy before releasing the message so that the
+                    // activity does not drop to zero in between:
+                    shared.activity.incrementAndGet();
+
+                    relax(message.cellIndex(),
+                          message.g(),
+                          message.parentIndex());
+
+                    shared.releaseActivity();
+                    return true;
+                }
+
+                // Announce idleness before checking the inbox again, so that
+                // a sender either sees the flag or its message is seen here:
+                idle = true;
+
+                if (inbox.isEmpty() && !shared.terminated && !shared.halted) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+
+                idle = false;
+            }
+
+            return false;
+        }
+
+        private void expand(OpenNode node) {
+            GridModel model = shared.model;
+            PathfindingSettings ps = shared.pathfindingSettings;
+            Cell current = model.getCell(node.cellIndex() % model.getWidth(),
+                                         node.cellIndex() / model.getWidth());
+
+            if (!current.equals(source)) {
+                model.setCellType(current, CellType.VISITED);
+            }
+
+            ++visitedDelta;
+
+            if (++expansionsSinceFlush == STATISTICS_FLUSH_PERIOD) {
+                flushStatistics();
+            }
+
+            iterable.setStartingCell(current);
+
+            for (Cell child : iterable) {
+                double g = node.g() + ps.getWeight(current, child);
+
+                if (g + shared.h.estimate(child, shared.target) >=
+                        shared.getIncumbent()) {
+                    continue;
+                }
+
+                int childIndex = shared.index(child);
+                int owner = shared.owner(childIndex);
+
+                if (owner == id) {
+                    relax(childIndex, g, node.cellIndex());
+                } else {
+                    shared.send(owner,
+                                new Message(childIndex, g, node.cellIndex()));
+                }
+            }
+        }
+
+        /**
+         * Offers a new distance to a cell owned by this worker.
+         */
+        void relax(int cellIndex, double g, int parentIndex) {
+            if (g >= shared.distances[cellIndex]) {
+                return;
+            }
+
+            shared.distances[cellIndex] = g;
+            shared.parents[cellIndex] = parentIndex;
+
+            if (cellIndex == shared.targetIndex) {
+                shared.offerIncumbent(g);
+                return;
+            }
+
+            GridModel model = shared.model;
+            Cell cell = model.getCell(cellIndex % model.getWidth(),
+                                      cellIndex / model.getWidth());
+
+            double f = g + shared.h.estimate(cell, shared.target);
+
+            if (f >= shared.getIncumbent()) {
+                return;
+            }
+
+            open.add(new OpenNode(cellIndex, g, f));
+            ++openedDelta;
+
+            if (!cell.equals(source)) {
+                model.setCellType(cell, CellType.OPENED);
+            }
+
+            searchSleep(shared.pathfindingSettings);
+        }
+
+        private void flushStatistics() {
+            expansionsSinceFlush = 0;
+
+            if (openedDelta == 0 && visitedDelta == 0) {
+                return;
+            }
+
+            synchronized (shared.searchMetrics) {
+                shared.searchMetrics.addToOpened(openedDelta);
+                shared.searchMetrics.addToVisited(visitedDelta);
+            }
+
+            openedDelta = 0;
+            visitedDelta = 0;
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package io.github.coderodde.pathfinding.finders;
+
+import static io.github.coderodde.pathfinding.finders.Finder.searchSleep;
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
+import io.github.coderodde.pathfinding.logic.GridNodeExpander;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.SearchState;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.utils.Cell;
+import io.github.coderodde.pathfinding.utils.CellType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This class implements the parallel bidirectional search. The forward search
+ * runs on the calling thread, the backward search in the pool of the 
+ * {@link FinderThreads}.
+ * With a heuristic function, this is the parallel NBA* (PNBA*) by Rios and
+ * Chaimowicz; without, it is the parallel bidirectional Dijkstra's algorithm.
+ *
+ * Each direction publishes its distances in a shared array. Whenever a
+ * direction improves the distance of a cell, it reads the distance of the
+ * opposite direction to the same cell and, if the cell was reached by both,
+ * offers the sum as the new incumbent. Since both the writes and the reads
+ * are volatile, at least one of the two directions sees the meeting. The
+ * incumbent is updated by compare-and-set.
+ *
+ * Each direction also publishes the lowest {@code f}-value of its open list.
+ * A direction stops as soon as its lowest {@code f}-value reaches the
+ * incumbent, and halts the opposite direction.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class ParallelBidirectionalFinder implements Finder {
+
+    private static final int STATISTICS_FLUSH_PERIOD = 64;
+
+    /**
+     * If set to {@code false}, the heuristic function is ignored.
+     */
+    private final boolean useHeuristic;
+
+    public ParallelBidirectionalFinder() {
+        this(true);
+    }
+
+    public ParallelBidirectionalFinder(boolean useHeuristic) {
+        this.useHeuristic = useHeuristic;
+    }
+
+    public boolean usesHeuristic() {
+        return useHeuristic;
+    }
+
+    @Override
+    public List<Cell> findPath(GridModel model,
+                               GridCellNeighbourIterable neighbourIterable,
+                               PathfindingSettings pathfindingSettings,
+                               SearchState searchState,
+                               SearchMetrics searchMetrics) {
+
+        Cell source = model.getSourceGridCell();
+        Cell target = model.getTargetGridCell();
+
+        if (source.equals(target)) {
+            return List.of(target);
+        }
+
+        SharedState shared = new SharedState(searchState);
+
+        Direction forward =
+                new Direction(model,
+                              neighbourIterable,
+                              pathfindingSettings,
+                              searchMetrics,
+                              shared,
+                              source,
+                              target);
+
+        Direction backward =
+                new Direction(model,
+                              new GridCellNeighbourIterable(
+                                      model,
+                                      new GridNodeExpander(model,
+                                                           pathfindingSettings),
+                                      pathfindingSettings),
+                              pathfindingSettings,
+                              searchMetrics,
+                              shared,
+                              target,
+                              source);
+
+        forward .opposite = backward;
+        backward.opposite = forward;
+
+        Future<?> backwardFuture = FinderThreads.executor().submit(backward);
+        
+        forward.run();
+
+        try {
+            backwardFuture.get();
+        } catch (InterruptedException ex) {
+            shared.finished = true;
+            Thread.currentThread().interrupt();
+            return List.of();
+        } catch (ExecutionException ex) {
+            // The failed backward direction has stopped the forward one:
+            System.getLogger(ParallelBidirectionalFinder.class.getName())
+                  .log(System.Logger.Level.ERROR,
+                       "The backward search failed",
+                       ex);
+
+            return List.of();
+        }
+
+        Meeting meeting = shared.meeting.get();
+
+        if (shared.halted || meeting.cellIndex() == -1) {
+            return List.of();
+        }
+
+        List<Cell> path = new ArrayList<>();
+
+        for (int index = meeting.cellIndex();
+                 index != -1;
+                 index = forward.parents[index]) {
+
+            path.add(forward.cell(index));
+        }
+
+        path = new ArrayList<>(path.reversed());
+
+        for (int index = backward.parents[meeting.cellIndex()];
+                 index != -1;
+                 index = backward.parents[index]) {
+
+            path.add(backward.cell(index));
+        }
+
+        return path;
+    }
+
+    /**
+     * The best known meeting cell and the cost of the path through it.
+     */
+    private record Meeting(double cost, int cellIndex) {}
+
+    private record OpenNode(int cellIndex, double g, double f)
+            implements Comparable<OpenNode> {
+
+        @Override
+        public int compareTo(OpenNode other) {
+            return Double.compare(f, other.f);
+        }
+    }
+
+    private static final class SharedState {
+
+        final SearchState searchState;
+
+        final AtomicReference<Meeting> meeting =
+                new AtomicReference<>(
+                        new Meeting(Double.POSITIVE_INFINITY, -1));
+
+        volatile boolean finished;
+        volatile boolean halted;
+
+        SharedState(SearchState searchState) {
+            this.searchState = searchState;
+        }
+
+        double getIncumbent() {
+            return meeting.get().cost();
+        }
+
+        void offerMeeting(double cost, int cellIndex) {
+            Meeting current;
+            Meeting candidate = new Meeting(cost, cellIndex);
+
+            do {
+                current = meeting.get();
+
+                if (current.cost() <= cost) {
+                    return;
+                }
+            } while (!meeting.compareAndSet(current, candidate));
+        }
+    }
+
+    /**
+     * Implements one direction of the search.
+     */
+    private final class Direction implements Runnable {
+
+        private final GridModel model;
+        private final GridCellNeighbourIterable iterable;
+        private final PathfindingSettings pathfindingSettings;
+        private final SearchMetrics searchMetrics;
+        private final SharedState shared;
+        private final HeuristicFunction h;
+        private final Cell origin;
+        private final Cell goal;
+
+        /**
+         * The distances of the cells from {@code origin} as double bits.
+         * Written only by this direction, read by both.
+         */
+        private final AtomicLongArray distances;
+
+        private final int[] parents;
+        private final boolean[] closed;
+        private final Queue<OpenNode> open = new PriorityQueue<>();
+
+        /**
+         * The lowest {@code f}-value in the open list. Never decreases with a
+         * consistent heuristic function, so a stale value read by the opposite
+         * direction is still a valid lower bound.
+         */
+        private volatile double lowestF;
+
+        private Direction opposite;
+
+        private int openedDelta;
+        private int visitedDelta;
+        private int rejectedDelta;
+        private int expansionsSinceFlush;
+
+        Direction(GridModel model,
+                  GridCellNeighbourIterable iterable,
+                  PathfindingSettings pathfindingSettings,
+                  SearchMetrics searchMetrics,
+                  SharedState shared,
+                  Cell origin,
+                  Cell goal) {
+
+            this.model = model;
+            this.iterable = iterable;
+            this.pathfindingSettings = pathfindingSettings;
+            this.searchMetrics = searchMetrics;
+            this.shared = shared;
+            this.h = pathfindingSettings.getHeuristicFunction();
+            this.origin = origin;
+            this.goal = goal;
+
+            int cells = model.getWidth() * model.getHeight();
+            this.distances = new AtomicLongArray(cells);
+            this.parents = new int[cells];
+            this.closed = new boolean[cells];
+
+            long infinity = Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+
+            for (int i = 0; i < cells; ++i) {
+                distances.setPlain(i, infinity);
+            }
+
+            int originIndex = index(origin);
+            double originF = estimate(origin);
+            distances.setPlain(originIndex, Double.doubleToLongBits(0.0));
+            parents[originIndex] = -1;
+            open.add(new OpenNode(originIndex, 0.0, originF));
+            lowestF = originF;
+            ++openedDelta;
+        }
+
+        @Override
+        public void run() {
+            try {
+                search();
+            } finally {
+                // Stops the opposite direction too, also on failure:
+                shared.finished = true;
+                flushStatistics();
+            }
+        }
+
+        private void search() {
+            SearchState searchState = shared.searchState;
+
+            while (!shared.finished) {
+                if (searchState.checkpoint()) {
+                    shared.halted = true;
+                    return;
+                }
+
+                OpenNode node = open.poll();
+
+                if (node == null) {
+                    return;
+                }
+
+                --openedDelta;
+
+                if (closed[node.cellIndex()] ||
+                    node.g() > distance(node.cellIndex())) {
+                    // Stale node:
+                    continue;
+                }
+
+                lowestF = node.f();
+
+                if (node.f() >= shared.getIncumbent()) {
+                    return;
+                }
+
+                if (!useHeuristic &&
+                    node.g() + opposite.lowestF >= shared.getIncumbent()) {
+                    // The stopping criterion of the bidirectional Dijkstra:
+                    return;
+                }
+
+                closed[node.cellIndex()] = true;
+                Cell current = cell(node.cellIndex());
+
+                // The NBA* rejection test:
+                if (node.g() + opposite.lowestF - opposite.estimate(current) >=
+                        shared.getIncumbent()) {
+                    ++rejectedDelta;
+                    continue;
+                }
+
+                expand(current, node.g());
+            }
+        }
+
+        private void expand(Cell current, double currentDistance) {
+            if (!current.equals(origin)) {
+                model.setCellType(current, CellType.VISITED);
+            }
+
+            ++visitedDelta;
+
+            if (++expansionsSinceFlush == STATISTICS_FLUSH_PERIOD) {
+                flushStatistics();
+            }
+
+            int currentIndex = index(current);
+            iterable.setStartingCell(current);
+
+            for (Cell child : iterable) {
+                int childIndex = index(child);
+
+                if (closed[childIndex]) {
+                    continue;
+                }
+
+                double tentativeDistance =
+                        currentDistance +
+                        pathfindingSettings.getWeight(current, child);
+
+                if (tentativeDistance >= distance(childIndex)) {
+                    continue;
+                }
+
+                distances.set(childIndex,
+                              Double.doubleToLongBits(tentativeDistance));
+
+                parents[childIndex] = currentIndex;
+
+                // The meeting test. The volatile write above and the volatile
+                // read below guarantee that at least one direction sees the
+                // cell reached by both:
+                double oppositeDistance = opposite.distance(childIndex);
+
+                if (oppositeDistance != Double.POSITIVE_INFINITY) {
+                    shared.offerMeeting(tentativeDistance + oppositeDistance,
+                                        childIndex);
+                }
+
+                double f = tentativeDistance + estimate(child);
+
+                if (f >= shared.getIncumbent()) {
+                    continue;
+                }
+
+                open.add(new OpenNode(childIndex, tentativeDistance, f));
+                ++openedDelta;
+
+                if (!child.getCellType().equals(CellType.SOURCE) &&
+                    !child.getCellType().equals(CellType.TARGET)) {
+                    model.setCellType(child, CellType.OPENED);
+                }
+
+                searchSleep(pathfindingSettings);
+            }
+        }
+
+        double distance(int cellIndex) {
+            return Double.longBitsToDouble(distances.get(cellIndex));
+        }
+
+        double estimate(Cell cell) {
+            return useHeuristic ? h.estimate(cell, goal) : 0.0;
+        }
+
+        Cell cell(int cellIndex) {
+            return model.getCell(cellIndex % model.getWidth(),
+                                 cellIndex / model.getWidth());
+        }
+
+        private int index(Cell cell) {
+            return cell.gety() * model.getWidth() + cell.getx();
+        }
+
+        private void flushStatistics() {
+            expansionsSinceFlush = 0;
+
+            synchronized (searchMetrics) {
+                searchMetrics.addToOpened(openedDelta);
+                searchMetrics.addToVisited(visitedDelta);
+
+                for (int i = 0; i < rejectedDelta; ++i) {
+                    searchMetrics.incrementRejected();
+                }
+            }
+
+            openedDelta = 0;
+            visitedDelta = 0;
+            rejectedDelta = 0;
+        }
+    }
+}
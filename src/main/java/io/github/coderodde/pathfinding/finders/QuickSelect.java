@@ -0,0 +1,164 @@
+package io.github.coderodde.pathfinding.finders;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * This class implements the partial selection of the {@code k} smallest 
+ * elements of a list. Unlike sorting, runs in expected linear time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class QuickSelect {
+
+    /**
+     * An element paired with its key and its original position. Ordering by
+     * the position on equal keys makes the selection stable.
+     */
+    private record Ranked<T>(T element, double key, int position) {}
+    
+    private static final Comparator<Ranked<?>> RANKED_ORDER = (a, b) -> {
+        int cmp = Double.compare(a.key(), b.key());
+        return cmp != 0 ? cmp : Integer.compare(a.position(), b.position());
+    };
+    
+    private QuickSelect() {
+        
+    }
+    
+    /**
+     * Rearranges {@code list} such that its first {@code k} elements are the 
+     * {@code k} elements with the smallest keys, in ascending order of the 
+     * keys. The elements with equal keys keep their relative order, so that
+     * the first {@code k} elements are the same as after a stable sort. Runs
+     * in expected {@code O(n + k log k)} time and computes each key once.
+     * 
+     * @param <T>  the element type.
+     * @param list the list to rearrange.
+     * @param k    the number of smallest elements to select.
+     * @param key  the key function.
+     */
+    static <T> void selectSorted(List<T> list, 
+                                 int k,
+                                 ToDoubleFunction<? super T> key) {
+        
+        if (k <= 0) {
+            return;
+        }
+        
+        List<Ranked<T>> ranked = new ArrayList<>(list.size());
+        
+        for (int i = 0; i < list.size(); ++i) {
+            T element = list.get(i);
+            ranked.add(new Ranked<>(element, key.applyAsDouble(element), i));
+        }
+        
+        select(ranked, k, RANKED_ORDER);
+        
+        int selected = Math.min(k, ranked.size());
+        ranked.subList(0, selected).sort(RANKED_ORDER);
+        
+        for (int i = 0; i < ranked.size(); ++i) {
+            list.set(i, ranked.get(i).element());
+        }
+    }
+    
+    /**
+     * Rearranges {@code list} such that its first {@code k} elements are the 
+     * {@code k} smallest elements with respect to {@code comparator}. The 
+     * order within the first {@code k} elements is not specified.
+     * 
+     * @param <T>        the element type.
+     * @param list       the list to rearrange.
+     * @param k          the number of smallest elements to select.
+     * @param comparator the element comparator.
+     */
+    static <T> void select(List<T> list, 
+                           int k,
+                           Comparator<? super T> comparator) {
+        
+        int left  = 0;
+        int right = list.size() - 1;
+        
+        if (k <= 0 || k >= list.size()) {
+            return;
+        }
+        
+        // We need the elements at indices 0, 1, ..., k - 1:
+        int kth = k - 1;
+        
+        while (left < right) {
+            int pivotIndex = partition(list, 
+                                       left, 
+                                       right, 
+                                       medianOfThree(list,
+                                                     left,
+                                                     right, 
+                                                     comparator),
+                                       comparator);
+            
+            if (pivotIndex == kth) {
+                return;
+            } else if (pivotIndex < kth) {
+                left = pivotIndex + 1;
+            } else {
+                right = pivotIndex - 1;
+            }
+        }
+    }
+    
+    private static <T> int partition(List<T> list,
+                                     int left,
+                                     int right,
+                                     int pivotIndex,
+                                     Comparator<? super T> comparator) {
+        
+        T pivot = list.get(pivotIndex);
+        swap(list, pivotIndex, right);
+        int storeIndex = left;
+        
+        for (int i = left; i < right; ++i) {
+            if (comparator.compare(list.get(i), pivot) < 0) {
+                swap(list, i, storeIndex++);
+            }
+        }
+        
+        swap(list, storeIndex, right);
+        return storeIndex;
+    }
+    
+    private static <T> int medianOfThree(List<T> list,
+                                         int left,
+                                         int right,
+                                         Comparator<? super T> comparator) {
+        
+        int middle = (left + right) >>> 1;
+        T a = list.get(left);
+        T b = list.get(middle);
+        T c = list.get(right);
+        
+        if (comparator.compare(a, b) < 0) {
+            if (comparator.compare(b, c) < 0) {
+                return middle;
+            }
+            
+            return comparator.compare(a, c) < 0 ? right : left;
+        }
+        
+        if (comparator.compare(a, c) < 0) {
+            return left;
+        }
+        
+        return comparator.compare(b, c) < 0 ? right : middle;
+    }
+    
+    private static <T> void swap(List<T> list, int i, int j) {
+        T tmp = list.get(i);
+        list.set(i, list.get(j));
+        list.set(j, tmp);
+    }
+}
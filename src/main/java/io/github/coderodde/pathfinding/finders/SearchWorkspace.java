@@ -0,0 +1,215 @@
+package io.github.coderodde.pathfinding.finders;
+
+import java.util.Arrays;
+
+/**
+ * This class holds the reusable arrays of the snapshot queries: the 
+ * distances, the parents, the closed set and the open list. Instead of 
+ * clearing the arrays between the queries, each query gets a new stamp, and 
+ * the entries with an older stamp count as unset.
+ * 
+ * A workspace may be used by one thread at a time. Reusing a workspace saves
+ * allocating and clearing the arrays on each query.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class SearchWorkspace {
+    
+    private double[] distances = new double[0];
+    private int[] parents = new int[0];
+    private int[] stamps = new int[0];
+    private int[] closedStamps = new int[0];
+    private int stamp = 0;
+    private int expansions;
+    
+    /**
+     * The open list as a binary heap of cell indices ordered by the keys.
+     * May contain stale entries.
+     */
+    private int[] heapCells = new int[16];
+    private double[] heapKeys = new double[16];
+    private int heapSize;
+    
+    /**
+     * The FIFO queue of the breadth-first search.
+     */
+    private int[] queue = new int[0];
+    
+    /**
+     * Prepares this workspace for a new query over {@code cells} cells.
+     * 
+     * @param cells the number of cells in the grid.
+     */
+    void begin(int cells) {
+        if (stamps.length < cells) {
+            distances    = new double[cells];
+            parents      = new int[cells];
+            stamps       = new int[cells];
+            closedStamps = new int[cells];
+            queue        = new int[cells];
+            stamp = 0;
+        }
+        
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            Arrays.fill(closedStamps, 0);
+            stamp = 1;
+        }
+        
+        heapSize = 0;
+        expansions = 0;
+    }
+    
+    /**
+     * Returns the number of the cells expanded since the last query began or
+     * since {@link #resetExpansions()}, whichever was later.
+     * 
+     * @return the number of the expanded cells.
+     */
+    public int getExpansions() {
+        return expansions;
+    }
+    
+    /**
+     * Resets the number of the expanded cells. A query answered without a 
+     * search, such as one with a blocked endpoint or one served from a 
+     * cache, does not begin this workspace, and so would leave the count of
+     * the previous query in place.
+     */
+    public void resetExpansions() {
+        expansions = 0;
+    }
+    
+    double getDistance(int cell) {
+        return stamps[cell] == stamp ? 
+               distances[cell] : 
+               Double.POSITIVE_INFINITY;
+    }
+    
+    boolean isReached(int cell) {
+        return stamps[cell] == stamp;
+    }
+    
+    void setDistance(int cell, double distance, int parent) {
+        stamps[cell] = stamp;
+        distances[cell] = distance;
+        parents[cell] = parent;
+    }
+    
+    boolean isClosed(int cell) {
+        return closedStamps[cell] == stamp;
+    }
+    
+    /**
+     * Marks {@code cell} as expanded.
+     */
+    void close(int cell) {
+        closedStamps[cell] = stamp;
+        ++expansions;
+    }
+    
+    int[] getQueue() {
+        return queue;
+    }
+    
+    boolean isOpenEmpty() {
+        return heapSize == 0;
+    }
+    
+    /**
+     * Returns the lowest key in the open list, which must not be empty.
+     * 
+     * @return the lowest key.
+     */
+    double peekKey() {
+        return heapKeys[0];
+    }
+    
+    void push(int cell, double key) {
+        if (heapSize == heapCells.length) {
+            heapCells = Arrays.copyOf(heapCells, 2 * heapSize);
+            heapKeys  = Arrays.copyOf(heapKeys,  2 * heapSize);
+        }
+        
+        int i = heapSize++;
+        
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            
+            if (heapKeys[parent] <= key) {
+                break;
+            }
+            
+            heapCells[i] = heapCells[parent];
+            heapKeys [i] = heapKeys [parent];
+            i = parent;
+        }
+        
+        heapCells[i] = cell;
+        heapKeys [i] = key;
+    }
+    
+    /**
+     * Removes and returns the cell with the lowest key.
+     * 
+     * @return the cell index.
+     */
+    int pop() {
+        int top = heapCells[0];
+        int cell = heapCells[--heapSize];
+        double key = heapKeys[heapSize];
+        int i = 0;
+        
+        while (true) {
+            int child = 2 * i + 1;
+            
+            if (child >= heapSize) {
+                break;
+            }
+            
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) {
+                ++child;
+            }
+            
+            if (key <= heapKeys[child]) {
+                break;
+            }
+            
+            heapCells[i] = heapCells[child];
+            heapKeys [i] = heapKeys [child];
+            i = child;
+        }
+        
+        if (heapSize > 0) {
+            heapCells[i] = cell;
+            heapKeys [i] = key;
+        }
+        
+        return top;
+    }
+    
+    /**
+     * Returns the cell indices on the parent chain from the query source to
+     * {@code cell}.
+     * 
+     * @param cell the last cell of the path.
+     * @return the path.
+     */
+    int[] tracebackPath(int cell) {
+        int length = 0;
+        
+        for (int c = cell; c != -1; c = parents[c]) {
+            ++length;
+        }
+        
+        int[] path = new int[length];
+        
+        for (int c = cell; c != -1; c = parents[c]) {
+            path[--length] = c;
+        }
+        
+        return path;
+    }
+}
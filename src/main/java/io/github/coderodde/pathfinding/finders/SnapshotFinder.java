@@ -0,0 +1,63 @@
+package io.github.coderodde.pathfinding.finders;
+
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+
+/**
+ * This interface defines the API for the finders answering path queries over
+ * immutable grid snapshots. Unlike 
+ * {@link Finder#findPath(io.github.coderodde.pathfinding.model.GridModel, 
+ * io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable, 
+ * io.github.coderodde.pathfinding.logic.PathfindingSettings, 
+ * io.github.coderodde.pathfinding.logic.SearchState, 
+ * io.github.coderodde.pathfinding.logic.SearchMetrics)}, a snapshot query 
+ * does not read nor modify any grid model, and may be run from many threads
+ * concurrently. The services running the snapshot queries take the finders 
+ * of this type only.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public interface SnapshotFinder {
+    
+    /**
+     * Searches for a path from the cell with the index {@code source} to the 
+     * cell with the index {@code target} in {@code snapshot}.
+     * 
+     * @param snapshot     the grid snapshot.
+     * @param source       the index of the source cell.
+     * @param target       the index of the target cell.
+     * @param queryOptions the query options.
+     * @return the cell indices of the path, or an empty array if there is no
+     *         path.
+     */
+    public default int[] findPath(GridSnapshot snapshot,
+                                  int source,
+                                  int target,
+                                  QueryOptions queryOptions) {
+        return findPath(snapshot, 
+                        source,
+                        target,
+                        queryOptions, 
+                        new SearchWorkspace());
+    }
+    
+    /**
+     * Same as {@link #findPath(GridSnapshot, int, int, QueryOptions)}, but 
+     * reuses the arrays of {@code workspace}.
+     * 
+     * @param snapshot     the grid snapshot.
+     * @param source       the index of the source cell.
+     * @param target       the index of the target cell.
+     * @param queryOptions the query options.
+     * @param workspace    the search workspace, used by one thread at a time.
+     * @return the cell indices of the path, or an empty array if there is no
+     *         path.
+     */
+    public int[] findPath(GridSnapshot snapshot,
+                          int source,
+                          int target,
+                          QueryOptions queryOptions,
+                          SearchWorkspace workspace);
+}
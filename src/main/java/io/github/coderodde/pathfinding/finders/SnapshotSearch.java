@@ -0,0 +1,223 @@
+package io.github.coderodde.pathfinding.finders;
+
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+
+/**
+ * This class implements the searches behind 
+ * {@link SnapshotFinder#findPath(GridSnapshot, int, int, QueryOptions, 
+ * SearchWorkspace)}.
+ * The searches work on the cell indices only, and keep all their state in the
+ * workspace, so that any number of them may run concurrently on the same 
+ * snapshot.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class SnapshotSearch {
+    
+    static final int[] NO_PATH = new int[0];
+    
+    /**
+     * The coordinate deltas of the moves. The first four are orthogonal, the
+     * rest diagonal.
+     */
+    static final int[] DX = { -1, 0, 1, 0, -1,  1, -1, 1 };
+    static final int[] DY = { 0, -1, 0, 1, -1, -1,  1, 1 };
+    
+    private SnapshotSearch() {
+        
+    }
+    
+    /**
+     * Runs A* from {@code source} to {@code target}. Without the heuristic,
+     * runs the Dijkstra's algorithm.
+     */
+    static int[] aStar(GridSnapshot snapshot,
+                       int source,
+                       int target,
+                       QueryOptions queryOptions,
+                       boolean useHeuristic,
+                       SearchWorkspace workspace) {
+        
+        checkQuery(snapshot, source, target);
+        
+        if (!isWalkable(snapshot, source) || !isWalkable(snapshot, target)) {
+            return NO_PATH;
+        }
+        
+        int width = snapshot.getWidth();
+        int targetX = target % width;
+        int targetY = target / width;
+        HeuristicFunction h = queryOptions.getHeuristicFunction();
+        int moves = queryOptions.allowDiagonals() ? 8 : 4;
+        
+        workspace.begin(snapshot.getNumberOfCells());
+        workspace.setDistance(source, 0.0, -1);
+        workspace.push(source, 0.0);
+        
+        while (!workspace.isOpenEmpty()) {
+            int current = workspace.pop();
+            
+            if (workspace.isClosed(current)) {
+                continue;
+            }
+            
+            if (current == target) {
+                return workspace.tracebackPath(target);
+            }
+            
+            workspace.close(current);
+            
+            int x = current % width;
+            int y = current / width;
+            double distance = workspace.getDistance(current);
+            
+            for (int move = 0; move < moves; ++move) {
+                if (!canMove(snapshot, queryOptions, x, y, move)) {
+                    continue;
+                }
+                
+                int childX = x + DX[move];
+                int childY = y + DY[move];
+                int child = childY * width + childX;
+                
+                if (workspace.isClosed(child)) {
+                    continue;
+                }
+                
+                double tentativeDistance = 
+                        distance + 
+                        (move < 4 ? 1.0 : queryOptions.getDiagonalWeight());
+                
+                if (workspace.getDistance(child) > tentativeDistance) {
+                    workspace.setDistance(child, tentativeDistance, current);
+                    
+                    double f = tentativeDistance;
+                    
+                    if (useHeuristic) {
+                        f += h.estimate(targetX - childX, targetY - childY);
+                    }
+                    
+                    workspace.push(child, f);
+                }
+            }
+        }
+        
+        return NO_PATH;
+    }
+    
+    /**
+     * Runs the breadth-first search from {@code source} to {@code target}.
+     * Minimizes the number of moves.
+     */
+    static int[] breadthFirstSearch(GridSnapshot snapshot,
+                                    int source,
+                                    int target,
+                                    QueryOptions queryOptions,
+                                    SearchWorkspace workspace) {
+        
+        checkQuery(snapshot, source, target);
+        
+        if (!isWalkable(snapshot, source) || !isWalkable(snapshot, target)) {
+            return NO_PATH;
+        }
+        
+        int width = snapshot.getWidth();
+        int moves = queryOptions.allowDiagonals() ? 8 : 4;
+        
+        workspace.begin(snapshot.getNumberOfCells());
+        workspace.setDistance(source, 0.0, -1);
+        
+        int[] queue = workspace.getQueue();
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        
+        while (head < tail) {
+            int current = queue[head++];
+            
+            if (current == target) {
+                return workspace.tracebackPath(target);
+            }
+            
+            workspace.close(current);
+            
+            int x = current % width;
+            int y = current / width;
+            double distance = workspace.getDistance(current);
+            
+            for (int move = 0; move < moves; ++move) {
+                if (!canMove(snapshot, queryOptions, x, y, move)) {
+                    continue;
+                }
+                
+                int child = (y + DY[move]) * width + (x + DX[move]);
+                
+                if (!workspace.isReached(child)) {
+                    workspace.setDistance(child, distance + 1.0, current);
+                    queue[tail++] = child;
+                }
+            }
+        }
+        
+        return NO_PATH;
+    }
+    
+    /**
+     * Returns {@code true} if the move {@code move} from the cell 
+     * {@code (x, y)} is possible. Follows the rules of 
+     * {@link io.github.coderodde.pathfinding.logic.GridNodeExpander}.
+     */
+    static boolean canMove(GridSnapshot snapshot,
+                           QueryOptions queryOptions,
+                           int x,
+                           int y,
+                           int move) {
+        
+        int nextX = x + DX[move];
+        int nextY = y + DY[move];
+        
+        if (!snapshot.isWalkable(nextX, nextY)) {
+            return false;
+        }
+        
+        if (move >= 4 && queryOptions.dontCrossCorners()) {
+            return snapshot.isWalkable(nextX, y) && 
+                   snapshot.isWalkable(x, nextY);
+        }
+        
+        return true;
+    }
+    
+    static boolean isWalkable(GridSnapshot snapshot, int cell) {
+        return snapshot.isWalkable(snapshot.toX(cell), snapshot.toY(cell));
+    }
+    
+    static void checkQuery(GridSnapshot snapshot, 
+                           int source, 
+                           int target) {
+        
+        int cells = snapshot.getNumberOfCells();
+        
+        if (source < 0 || source >= cells) {
+            throw new IndexOutOfBoundsException(
+                    String.format(
+                            "The source cell index (%d) is out of range " +
+                            "[0, %d)",
+                            source,
+                            cells));
+        }
+        
+        if (target < 0 || target >= cells) {
+            throw new IndexOutOfBoundsException(
+                    String.format(
+                            "The target cell index (%d) is out of range " +
+                            "[0, %d)",
+                            target,
+                            cells));
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package io.github.coderodde.pathfinding.finders;
+
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class answers the snapshot path queries by A* and reuses the optimal
+ * paths it has found before. Since the suffix of an optimal path is an
+ * optimal path to the same target, the cached paths to a target form a tree
+ * in which each cell knows its next cell and its exact remaining cost:
+ * <ul>
+ *   <li>if the source of a query is in the tree of its target, the path is
+ *   read off the tree without searching,</li>
+ *   <li>otherwise, A* runs from the source, and each time it reaches a cell
+ *   of the tree, the cost of the path through that cell becomes known. The
+ *   search stops as soon as no open cell may lead to a cheaper path, and the
+ *   path to the best tree cell is stitched with the tree suffix.</li>
+ * </ul>
+ *
+ * The paths are optimal whenever the heuristic function of the queries is
+ * admissible, just as with {@link AStarFinder}. The trees are kept per target
+ * and query options for the last snapshot version seen, and the least
+ * recently used trees are dropped beyond the capacity. This class is not
+ * thread-safe.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class SubPathCache {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final Map<TreeKey, PathTree> trees;
+    private final SearchWorkspace workspace = new SearchWorkspace();
+
+    private long version = Long.MIN_VALUE;
+    private long suffixHits;
+    private long stitchedPaths;
+    private long searches;
+
+    public SubPathCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SubPathCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The cache capacity (%d) is less than 1",
+                            capacity));
+        }
+
+        this.trees = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<TreeKey, PathTree> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns an optimal path from {@code source} to {@code target}.
+     *
+     * @param snapshot     the grid snapshot.
+     * @param source       the index of the source cell.
+     * @param target       the index of the target cell.
+     * @param queryOptions the query options.
+     * @return the path as cell indices, empty if there is no path.
+     */
+    public int[] findPath(GridSnapshot snapshot,
+                          int source,
+                          int target,
+                          QueryOptions queryOptions) {
+
+        Objects.requireNonNull(snapshot, "The input snapshot is null");
+        Objects.requireNonNull(queryOptions,
+                               "The input query options is null");
+
+        SnapshotSearch.checkQuery(snapshot, source, target);
+
+        if (!SnapshotSearch.isWalkable(snapshot, source) ||
+            !SnapshotSearch.isWalkable(snapshot, target)) {
+            return SnapshotSearch.NO_PATH;
+        }
+
+        if (snapshot.getVersion() != version) {
+            trees.clear();
+            version = snapshot.getVersion();
+        }
+
+        PathTree tree = trees.computeIfAbsent(new TreeKey(target, queryOptions),
+                                              key -> new PathTree(target));
+
+        if (tree.contains(source)) {
+            ++suffixHits;
+            return tree.suffix(source);
+        }
+
+        ++searches;
+        int[] path = search(snapshot, source, tree, queryOptions);
+
+        if (path.length > 0) {
+            tree.add(snapshot, path, queryOptions);
+        }
+
+        return path;
+    }
+
+    /**
+     * Drops all the cached paths.
+     */
+    public void clear() {
+        trees.clear();
+    }
+
+    /**
+     * Returns the number of queries answered by a cached suffix.
+     *
+     * @return the number of suffix hits.
+     */
+    public long getSuffixHits() {
+        return suffixHits;
+    }
+
+    /**
+     * Returns the number of searches stopped early at a cached path.
+     *
+     * @return the number of stitched paths.
+     */
+    public long getStitchedPaths() {
+        return stitchedPaths;
+    }
+
+    /**
+     * Returns the number of queries that needed a search.
+     *
+     * @return the number of searches.
+     */
+    public long getSearches() {
+        return searches;
+    }
+
+    private int[] search(GridSnapshot snapshot,
+                         int source,
+                         PathTree tree,
+                         QueryOptions queryOptions) {
+
+        int width = snapshot.getWidth();
+        int targetX = tree.target % width;
+        int targetY = tree.target / width;
+        HeuristicFunction h = queryOptions.getHeuristicFunction();
+        int moves = queryOptions.allowDiagonals() ? 8 : 4;
+
+        // The best known path cost and the tree cell it goes through:
+        double bestCost = Double.POSITIVE_INFINITY;
+        int meetingCell = -1;
+
+        workspace.begin(snapshot.getNumberOfCells());
+        workspace.setDistance(source, 0.0, -1);
+        workspace.push(source, 0.0);
+
+        while (!workspace.isOpenEmpty() && workspace.peekKey() < bestCost) {
+            int current = workspace.pop();
+
+            if (workspace.isClosed(current)) {
+                continue;
+            }
+
+            workspace.close(current);
+
+            int x = current % width;
+            int y = current / width;
+            double distance = workspace.getDistance(current);
+
+            for (int move = 0; move < moves; ++move) {
+                if (!SnapshotSearch.canMove(snapshot,
+                                            queryOptions,
+                                            x,
+                                            y,
+                                            move)) {
+                    continue;
+                }
+
+                int childX = x + SnapshotSearch.DX[move];
+                int childY = y + SnapshotSearch.DY[move];
+                int child = childY * width + childX;
+
+                if (workspace.isClosed(child)) {
+                    continue;
+                }
+
+                double tentativeDistance =
+                        distance +
+                        (move < 4 ? 1.0 : queryOptions.getDiagonalWeight());
+
+                if (workspace.getDistance(child) <= tentativeDistance) {
+                    continue;
+                }
+
+                workspace.setDistance(child, tentativeDistance, current);
+
+                double remainingCost = tree.getRemainingCost(child);
+
+                if (!Double.isNaN(remainingCost)) {
+                    // The best path through a tree cell follows the tree, so
+                    // the cell is not expanded:
+                    if (bestCost > tentativeDistance + remainingCost) {
+                        bestCost = tentativeDistance + remainingCost;
+                        meetingCell = child;
+                    }
+
+                    continue;
+                }
+
+                workspace.push(child,
+                               tentativeDistance +
+                               h.estimate(targetX - childX,
+                                          targetY - childY));
+            }
+        }
+
+        if (meetingCell == -1) {
+            return SnapshotSearch.NO_PATH;
+        }
+
+        if (meetingCell != tree.target) {
+            ++stitchedPaths;
+        }
+
+        int[] prefix = workspace.tracebackPath(meetingCell);
+        int[] suffix = tree.suffix(meetingCell);
+        int[] path = new int[prefix.length + suffix.length - 1];
+
+        System.arraycopy(prefix, 0, path, 0, prefix.length);
+        System.arraycopy(suffix,
+                         1,
+                         path,
+                         prefix.length,
+                         suffix.length - 1);
+        return path;
+    }
+
+    private record TreeKey(int target,
+                           boolean allowDiagonals,
+                           boolean dontCrossCorners,
+                           double diagonalWeight,
+                           Class<? extends HeuristicFunction> heuristicClass) {
+
+        TreeKey(int target, QueryOptions options) {
+            this(target,
+                 options.allowDiagonals(),
+                 options.dontCrossCorners(),
+                 options.getDiagonalWeight(),
+                 options.getHeuristicFunction().getClass());
+        }
+    }
+
+    private record Link(int next, double remainingCost) {}
+
+    /**
+     * The union of the cached optimal paths to a single target.
+     */
+    private static final class PathTree {
+
+        final int target;
+
+        /**
+         * Maps each cell on a cached path to its next cell towards the target
+         * and its remaining cost. The target maps to the next cell -1.
+         */
+        final Map<Integer, Link> links = new HashMap<>();
+
+        PathTree(int target) {
+            this.target = target;
+            this.links.put(target, new Link(-1, 0.0));
+        }
+
+        boolean contains(int cell) {
+            return links.containsKey(cell);
+        }
+
+        /**
+         * Returns the remaining cost from {@code cell}, or {@code NaN} if the
+         * cell is not in this tree.
+         */
+        double getRemainingCost(int cell) {
+            Link link = links.get(cell);
+            return link == null ? Double.NaN : link.remainingCost();
+        }
+
+        int[] suffix(int cell) {
+            int length = 0;
+
+            for (int c = cell; c != -1; c = links.get(c).next()) {
+                ++length;
+            }
+
+            int[] path = new int[length];
+            int i = 0;
+
+            for (int c = cell; c != -1; c = links.get(c).next()) {
+                path[i++] = c;
+            }
+
+            return path;
+        }
+
+        /**
+         * Adds the optimal path {@code path} ending at the target. The cells
+         * already in this tree keep their links, since their costs are equal
+         * and they are followed by the rest of the path.
+         */
+        void add(GridSnapshot snapshot, int[] path, QueryOptions options) {
+            double remainingCost = 0.0;
+
+            for (int i = path.length - 2; i >= 0; --i) {
+                int cell = path[i];
+                int next = path[i + 1];
+                boolean diagonal =
+                        snapshot.toX(cell) != snapshot.toX(next) &&
+                        snapshot.toY(cell) != snapshot.toY(next);
+
+                remainingCost += diagonal ? options.getDiagonalWeight() : 1.0;
+                links.putIfAbsent(cell, new Link(next, remainingCost));
+            }
+        }
+    }
+}
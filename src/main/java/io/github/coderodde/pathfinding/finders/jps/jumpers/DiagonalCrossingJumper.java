@@ -1,7 +1,7 @@
 package io.github.coderodde.pathfinding.finders.jps.jumpers;
 
 import io.github.coderodde.pathfinding.finders.JumpPointSearchFinder;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -26,7 +26,7 @@ public final class DiagonalCrossingJumper
      * @param px               the {@code X}-coordinate of the parent cell.
      * @param py               the {@code Y}-coordinate of the parent cell.
      * @param model            the grid model.
-     * @param searchStatistics the search statistics object.
+     * @param searchMetrics    the search metrics.
      * 
      * @return the next cell.
      */
@@ -36,7 +36,7 @@ public final class DiagonalCrossingJumper
                      int px, 
                      int py,
                      GridModel model,
-                     SearchStatistics searchStatistics) {
+                     SearchMetrics searchMetrics) {
         
         int dx = x - px;
         int dy = y - py;
@@ -48,7 +48,7 @@ public final class DiagonalCrossingJumper
         if (!model.getCellType(x, y).equals(CellType.SOURCE) &&
             !model.getCellType(x, y).equals(CellType.TARGET)) {
             model.setCellType(x, y, CellType.TRACED);
-            searchStatistics.incrementTraced();
+            searchMetrics.incrementTraced();
         }
         
         if (model.getCell(x, y).equals(model.getTargetGridCell())) {
@@ -64,8 +64,8 @@ public final class DiagonalCrossingJumper
                 return model.getCell(x, y);
             }
             
-            if (jump(x + dx, y, x, y, model, searchStatistics) != null ||
-                jump(x, y + dy, x, y, model, searchStatistics) != null) {
+            if (jump(x + dx, y, x, y, model, searchMetrics) != null ||
+                jump(x, y + dy, x, y, model, searchMetrics) != null) {
                 
                 return model.getCell(x, y);
             }
@@ -97,6 +97,6 @@ public final class DiagonalCrossingJumper
                     x, 
                     y,
                     model,
-                    searchStatistics);
+                    searchMetrics);
     }
 }
@@ -1,7 +1,7 @@
 package io.github.coderodde.pathfinding.finders.jps.jumpers;
 
 import io.github.coderodde.pathfinding.finders.JumpPointSearchFinder;
-import io.github.coderodde.pathfinding.logic.SearchStatistics;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
 import io.github.coderodde.pathfinding.model.GridModel;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
@@ -24,7 +24,7 @@ public final class NoDiagonalJumper implements JumpPointSearchFinder.Jumper {
      * @param px               the {@code X}-coordinate of the parent cell.
      * @param py               the {@code Y}-coordinate of the parent cell.
      * @param model            the grid model.
-     * @param searchStatistics the search statistics object.
+     * @param searchMetrics    the search metrics.
      * 
      * @return the next cell.
      */
@@ -34,7 +34,7 @@ public final class NoDiagonalJumper implements JumpPointSearchFinder.Jumper {
                      int px, 
                      int py, 
                      GridModel model,
-                     SearchStatistics searchStatistics) {
+                     SearchMetrics searchMetrics) {
         
         int dx = x - px;
         int dy = y - py;
@@ -69,8 +69,8 @@ public final class NoDiagonalJumper implements JumpPointSearchFinder.Jumper {
                 return model.getCell(x, y);
             }
             
-            if (jump(x + 1, y, x, y, model, searchStatistics) != null ||
-                jump(x - 1, y, x, y, model, searchStatistics) != null) {
+            if (jump(x + 1, y, x, y, model, searchMetrics) != null ||
+                jump(x - 1, y, x, y, model, searchMetrics) != null) {
                 
                 return model.getCell(x, y);
             }
@@ -83,6 +83,6 @@ public final class NoDiagonalJumper implements JumpPointSearchFinder.Jumper {
                     x,
                     y, 
                     model, 
-                    searchStatistics);
+                    searchMetrics);
     }
 }
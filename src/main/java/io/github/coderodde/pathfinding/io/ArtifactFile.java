@@ -0,0 +1,237 @@
+package io.github.coderodde.pathfinding.io;
+
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import io.github.coderodde.pathfinding.model.MappedGridModel;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * This class reads and writes the files of the precomputed structures of a
+ * map, the artifacts. An artifact file starts with a header identifying the
+ * artifact type, the format version, the map and the parameters it was
+ * computed for, followed by the payload. The header consists of, as
+ * big-endian integers:
+ * <pre>
+ *   int  magic number {@link #MAGIC}
+ *   int  artifact type
+ *   int  format version of the artifact type
+ *   int  map width
+ *   int  map height
+ *   long map content hash, see {@link #computeContentHash(GridSnapshot)}
+ *   long parameter key
+ *   long payload length
+ *   int  padding
+ * </pre>
+ *
+ * An artifact is stale, and {@link #open(Path, int, int, GridSnapshot, long)}
+ * throws {@link StaleArtifactException}, if any of these fields does not
+ * match the expected ones. The payload is memory-mapped, so that loading
+ * costs little more than copying the pages from the page cache. The content
+ * hash of a snapshot is computed once and remembered for as long as the
+ * snapshot is in use, so that loading several artifacts of a map scans the
+ * map at most once; a {@link MappedGridModel} stores its hash in its header
+ * and is not scanned at all. An artifact file may not exceed
+ * {@link Integer#MAX_VALUE} bytes.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class ArtifactFile {
+
+    public static final int MAGIC = 0x50464146; // "PFAF"
+
+    /**
+     * The length of the header in bytes. Keeps the payload 8-byte aligned.
+     */
+    public static final int HEADER_LENGTH = 5 * Integer.BYTES
+                                          + 3 * Long.BYTES
+                                          + Integer.BYTES;
+
+    /**
+     * The content hashes of the snapshots, which are immutable.
+     */
+    private static final Map<GridSnapshot, Long> CONTENT_HASHES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ArtifactFile() {
+
+    }
+
+    /**
+     * Returns the 64-bit hash of the dimensions and the walls of
+     * {@code snapshot}, see {@link GridSnapshot#getContentHash()}.
+     *
+     * @param snapshot the grid snapshot.
+     * @return the content hash.
+     */
+    public static long computeContentHash(GridSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "The input snapshot is null");
+        return CONTENT_HASHES.computeIfAbsent(
+                snapshot,
+                GridSnapshot::getContentHash);
+    }
+
+    /**
+     * Writes an artifact file.
+     *
+     * @param path          the path of the artifact file.
+     * @param type          the artifact type.
+     * @param formatVersion the format version of the artifact type.
+     * @param snapshot      the map the artifact was computed for.
+     * @param parameterKey  the key of the parameters the artifact was
+     *                      computed with.
+     * @param payload       the payload, written from its position to its
+     *                      limit.
+     * @throws IOException if writing fails.
+     */
+    public static void write(Path path,
+                             int type,
+                             int formatVersion,
+                             GridSnapshot snapshot,
+                             long parameterKey,
+                             ByteBuffer payload) throws IOException {
+
+        Objects.requireNonNull(payload, "The input payload is null");
+
+        if (payload.remaining() > Integer.MAX_VALUE - HEADER_LENGTH) {
+            throw new IllegalArgumentException(
+                    String.format("The payload (%d bytes) is too large",
+                                  payload.remaining()));
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.putInt(MAGIC)
+              .putInt(type)
+              .putInt(formatVersion)
+              .putInt(snapshot.getWidth())
+              .putInt(snapshot.getHeight())
+              .putLong(computeContentHash(snapshot))
+              .putLong(parameterKey)
+              .putLong(payload.remaining())
+              .putInt(0) // Padding.
+              .flip();
+
+        try (FileChannel channel =
+                FileChannel.open(path,
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.TRUNCATE_EXISTING,
+                                 StandardOpenOption.WRITE)) {
+
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+
+            while (payload.hasRemaining()) {
+                channel.write(payload);
+            }
+
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Maps the artifact file {@code path} and returns its payload.
+     *
+     * @param path          the path of the artifact file.
+     * @param type          the expected artifact type.
+     * @param formatVersion the expected format version.
+     * @param snapshot      the map the artifact is needed for.
+     * @param parameterKey  the expected parameter key.
+     * @return the read-only payload.
+     * @throws StaleArtifactException if the artifact does not match the
+     *                                expectations.
+     * @throws IOException            if the file cannot be read or is not an
+     *                                artifact file.
+     */
+    public static ByteBuffer open(Path path,
+                                  int type,
+                                  int formatVersion,
+                                  GridSnapshot snapshot,
+                                  long parameterKey) throws IOException {
+
+        try (FileChannel channel =
+                FileChannel.open(path, StandardOpenOption.READ)) {
+
+            long size = channel.size();
+
+            if (size < HEADER_LENGTH) {
+                throw new IOException(
+                        String.format("%s is not an artifact file", path));
+            }
+
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(
+                        String.format("%s (%d bytes) is too large to map",
+                                      path,
+                                      size));
+            }
+
+            MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException(
+                        String.format("%s is not an artifact file", path));
+            }
+
+            int actualType = buffer.getInt();
+            int actualFormatVersion = buffer.getInt();
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            long contentHash = buffer.getLong();
+            long actualParameterKey = buffer.getLong();
+            long payloadLength = buffer.getLong();
+
+            if (actualType != type) {
+                throw new StaleArtifactException(
+                        String.format(
+                                "%s holds the artifact type %d, expected %d",
+                                path,
+                                actualType,
+                                type));
+            }
+
+            if (actualFormatVersion != formatVersion) {
+                throw new StaleArtifactException(
+                        String.format(
+                                "%s has the format version %d, expected %d",
+                                path,
+                                actualFormatVersion,
+                                formatVersion));
+            }
+
+            if (width != snapshot.getWidth() ||
+                height != snapshot.getHeight() ||
+                contentHash != computeContentHash(snapshot)) {
+                throw new StaleArtifactException(
+                        String.format(
+                                "%s was computed for a different map",
+                                path));
+            }
+
+            if (actualParameterKey != parameterKey) {
+                throw new StaleArtifactException(
+                        String.format(
+                                "%s was computed with different parameters",
+                                path));
+            }
+
+            if (payloadLength != size - HEADER_LENGTH) {
+                throw new IOException(
+                        String.format("%s is truncated", path));
+            }
+
+            return buffer.slice(HEADER_LENGTH, (int) payloadLength)
+                         .asReadOnlyBuffer();
+        }
+    }
+}
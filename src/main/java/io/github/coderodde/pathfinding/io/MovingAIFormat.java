@@ -0,0 +1,277 @@
+package io.github.coderodde.pathfinding.io;
+
+import io.github.coderodde.pathfinding.model.BitGridSnapshot;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import io.github.coderodde.pathfinding.utils.Cell;
+import io.github.coderodde.pathfinding.utils.CellType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * This class reads the grid benchmark formats of the MovingAI lab: the 
+ * {@code .map} files holding the grids and the {@code .scen} files holding
+ * the queries with their optimal path lengths.
+ * 
+ * In the maps, the cells {@code '.'}, {@code 'G'} and {@code 'S'} are free, 
+ * and the cells {@code '@'}, {@code 'O'}, {@code 'T'} and {@code 'W'} are 
+ * blocked. The optimal lengths of the scenarios assume diagonal moves of 
+ * weight {@code sqrt(2)} without corner cutting.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class MovingAIFormat {
+    
+    private static final String SCENARIO_VERSION_PREFIX = "version";
+    private static final int SCENARIO_FIELDS = 9;
+    
+    private MovingAIFormat() {
+        
+    }
+    
+    /**
+     * Reads the {@code .map} file {@code path} into a grid snapshot.
+     * 
+     * @param path the path of the map file.
+     * @return the grid snapshot.
+     * @throws IOException if reading the file fails.
+     */
+    public static BitGridSnapshot readMap(Path path) throws IOException {
+        try (BufferedReader reader = 
+                Files.newBufferedReader(path, StandardCharsets.US_ASCII)) {
+            return readMap(reader);
+        }
+    }
+    
+    /**
+     * Reads a map in the {@code .map} format from {@code reader}.
+     * 
+     * @param reader the reader.
+     * @return the grid snapshot.
+     * @throws IOException if reading fails.
+     */
+    public static BitGridSnapshot readMap(BufferedReader reader) 
+            throws IOException {
+        
+        int width = -1;
+        int height = -1;
+        int lineNumber = 0;
+        String line;
+        
+        // The header lists "type", "height" and "width" in any order and 
+        // ends with the line "map":
+        while ((line = reader.readLine()) != null) {
+            ++lineNumber;
+            String[] tokens = line.trim().split("\\s+");
+            
+            switch (tokens[0]) {
+                case "map" -> {
+                    if (width < 1 || height < 1) {
+                        throw new IllegalArgumentException(
+                                String.format(
+                                        "Line %d: missing or invalid map " + 
+                                        "dimensions", 
+                                        lineNumber));
+                    }
+                    
+                    return readGrid(reader, width, height, lineNumber);
+                }
+                
+                case "height" -> height = parseInt(tokens, lineNumber);
+                case "width"  -> width  = parseInt(tokens, lineNumber);
+                
+                default -> {
+                    // "type" and unknown header lines are ignored.
+                }
+            }
+        }
+        
+        throw new IllegalArgumentException("The map has no \"map\" line");
+    }
+    
+    /**
+     * Copies {@code snapshot} into a new grid model. The source and the 
+     * target cells of the model are placed as usual and may cover walls.
+     * 
+     * @param snapshot the grid snapshot.
+     * @return the grid model.
+     */
+    public static GridModel toGridModel(GridSnapshot snapshot) {
+        int width = snapshot.getWidth();
+        int height = snapshot.getHeight();
+        GridModel model = new GridModel(width, height);
+        Cell source = model.getSourceGridCell();
+        Cell target = model.getTargetGridCell();
+        
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                if (snapshot.isWalkable(x, y)) {
+                    continue;
+                }
+                
+                if (x == source.getx() && y == source.gety()) {
+                    model.setSourceCellCoversWallCell(true);
+                } else if (x == target.getx() && y == target.gety()) {
+                    model.setTargetCellCoversWallCell(true);
+                } else {
+                    model.setCellType(x, y, CellType.WALL);
+                }
+            }
+        }
+        
+        return model;
+    }
+    
+    /**
+     * Returns the lazily read scenarios of the {@code .scen} file 
+     * {@code path}. Only the current line is held in memory. The stream must
+     * be closed to close the file. An {@link UncheckedIOException} is thrown
+     * if reading fails during the traversal.
+     * 
+     * @param path the path of the scenario file.
+     * @return the stream of the scenarios.
+     * @throws IOException if opening the file fails.
+     */
+    public static Stream<MovingAIScenario> streamScenarios(Path path) 
+            throws IOException {
+        
+        BufferedReader reader = 
+                Files.newBufferedReader(path, StandardCharsets.US_ASCII);
+        
+        try {
+            return streamScenarios(reader).onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (RuntimeException ex) {
+            reader.close();
+            throw ex;
+        }
+    }
+    
+    /**
+     * Returns the lazily read scenarios of {@code reader}.
+     * 
+     * @param reader the reader.
+     * @return the stream of the scenarios.
+     */
+    public static Stream<MovingAIScenario> streamScenarios(
+            BufferedReader reader) {
+        
+        Objects.requireNonNull(reader, "The input reader is null");
+        
+        int[] lineNumber = { 0 };
+        
+        return reader.lines()
+                     .map(line -> parseScenario(line, ++lineNumber[0]))
+                     .filter(Objects::nonNull);
+    }
+    
+    private static BitGridSnapshot readGrid(BufferedReader reader,
+                                            int width,
+                                            int height,
+                                            int lineNumber) 
+            throws IOException {
+        
+        long[] walls = new long[BitGridSnapshot.wordCount(width, height)];
+        
+        for (int y = 0; y < height; ++y) {
+            String line = reader.readLine();
+            ++lineNumber;
+            
+            if (line == null || line.length() < width) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "Line %d: expected %d cells", 
+                                lineNumber, 
+                                width));
+            }
+            
+            for (int x = 0; x < width; ++x) {
+                if (isBlocked(line.charAt(x), lineNumber)) {
+                    int index = y * width + x;
+                    walls[index / Long.SIZE] |= 1L << (index % Long.SIZE);
+                }
+            }
+        }
+        
+        return BitGridSnapshot.of(width, height, walls);
+    }
+    
+    private static boolean isBlocked(char c, int lineNumber) {
+        return switch (c) {
+            case '.', 'G', 'S' -> false;
+            case '@', 'O', 'T', 'W' -> true;
+            default -> throw new IllegalArgumentException(
+                    String.format(
+                            "Line %d: unknown cell character '%c'",
+                            lineNumber,
+                            c));
+        };
+    }
+    
+    /**
+     * Parses a scenario line, or returns {@code null} for the version line 
+     * and the blank lines.
+     */
+    private static MovingAIScenario parseScenario(String line, 
+                                                  int lineNumber) {
+        if (line.isBlank() || line.startsWith(SCENARIO_VERSION_PREFIX)) {
+            return null;
+        }
+        
+        String[] tokens = line.split("\t");
+        
+        if (tokens.length != SCENARIO_FIELDS) {
+            // Map names never contain tabs, but may contain spaces when the
+            // file was not written with tabs:
+            tokens = line.trim().split("\\s+");
+        }
+        
+        if (tokens.length != SCENARIO_FIELDS) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Line %d: expected %d fields, found %d",
+                            lineNumber,
+                            SCENARIO_FIELDS,
+                            tokens.length));
+        }
+        
+        try {
+            return new MovingAIScenario(Integer.parseInt(tokens[0].trim()),
+                                        tokens[1].trim(),
+                                        Integer.parseInt(tokens[2].trim()),
+                                        Integer.parseInt(tokens[3].trim()),
+                                        Integer.parseInt(tokens[4].trim()),
+                                        Integer.parseInt(tokens[5].trim()),
+                                        Integer.parseInt(tokens[6].trim()),
+                                        Integer.parseInt(tokens[7].trim()),
+                                        Double.parseDouble(tokens[8].trim()));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(
+                    String.format("Line %d: %s", lineNumber, ex.getMessage()),
+                    ex);
+        }
+    }
+    
+    private static int parseInt(String[] tokens, int lineNumber) {
+        try {
+            return Integer.parseInt(tokens[1]);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException ex) {
+            throw new IllegalArgumentException(
+                    String.format("Line %d: invalid number", lineNumber),
+                    ex);
+        }
+    }
+}
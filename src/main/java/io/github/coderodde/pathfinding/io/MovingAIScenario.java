@@ -0,0 +1,29 @@
+package io.github.coderodde.pathfinding.io;
+
+/**
+ * This record describes a single query of a MovingAI {@code .scen} file.
+ *
+ * @param bucket        the bucket of the query, growing with the length.
+ * @param mapName       the map file name as listed in the scenario file.
+ * @param mapWidth      the width of the map.
+ * @param mapHeight     the height of the map.
+ * @param startX        the {@code X}-coordinate of the source cell.
+ * @param startY        the {@code Y}-coordinate of the source cell.
+ * @param goalX         the {@code X}-coordinate of the target cell.
+ * @param goalY         the {@code Y}-coordinate of the target cell.
+ * @param optimalLength the optimal path length for octile moves without 
+ *                      corner cutting.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public record MovingAIScenario(int bucket,
+                               String mapName,
+                               int mapWidth,
+                               int mapHeight,
+                               int startX,
+                               int startY,
+                               int goalX,
+                               int goalY,
+                               double optimalLength) {}
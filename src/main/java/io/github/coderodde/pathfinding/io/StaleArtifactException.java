@@ -0,0 +1,21 @@
+package io.github.coderodde.pathfinding.io;
+
+import java.io.IOException;
+
+/**
+ * This exception is thrown when a persisted artifact was computed for a
+ * different map, different parameters or an older format, and must be
+ * recomputed.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class StaleArtifactException extends IOException {
+    
+    private static final long serialVersionUID = 1L;
+    
+    public StaleArtifactException(String message) {
+        super(message);
+    }
+}
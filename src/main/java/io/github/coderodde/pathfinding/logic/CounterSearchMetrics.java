@@ -0,0 +1,96 @@
+package io.github.coderodde.pathfinding.logic;
+
+/**
+ * This class implements the search metrics as plain counters. An update
+ * costs a single field increment. The counters are not safely published, so
+ * another thread may read them only once the search is over and joined, for
+ * example after {@code Future.get()}; {@link SearchStatistics} samples its
+ * counters while the search runs.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class CounterSearchMetrics implements SearchMetrics {
+
+    private int visited;
+    private int opened;
+    private int generated;
+    private int traced;
+    private int rejected;
+
+    @Override
+    public void incrementVisited() {
+        ++visited;
+    }
+
+    @Override
+    public void incrementOpened() {
+        ++opened;
+        ++generated;
+    }
+
+    @Override
+    public void decrementOpened() {
+        --opened;
+    }
+
+    @Override
+    public void addToVisited(int delta) {
+        visited += delta;
+    }
+
+    @Override
+    public void addToOpened(int delta) {
+        opened += delta;
+
+        if (delta > 0) {
+            generated += delta;
+        }
+    }
+
+    @Override
+    public void addToGenerated(int delta) {
+        generated += delta;
+    }
+
+    @Override
+    public void incrementTraced() {
+        ++traced;
+    }
+
+    @Override
+    public void addToTraced(int delta) {
+        traced += delta;
+    }
+
+    @Override
+    public void incrementRejected() {
+        ++rejected;
+    }
+
+    @Override
+    public int getVisited() {
+        return visited;
+    }
+
+    @Override
+    public int getOpened() {
+        return opened;
+    }
+
+    @Override
+    public int getGenerated() {
+        return generated;
+    }
+
+    @Override
+    public int getTraced() {
+        return traced;
+    }
+
+    @Override
+    public int getRejected() {
+        return rejected;
+    }
+}
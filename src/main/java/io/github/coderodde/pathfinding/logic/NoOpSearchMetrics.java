@@ -0,0 +1,88 @@
+package io.github.coderodde.pathfinding.logic;
+
+/**
+ * This class implements the search metrics ignoring all the updates, for
+ * the searches nobody watches. All the counters stay zero.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class NoOpSearchMetrics implements SearchMetrics {
+
+    static final NoOpSearchMetrics INSTANCE = new NoOpSearchMetrics();
+
+    private NoOpSearchMetrics() {
+
+    }
+
+    @Override
+    public void incrementVisited() {
+
+    }
+
+    @Override
+    public void incrementOpened() {
+
+    }
+
+    @Override
+    public void decrementOpened() {
+
+    }
+
+    @Override
+    public void addToVisited(int delta) {
+
+    }
+
+    @Override
+    public void addToOpened(int delta) {
+
+    }
+
+    @Override
+    public void addToGenerated(int delta) {
+
+    }
+
+    @Override
+    public void incrementTraced() {
+
+    }
+
+    @Override
+    public void addToTraced(int delta) {
+
+    }
+
+    @Override
+    public void incrementRejected() {
+
+    }
+
+    @Override
+    public int getVisited() {
+        return 0;
+    }
+
+    @Override
+    public int getOpened() {
+        return 0;
+    }
+
+    @Override
+    public int getGenerated() {
+        return 0;
+    }
+
+    @Override
+    public int getTraced() {
+        return 0;
+    }
+
+    @Override
+    public int getRejected() {
+        return 0;
+    }
+}
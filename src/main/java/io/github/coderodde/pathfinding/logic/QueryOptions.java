@@ -0,0 +1,78 @@
+package io.github.coderodde.pathfinding.logic;
+
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.heuristics.ZeroHeuristicFunction;
+import java.util.Objects;
+
+/**
+ * This class holds the immutable settings of a single path query. Unlike 
+ * {@link PathfindingSettings}, it may be shared among threads.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class QueryOptions {
+    
+    private final boolean allowDiagonals;
+    private final boolean dontCrossCorners;
+    private final double diagonalWeight;
+    private final HeuristicFunction heuristicFunction;
+    
+    public QueryOptions(boolean allowDiagonals,
+                        boolean dontCrossCorners,
+                        double diagonalWeight,
+                        HeuristicFunction heuristicFunction) {
+        
+        if (!(diagonalWeight >= 1.0)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The diagonal weight (%f) is less than 1",
+                            diagonalWeight));
+        }
+        
+        this.allowDiagonals = allowDiagonals;
+        this.dontCrossCorners = dontCrossCorners;
+        this.diagonalWeight = diagonalWeight;
+        this.heuristicFunction = 
+                Objects.requireNonNull(
+                        heuristicFunction,
+                        "The input heuristic function is null");
+    }
+    
+    /**
+     * Copies the current settings of {@code pathfindingSettings}. A missing
+     * heuristic function is replaced with {@link ZeroHeuristicFunction}.
+     * 
+     * @param pathfindingSettings the pathfinding settings.
+     * @return the query options.
+     */
+    public static QueryOptions of(PathfindingSettings pathfindingSettings) {
+        HeuristicFunction heuristicFunction = 
+                pathfindingSettings.getHeuristicFunction();
+        
+        return new QueryOptions(
+                pathfindingSettings.allowDiagonals(),
+                pathfindingSettings.dontCrossCorners(),
+                pathfindingSettings.getDiagonalWeight().getWeight(),
+                heuristicFunction == null ? 
+                        new ZeroHeuristicFunction() :
+                        heuristicFunction);
+    }
+    
+    public boolean allowDiagonals() {
+        return allowDiagonals;
+    }
+    
+    public boolean dontCrossCorners() {
+        return dontCrossCorners;
+    }
+    
+    public double getDiagonalWeight() {
+        return diagonalWeight;
+    }
+    
+    public HeuristicFunction getHeuristicFunction() {
+        return heuristicFunction;
+    }
+}
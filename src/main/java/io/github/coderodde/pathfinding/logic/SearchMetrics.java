@@ -0,0 +1,95 @@
+package io.github.coderodde.pathfinding.logic;
+
+/**
+ * This interface defines the counters the finders update while searching.
+ * The finders call the update methods from their hot loops, so the
+ * implementations must do no more than update a field; anything slower, such
+ * as showing the counters, must happen elsewhere.
+ *
+ * The implementations need not be thread-safe. The finders updating the
+ * metrics from several threads either synchronize on the metrics object, as
+ * the parallel A* and the parallel bidirectional finders do, or count into
+ * metrics of their own and add them up on the calling thread once the other
+ * threads are joined, as the parallel IDDFS does.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public interface SearchMetrics {
+
+    /**
+     * Returns the metrics ignoring all the updates.
+     *
+     * @return the no-op metrics.
+     */
+    public static SearchMetrics noOp() {
+        return NoOpSearchMetrics.INSTANCE;
+    }
+
+    public default void incrementVisited() {
+        addToVisited(1);
+    }
+
+    public default void incrementOpened() {
+        addToOpened(1);
+    }
+
+    public default void decrementOpened() {
+        addToOpened(-1);
+    }
+
+    public void addToVisited(int delta);
+
+    /**
+     * Adds {@code delta} to the size of the open set. A positive delta also
+     * counts as generated cells.
+     *
+     * @param delta the change of the size of the open set.
+     */
+    public void addToOpened(int delta);
+
+    /**
+     * Adds {@code delta} to the number of the generated cells without
+     * changing the size of the open set. Used by the finders counting the
+     * cells generated off the books, such as by the subtree searches of the
+     * parallel IDDFS.
+     *
+     * @param delta the number of the newly generated cells.
+     */
+    public void addToGenerated(int delta);
+
+    public default void incrementTraced() {
+        addToTraced(1);
+    }
+
+    public void addToTraced(int delta);
+
+    public void incrementRejected();
+
+    /**
+     * Returns the number of the cells visited, or expanded, so far.
+     *
+     * @return the number of the visited cells.
+     */
+    public int getVisited();
+
+    /**
+     * Returns the number of the cells currently in the open set.
+     *
+     * @return the size of the open set.
+     */
+    public int getOpened();
+
+    /**
+     * Returns the number of the cells ever added to the open set, that is,
+     * generated, so far.
+     *
+     * @return the number of the generated cells.
+     */
+    public int getGenerated();
+
+    public int getTraced();
+
+    public int getRejected();
+}
@@ -2,56 +2,140 @@ package io.github.coderodde.pathfinding.logic;
 
 import static io.github.coderodde.pathfinding.logic.SearchState.CurrentState.IDLE;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 /**
+ * This class implements the cooperative control of a search. The finders
+ * call {@link #checkpoint()} as they go; while nothing is requested, it costs
+ * a single volatile read. A paused search parks its threads until resumed or
+ * halted, and an interrupted search thread halts the search.
  *
  * @author Rodion "rodde" Efremov
- * @version 1.0.0 (Aug 27, 2025)
+ * @version 1.1.1 (Oct 19, 2026)
  * @since 1.0.0 (Aug 27, 2025)
  */
 public final class SearchState {
-    
+
     public enum CurrentState {
         SEARCHING,
         PAUSED,
+        HALTING,
         IDLE,
     }
-    
+
+    private static final int HALT  = 1;
+    private static final int PAUSE = 2;
+
     private volatile CurrentState currentState;
-    private volatile boolean requestHalt;
-    private volatile boolean requestPause;
-    
+
+    /**
+     * The requests as a bit set of {@link #HALT} and {@link #PAUSE}, so that
+     * a single read checks both.
+     */
+    private final AtomicInteger requests = new AtomicInteger();
+
+    /**
+     * The threads parked in {@link #checkpoint()} while paused.
+     */
+    private final Set<Thread> parkedThreads = ConcurrentHashMap.newKeySet();
+
     public void resetState() {
-        requestHalt  = false;
-        requestPause = false;
+        requests.set(0);
+        unparkAll();
         currentState = IDLE;
     }
-    
+
+    /**
+     * Requests the search to halt, waking it up if paused.
+     */
     public void requestHalt() {
-        this.requestHalt = true;
+        requests.getAndUpdate(r -> r | HALT);
+        unparkAll();
     }
-    
+
     public boolean haltRequested() {
-        return requestHalt;
+        return (requests.get() & HALT) != 0;
     }
-    
+
     public void requestPause() {
-        System.out.println("Requesting pause...");
-        this.requestPause = true;
+        requests.getAndUpdate(r -> r | PAUSE);
+    }
+
+    /**
+     * Withdraws the pause request and wakes up the paused search.
+     */
+    public void requestResume() {
+        requests.getAndUpdate(r -> r & ~PAUSE);
+        unparkAll();
     }
-    
+
     public boolean pauseRequested() {
-        return requestPause;
+        return (requests.get() & PAUSE) != 0;
     }
-    
+
+    /**
+     * The control point of the finders. Returns right away unless a halt or
+     * a pause is requested or the calling thread is interrupted. If paused,
+     * parks the calling thread until the search is resumed or halted. An
+     * interrupt, before or while parked, requests a halt.
+     *
+     * @return {@code true} if the search must halt.
+     */
+    public boolean checkpoint() {
+        if (requests.get() == 0 && !Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+
+        return awaitResumeOrHalt();
+    }
+
     public CurrentState getCurrentState() {
         return currentState;
     }
-    
+
     public void setCurrentState(CurrentState currentState) {
-        this.currentState = 
+        this.currentState =
                 Objects.requireNonNull(
                         currentState,
                         "The input current state is null");
     }
+
+    private boolean awaitResumeOrHalt() {
+        Thread thread = Thread.currentThread();
+
+        // Register before reading the requests, so that a resume or a halt
+        // requested after the read unparks this thread:
+        parkedThreads.add(thread);
+
+        try {
+            while (true) {
+                if (thread.isInterrupted()) {
+                    requestHalt();
+                }
+
+                int r = requests.get();
+
+                if ((r & HALT) != 0) {
+                    return true;
+                }
+
+                if ((r & PAUSE) == 0) {
+                    return false;
+                }
+
+                LockSupport.park(this);
+            }
+        } finally {
+            parkedThreads.remove(thread);
+        }
+    }
+
+    private void unparkAll() {
+        for (Thread thread : parkedThreads) {
+            LockSupport.unpark(thread);
+        }
+    }
 }
@@ -1,139 +1,268 @@
 package io.github.coderodde.pathfinding.logic;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.Set;
-import javafx.application.Platform;
+import javafx.animation.AnimationTimer;
 import javafx.scene.control.Label;
 
 /**
+ * This class adapts the search metrics to the labels of the settings pane.
+ * The finders update the counters; an animation timer samples them once per
+ * frame on the JavaFX application thread and updates the labels whose
+ * counters changed. The search thread thus never touches the labels.
+ *
+ * The counters are written with release semantics and sampled with acquire
+ * semantics, so that the sampler sees the values the search thread wrote.
+ * On the common hardware such a write costs no more than a plain one. As
+ * with the other metrics, the concurrent writers must synchronize on this
+ * object.
  *
  * @author Rodion "rodde" Efremov
- * @version 1.0.0 (Sep 9, 2025)
+ * @version 1.2.2 (Oct 19, 2026)
  * @since 1.0.0 (Sep 9, 2025)
  */
-public final class SearchStatistics {
-    
+public final class SearchStatistics implements SearchMetrics {
+
     public enum LabelSelector {
         VISITED,
         OPENED,
         TRACED,
         REJECTED,
     }
-    
+
+    private static final VarHandle VISITED;
+    private static final VarHandle OPENED;
+    private static final VarHandle GENERATED;
+    private static final VarHandle TRACED;
+    private static final VarHandle REJECTED;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            VISITED   = lookup.findVarHandle(SearchStatistics.class,
+                                             "visited",
+                                             int.class);
+            OPENED    = lookup.findVarHandle(SearchStatistics.class,
+                                             "opened",
+                                             int.class);
+            GENERATED = lookup.findVarHandle(SearchStatistics.class,
+                                             "generated",
+                                             int.class);
+            TRACED    = lookup.findVarHandle(SearchStatistics.class,
+                                             "traced",
+                                             int.class);
+            REJECTED  = lookup.findVarHandle(SearchStatistics.class,
+                                             "rejected",
+                                             int.class);
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    // Written only through the var handles:
     private int visited;
     private int opened;
+    private int generated;
     private int traced;
     private int rejected;
-    
+
     private final Label labelVisited;
     private final Label labelOpened;
     private final Label labelTraced;
     private final Label labelRejected;
-    private final Set<LabelSelector> labelSelectors = new HashSet<>();
-    
+    private final Set<LabelSelector> labelSelectors =
+            EnumSet.noneOf(LabelSelector.class);
+
+    /**
+     * Created on the first start, since an animation timer needs a running
+     * JavaFX toolkit.
+     */
+    private AnimationTimer sampler;
+
+    private int shownVisited  = -1;
+    private int shownOpened   = -1;
+    private int shownTraced   = -1;
+    private int shownRejected = -1;
+
     public SearchStatistics(Label labelVisited,
                             Label labelOpened,
                             Label labelTraced,
                             Label labelRejected,
                             LabelSelector... selectors) {
-        
+
         this.labelVisited  = labelVisited;
         this.labelOpened   = labelOpened;
         this.labelTraced   = labelTraced;
         this.labelRejected = labelRejected;
         this.labelSelectors.addAll(Arrays.asList(selectors));
-        
+
         if (labelVisited != null) {
             this.labelVisited .setText("Visited: N/A");
         }
-            
+
         if (labelOpened != null) {
             this.labelOpened  .setText("Opened: N/A");
         }
-            
+
         if (labelTraced != null) {
             this.labelTraced  .setText("Traced: N/A");
         }
-            
+
         if (labelRejected != null) {
             this.labelRejected.setText("Rejected: N/A");
         }
     }
-    
+
+    /**
+     * Starts sampling the counters into the labels. Must be called on the
+     * JavaFX application thread.
+     */
+    public void start() {
+        if (sampler == null) {
+            sampler = new AnimationTimer() {
+
+                @Override
+                public void handle(long now) {
+                    updateLabels();
+                }
+            };
+        }
+
+        sampler.start();
+    }
+
+    /**
+     * Stops sampling and shows the final counters. Must be called on the
+     * JavaFX application thread.
+     */
+    public void stop() {
+        if (sampler != null) {
+            sampler.stop();
+        }
+
+        updateLabels();
+    }
+
+    @Override
     public void incrementVisited() {
-        addToVisited(1);
+        VISITED.setRelease(this, visited + 1);
     }
-    
+
+    @Override
     public void incrementOpened() {
-        addToOpened(1);
+        OPENED.setRelease(this, opened + 1);
+        GENERATED.setRelease(this, generated + 1);
     }
-    
+
+    @Override
     public void decrementOpened() {
-        addToOpened(-1);
+        OPENED.setRelease(this, opened - 1);
     }
-    
-    public void incrementTraced() {
-        traced++;
-        
-        if (labelTraced == null) {
-            return;
+
+    @Override
+    public void addToVisited(int delta) {
+        VISITED.setRelease(this, visited + delta);
+    }
+
+    @Override
+    public void addToOpened(int delta) {
+        OPENED.setRelease(this, opened + delta);
+
+        if (delta > 0) {
+            GENERATED.setRelease(this, generated + delta);
         }
-        
-        Platform.runLater(() -> {
-            if (labelSelectors.contains(LabelSelector.TRACED)) {
-                labelTraced.setText(String.format("Traced: %d", traced));
-            } else {
-                labelTraced.setText("Traced: N/A");
-            }
-        });
-    }
-    
+    }
+
+    @Override
+    public void addToGenerated(int delta) {
+        GENERATED.setRelease(this, generated + delta);
+    }
+
+    @Override
+    public void incrementTraced() {
+        TRACED.setRelease(this, traced + 1);
+    }
+
+    @Override
+    public void addToTraced(int delta) {
+        TRACED.setRelease(this, traced + delta);
+    }
+
+    @Override
     public void incrementRejected() {
-        rejected++;
-        
-        if (labelRejected == null) {
-            return;
+        REJECTED.setRelease(this, rejected + 1);
+    }
+
+    @Override
+    public int getVisited() {
+        return (int) VISITED.getAcquire(this);
+    }
+
+    @Override
+    public int getOpened() {
+        return (int) OPENED.getAcquire(this);
+    }
+
+    @Override
+    public int getGenerated() {
+        return (int) GENERATED.getAcquire(this);
+    }
+
+    @Override
+    public int getTraced() {
+        return (int) TRACED.getAcquire(this);
+    }
+
+    @Override
+    public int getRejected() {
+        return (int) REJECTED.getAcquire(this);
+    }
+
+    private void updateLabels() {
+        int visited  = getVisited();
+        int opened   = getOpened();
+        int traced   = getTraced();
+        int rejected = getRejected();
+
+        if (visited != shownVisited) {
+            shownVisited = visited;
+            updateLabel(labelVisited, LabelSelector.VISITED, "Visited", visited);
         }
-        
-        Platform.runLater(() -> {
-            if (labelSelectors.contains(LabelSelector.REJECTED)) {
-                labelRejected.setText(String.format("Rejected: %d", rejected));
-            } else {
-                labelRejected.setText("Rejected: N/A");
-            }
-        });
-    }
-    
-    public void addToOpened(int delta) {
-        opened += delta;
-        
-        if (labelOpened == null) {
-            return;
+
+        if (opened != shownOpened) {
+            shownOpened = opened;
+            updateLabel(labelOpened, LabelSelector.OPENED, "Opened", opened);
         }
-        
-        Platform.runLater(() -> {
-            if (labelSelectors.contains(LabelSelector.OPENED)) {
-                labelOpened.setText(String.format("Opened: %d", opened));
-            } else {
-                labelOpened.setText("Opened: N/A");
-            }
-        });
-    }
-    
-    public void addToVisited(int delta) {
-        visited += delta;
-        
-        if (labelVisited == null) {
+
+        if (traced != shownTraced) {
+            shownTraced = traced;
+            updateLabel(labelTraced, LabelSelector.TRACED, "Traced", traced);
+        }
+
+        if (rejected != shownRejected) {
+            shownRejected = rejected;
+            updateLabel(labelRejected,
+                        LabelSelector.REJECTED,
+                        "Rejected",
+                        rejected);
+        }
+    }
+
+    private void updateLabel(Label label,
+                             LabelSelector selector,
+                             String name,
+                             int value) {
+        if (label == null) {
             return;
         }
-        
-        Platform.runLater(() -> {
-            if (labelSelectors.contains(LabelSelector.VISITED)) {
-                labelVisited.setText(String.format("Visited: %d", visited));
-            } else {
-                labelVisited.setText("Visited: N/A");
-            }
-        });
+
+        if (labelSelectors.contains(selector)) {
+            label.setText(String.format("%s: %d", name, value));
+        } else {
+            label.setText(name + ": N/A");
+        }
     }
 }
@@ -0,0 +1,128 @@
+package io.github.coderodde.pathfinding.model;
+
+/**
+ * This class implements an immutable grid snapshot storing one bit per cell.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class BitGridSnapshot implements GridSnapshot {
+    
+    private final int width;
+    private final int height;
+    private final long version;
+    
+    /**
+     * Bit {@code i % 64} of word {@code i / 64} is set if and only if the cell
+     * with the index {@code i} is a wall.
+     */
+    private final long[] walls;
+    
+    BitGridSnapshot(int width, int height, long version, long[] walls) {
+        this.width = width;
+        this.height = height;
+        this.version = version;
+        this.walls = walls;
+    }
+    
+    /**
+     * Takes a snapshot of the walls of {@code model}. The version is read 
+     * before the walls, and the walls are read again if the version changed
+     * meanwhile, so that the snapshot never carries a version newer than its
+     * walls.
+     * 
+     * @param model the grid model.
+     * @return the snapshot.
+     */
+    public static BitGridSnapshot of(GridModel model) {
+        int width = model.getWidth();
+        int height = model.getHeight();
+        long version;
+        long[] walls;
+        
+        do {
+            version = model.getVersion();
+            walls = new long[wordCount(width, height)];
+            
+            for (int y = 0; y < height; ++y) {
+                for (int x = 0; x < width; ++x) {
+                    if (!model.isWalkable(x, y)) {
+                        int index = y * width + x;
+                        walls[index / Long.SIZE] |= 1L << (index % Long.SIZE);
+                    }
+                }
+            }
+        } while (version != model.getVersion());
+        
+        return new BitGridSnapshot(width, height, version, walls);
+    }
+
+    /**
+     * Creates a snapshot of a grid without a grid model. Bit {@code i % 64} 
+     * of {@code walls[i / 64]} must be set if and only if the cell with the 
+     * index {@code i} is a wall. The array is not copied.
+     * 
+     * @param width  the width of the grid.
+     * @param height the height of the grid.
+     * @param walls  the wall bits.
+     * @return the snapshot.
+     */
+    public static BitGridSnapshot of(int width, int height, long[] walls) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Invalid grid dimensions (%d x %d)", 
+                            width,
+                            height));
+        }
+        
+        if (walls.length != wordCount(width, height)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The wall array length (%d) does not match " + 
+                            "the grid dimensions (%d x %d)",
+                            walls.length,
+                            width,
+                            height));
+        }
+        
+        return new BitGridSnapshot(width, height, 0L, walls);
+    }
+    
+    /**
+     * Returns the number of 64-bit words holding the wall bits of a grid.
+     * 
+     * @param width  the width of the grid.
+     * @param height the height of the grid.
+     * @return the number of words.
+     */
+    public static int wordCount(int width, int height) {
+        return (int) (((long) width * height + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public boolean isWalkable(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        
+        int index = y * width + x;
+        return (walls[index / Long.SIZE] & (1L << (index % Long.SIZE))) == 0L;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
@@ -15,13 +15,16 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class implements the grid model representing the cell configurations.
  * 
  * @author Rodion "rodde" Efremov
- * @version 1.0.0 (Aug 24, 2025)
+ * @version 1.2.1 (Oct 19, 2026)
  * @since 1.0.0 (Aug 24, 2025)
  */
 public final class GridModel {
@@ -84,6 +87,23 @@ public final class GridModel {
      */
     private final List<Cell> path = new ArrayList<>();
     
+    /**
+     * The listeners notified whenever a cell turns into a wall or back.
+     */
+    private final List<WallChangeListener> wallChangeListeners = 
+            new CopyOnWriteArrayList<>();
+    
+    /**
+     * Incremented whenever a cell turns into a wall or back.
+     */
+    private final AtomicLong version = new AtomicLong();
+    
+    /**
+     * If not {@code null}, the cell type changes are recorded into this trace
+     * instead of being drawn.
+     */
+    private volatile SearchTrace searchTrace;
+    
     public void clearWalls() {
         for (int y = 0; y < height; ++y) {
             for (int x = 0; x < width; ++x) {
@@ -351,11 +371,51 @@ public final class GridModel {
     
     public void setCellType(int x, int y, CellType cellType) {
         Cell cell = getCell(x, y);
+        boolean wasWall = cell.getCellType().equals(WALL);
         cell.setCellType(cellType);
         
-        if (view != null) {
+        SearchTrace trace = searchTrace;
+        
+        if (trace != null) {
+            trace.record(x, y, cellType);
+        } else if (view != null) {
             view.drawCell(cell, true);
         }
+        
+        boolean isWall = cellType.equals(WALL);
+        
+        if (wasWall != isWall) {
+            version.incrementAndGet();
+            
+            for (WallChangeListener listener : wallChangeListeners) {
+                listener.onWallChanged(x, y, isWall);
+            }
+        }
+    }
+    
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Takes an immutable snapshot of the walls of this model. The snapshot 
+     * may be queried from any thread while this model keeps changing.
+     * 
+     * @return the snapshot.
+     */
+    public GridSnapshot createSnapshot() {
+        return BitGridSnapshot.of(this);
+    }
+    
+    public void addWallChangeListener(WallChangeListener listener) {
+        wallChangeListeners.add(
+                Objects.requireNonNull(
+                        listener, 
+                        "The input wall change listener is null"));
+    }
+    
+    public void removeWallChangeListener(WallChangeListener listener) {
+        wallChangeListeners.remove(listener);
     }
     
     public void setCellType(Cell cell, CellType cellType) {
@@ -376,6 +436,34 @@ public final class GridModel {
         this.view = view;
     }
     
+    public SearchTrace getSearchTrace() {
+        return searchTrace;
+    }
+    
+    /**
+     * Sets the trace recording the subsequent cell type changes instead of 
+     * drawing them, or {@code null} to draw them again. A search running 
+     * with a trace is not slowed down by the view.
+     * 
+     * @param searchTrace the search trace or {@code null}.
+     */
+    public synchronized void setSearchTrace(SearchTrace searchTrace) {
+        this.searchTrace = searchTrace;
+    }
+    
+    /**
+     * Detaches {@code searchTrace} unless another trace has been set since, 
+     * so that a cancelled search finishing late does not detach the trace of
+     * the search that replaced it.
+     * 
+     * @param searchTrace the search trace to detach.
+     */
+    public synchronized void detachSearchTrace(SearchTrace searchTrace) {
+        if (this.searchTrace == searchTrace) {
+            this.searchTrace = null;
+        }
+    }
+    
     public void setPath(List<Cell> path) {
         path.clear();
         path.addAll(path);
@@ -390,7 +478,17 @@ public final class GridModel {
     }
     
     public void drawRandomMaze() {
-        Random rnd = new Random();
+        drawRandomMaze(new Random());
+    }
+    
+    /**
+     * Draws a random maze using {@code rnd} as the source of randomness, so 
+     * that the same seed gives the same maze.
+     * 
+     * @param rnd the random number generator.
+     */
+    public void drawRandomMaze(Random rnd) {
+        Objects.requireNonNull(rnd, "The input random is null");
         drawAllAsWalls();
         drawViaDFS(rnd);
         setSourceTargetCells(rnd);
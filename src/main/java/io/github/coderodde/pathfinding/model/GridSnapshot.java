@@ -0,0 +1,91 @@
+package io.github.coderodde.pathfinding.model;
+
+/**
+ * This interface defines the read-only view of a grid used by the
+ * thread-safe path queries. The cells are addressed either by their
+ * coordinates or by their row-major indices {@code y * width + x}.
+ * Implementations must be safe to read from many threads concurrently.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public interface GridSnapshot {
+    
+    public int getWidth();
+    
+    public int getHeight();
+    
+    /**
+     * Returns {@code true} if the cell {@code (x, y)} is within the grid and
+     * is not a wall.
+     * 
+     * @param x the {@code X}-coordinate of the cell.
+     * @param y the {@code Y}-coordinate of the cell.
+     * @return {@code true} if the cell is walkable.
+     */
+    public boolean isWalkable(int x, int y);
+    
+    /**
+     * Returns the version of the grid model this snapshot was taken of. The 
+     * version changes whenever the walls of the model change.
+     * 
+     * @return the version of the walls.
+     */
+    public long getVersion();
+    
+    /**
+     * Returns a 64-bit hash of the dimensions and the walls of this snapshot.
+     * Unlike the version, the hash depends on the contents only, and thus
+     * survives restarts. The default implementation scans all the cells; the
+     * snapshots that store their hash override this method.
+     * 
+     * @return the content hash.
+     */
+    public default long getContentHash() {
+        int width = getWidth();
+        int height = getHeight();
+        long hash = mix(((long) width << 32) | height);
+        long word = 0L;
+        int bit = 0;
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                if (!isWalkable(x, y)) {
+                    word |= 1L << bit;
+                }
+
+                if (++bit == Long.SIZE) {
+                    hash = mix(hash ^ word);
+                    word = 0L;
+                    bit = 0;
+                }
+            }
+        }
+
+        return mix(hash ^ word);
+    }
+    
+    public default int getNumberOfCells() {
+        return getWidth() * getHeight();
+    }
+    
+    public default int toIndex(int x, int y) {
+        return y * getWidth() + x;
+    }
+    
+    public default int toX(int cellIndex) {
+        return cellIndex % getWidth();
+    }
+    
+    public default int toY(int cellIndex) {
+        return cellIndex / getWidth();
+    }
+    
+    private static long mix(long value) {
+        value *= 0x9E3779B97F4A7C15L;
+        value ^= value >>> 32;
+        value *= 0x9E3779B97F4A7C15L;
+        return value ^ (value >>> 29);
+    }
+}
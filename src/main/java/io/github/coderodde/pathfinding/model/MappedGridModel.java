@@ -0,0 +1,263 @@
+package io.github.coderodde.pathfinding.model;
+
+import java.io.IOException;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class implements a grid snapshot read straight off a memory-mapped
+ * file, so that opening even a huge grid takes no time and no heap, and the
+ * processes mapping the same file share its pages in the page cache.
+ *
+ * The file consists of a header and the wall bits. The header holds, as
+ * big-endian integers:
+ * <pre>
+ *   int  magic number {@link #MAGIC}
+ *   int  format version {@link #FORMAT_VERSION}
+ *   int  width
+ *   int  height
+ *   long version of the walls
+ *   long content hash of the walls, see {@link #getContentHash()}
+ * </pre>
+ * The wall bits follow as big-endian {@code long} words in the row-major
+ * order: bit {@code i % 64} of word {@code i / 64} is set if and only if the
+ * cell with the index {@code i} is a wall. A 16384 x 16384 grid takes 32 MB.
+ *
+ * Storing the content hash spares the validation of the artifacts of the map
+ * a scan over all its cells.
+ *
+ * The file must not be modified while mapped. The mapping lives until this
+ * object becomes unreachable; closing only releases the file channel.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class MappedGridModel implements GridSnapshot, AutoCloseable {
+
+    public static final int MAGIC = 0x50464757; // "PFGW"
+    public static final int FORMAT_VERSION = 2;
+
+    /**
+     * The length of the header in bytes. Keeps the words 8-byte aligned.
+     */
+    public static final int HEADER_LENGTH =
+            4 * Integer.BYTES + 2 * Long.BYTES;
+
+    private final FileChannel channel;
+    private final LongBuffer walls;
+    private final int width;
+    private final int height;
+    private final long version;
+    private final long contentHash;
+
+    private MappedGridModel(FileChannel channel,
+                            LongBuffer walls,
+                            int width,
+                            int height,
+                            long version,
+                            long contentHash) {
+        this.channel = channel;
+        this.walls = walls;
+        this.width = width;
+        this.height = height;
+        this.version = version;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * Maps the grid file {@code path}.
+     *
+     * @param path the path of the grid file.
+     * @return the mapped grid.
+     * @throws IOException if the file cannot be mapped or is not a valid
+     *                     grid file.
+     */
+    public static MappedGridModel open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            long size = channel.size();
+
+            if (size < HEADER_LENGTH) {
+                throw new IOException(
+                        String.format("%s is too short for a grid file",
+                                      path));
+            }
+
+            MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+
+            int magic         = buffer.getInt(0);
+            int formatVersion = buffer.getInt(4);
+            int width         = buffer.getInt(8);
+            int height        = buffer.getInt(12);
+            long version      = buffer.getLong(16);
+            long contentHash  = buffer.getLong(24);
+
+            if (magic != MAGIC) {
+                throw new IOException(
+                        String.format("%s is not a grid file", path));
+            }
+
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException(
+                        String.format(
+                                "%s has the format version %d, expected %d",
+                                path,
+                                formatVersion,
+                                FORMAT_VERSION));
+            }
+
+            checkDimensions(width, height);
+
+            long expectedSize = fileSize(width, height);
+
+            if (size != expectedSize) {
+                throw new IOException(
+                        String.format(
+                                "%s has %d bytes, expected %d",
+                                path,
+                                size,
+                                expectedSize));
+            }
+
+            LongBuffer walls = buffer.slice(HEADER_LENGTH,
+                                            (int) (size - HEADER_LENGTH))
+                                     .asLongBuffer();
+
+            return new MappedGridModel(channel,
+                                       walls,
+                                       width,
+                                       height,
+                                       version,
+                                       contentHash);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} to the grid file {@code path}, replacing the
+     * file if it exists.
+     *
+     * @param snapshot the grid snapshot.
+     * @param path     the path of the grid file.
+     * @throws IOException if writing fails.
+     */
+    public static void write(GridSnapshot snapshot, Path path)
+            throws IOException {
+
+        int width = snapshot.getWidth();
+        int height = snapshot.getHeight();
+        checkDimensions(width, height);
+
+        try (FileChannel channel =
+                FileChannel.open(path,
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.TRUNCATE_EXISTING,
+                                 StandardOpenOption.READ,
+                                 StandardOpenOption.WRITE)) {
+
+            MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_WRITE,
+                                 0L,
+                                 fileSize(width, height));
+
+            buffer.putInt(MAGIC)
+                  .putInt(FORMAT_VERSION)
+                  .putInt(width)
+                  .putInt(height)
+                  .putLong(snapshot.getVersion())
+                  .putLong(snapshot.getContentHash());
+
+            LongBuffer walls = buffer.asLongBuffer();
+            long word = 0L;
+            int cells = width * height;
+
+            for (int index = 0; index < cells; ++index) {
+                int x = index % width;
+                int y = index / width;
+
+                if (!snapshot.isWalkable(x, y)) {
+                    word |= 1L << (index % Long.SIZE);
+                }
+
+                if (index % Long.SIZE == Long.SIZE - 1) {
+                    walls.put(word);
+                    word = 0L;
+                }
+            }
+
+            if (cells % Long.SIZE != 0) {
+                walls.put(word);
+            }
+
+            buffer.force();
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public boolean isWalkable(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+
+        int index = y * width + x;
+        return (walls.get(index / Long.SIZE) & (1L << (index % Long.SIZE)))
+                == 0L;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the content hash stored in the header, without scanning the
+     * walls.
+     *
+     * @return the content hash.
+     */
+    @Override
+    public long getContentHash() {
+        return contentHash;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static void checkDimensions(int width, int height)
+            throws IOException {
+
+        if (width < 1 || height < 1 ||
+            (long) width * height > Integer.MAX_VALUE) {
+            throw new IOException(
+                    String.format(
+                            "Invalid grid dimensions (%d x %d)",
+                            width,
+                            height));
+        }
+    }
+
+    private static long fileSize(int width, int height) {
+        return HEADER_LENGTH +
+               (long) BitGridSnapshot.wordCount(width, height) * Long.BYTES;
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.coderodde.pathfinding.model;
+
+import io.github.coderodde.pathfinding.utils.CellType;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class implements a bounded trace of the cell type changes made by a
+ * search. Each change is a single {@code int} event packing the index of the
+ * cell and its new type, so that recording a change costs an atomic
+ * increment and a store into a primitive array instead of a repaint request.
+ * The events are stored in a ring of {@link #getCapacity()} slots, so that a
+ * long search, such as IDDFS, does not run out of memory: once the search
+ * gets more than the capacity ahead of the reader, the oldest events are
+ * overwritten, and the reader is to resynchronize from the grid model
+ * instead. Recording never fails.
+ *
+ * Any number of threads may record events, and a single reader, such as the
+ * grid view replaying the trace, may read them concurrently. An event not
+ * yet fully written, or already overwritten, reads as zero.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class SearchTrace {
+
+    /**
+     * The default number of the events kept, which takes 8 MiB.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+
+    /**
+     * The number of the low bits holding the cell index. The bits above hold
+     * the ordinal of the cell type plus one, so that no event is zero.
+     */
+    private static final int CELL_INDEX_BITS = 28;
+    private static final int CELL_INDEX_MASK = (1 << CELL_INDEX_BITS) - 1;
+
+    private static final CellType[] CELL_TYPES = CellType.values();
+
+    private static final VarHandle SLOTS =
+            MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final int width;
+
+    /**
+     * Each slot holds the low 32 bits of the position of its event in the
+     * high half and the event in the low half, so that the reader tells a
+     * stale or an overwritten slot from the event it expects.
+     */
+    private final long[] slots;
+
+    private final int mask;
+
+    private final AtomicLong size = new AtomicLong();
+
+    private volatile boolean closed;
+
+    public SearchTrace(int width, int height) {
+        this(width, height, DEFAULT_CAPACITY);
+    }
+
+    public SearchTrace(int width, int height, int capacity) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The trace dimensions (%d x %d) are not positive",
+                            width,
+                            height));
+        }
+
+        if ((long) width * height > CELL_INDEX_MASK + 1L) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The trace dimensions (%d x %d) exceed %d cells",
+                            width,
+                            height,
+                            CELL_INDEX_MASK + 1));
+        }
+
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The trace capacity (%d) is not a power of two",
+                            capacity));
+        }
+
+        this.width = width;
+        this.slots = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Appends the event of the cell at {@code (x, y)} becoming of type
+     * {@code cellType}, overwriting the oldest event if the trace is full.
+     *
+     * @param x        the {@code X}-coordinate of the cell.
+     * @param y        the {@code Y}-coordinate of the cell.
+     * @param cellType the new type of the cell.
+     */
+    public void record(int x, int y, CellType cellType) {
+        Objects.requireNonNull(cellType, "The input cell type is null");
+
+        long position = size.getAndIncrement();
+        int event = ((cellType.ordinal() + 1) << CELL_INDEX_BITS)
+                  | (y * width + x);
+
+        long slot = (position << 32) | (event & 0xFFFF_FFFFL);
+        int index = (int) position & mask;
+
+        while (true) {
+            long current = (long) SLOTS.getAcquire(slots, index);
+
+            // A recorder delayed by a whole lap must not overwrite the newer
+            // event:
+            if (current != 0L
+                    && (int)((current >>> 32) - position) > 0) {
+                return;
+            }
+
+            if (SLOTS.compareAndSet(slots, index, current, slot)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the events recorded so far, some of which may
+     * still be being written or may be overwritten already.
+     *
+     * @return the number of the events.
+     */
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * Returns the number of the most recent events this trace keeps.
+     *
+     * @return the capacity of this trace.
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns whether the event at position {@code position} may have been
+     * overwritten, in which case the reader is to skip to {@link #size()}
+     * and redraw the cells from the grid model.
+     *
+     * @param position the position of the event.
+     * @return {@code true} if the reader fell too far behind.
+     */
+    public boolean isOverrun(long position) {
+        return size.get() - position > slots.length;
+    }
+
+    /**
+     * Returns the event at position {@code position}, or zero if it is not
+     * written yet or is already overwritten.
+     *
+     * @param position the position of the event.
+     * @return the event or zero.
+     */
+    public int getEvent(long position) {
+        if (position < 0L || position >= size.get()) {
+            return 0;
+        }
+
+        long slot = (long) SLOTS.getAcquire(slots, (int) position & mask);
+
+        if ((int)(slot >>> 32) != (int) position) {
+            return 0;
+        }
+
+        return (int) slot;
+    }
+
+    /**
+     * Marks this trace complete. Must be called after the last event has
+     * been recorded.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getX(int event) {
+        return (event & CELL_INDEX_MASK) % width;
+    }
+
+    public int getY(int event) {
+        return (event & CELL_INDEX_MASK) / width;
+    }
+
+    public static CellType getCellType(int event) {
+        return CELL_TYPES[(event >>> CELL_INDEX_BITS) - 1];
+    }
+}
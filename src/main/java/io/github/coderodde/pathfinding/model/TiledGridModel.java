@@ -0,0 +1,628 @@
+package io.github.coderodde.pathfinding.model;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This class implements a grid snapshot stored in a file as fixed-size
+ * square tiles, each compressed on its own. The tiles are loaded on demand
+ * and kept in memory up to a byte budget, so that grids much larger than the
+ * memory can be searched as long as the searches stay local.
+ *
+ * The file consists of, as big-endian integers:
+ * <pre>
+ *   int  magic number {@link #MAGIC}
+ *   int  format version {@link #FORMAT_VERSION}
+ *   int  width
+ *   int  height
+ *   int  tile size
+ *   long version of the walls
+ *   for each tile in the row-major order:
+ *     byte encoding
+ *     long offset of the tile data
+ *     int  length of the tile data
+ *   the tile data
+ * </pre>
+ * A tile is encoded either as {@link #ENCODING_FREE} or
+ * {@link #ENCODING_WALLS} without data if all its cells are alike, as
+ * {@link #ENCODING_RUNS} holding the alternating lengths of the free and
+ * the wall runs as unsigned LEB128 varints, or as {@link #ENCODING_BITS}
+ * holding the wall bits as {@code long} words, whichever is shorter. The
+ * cells of the edge tiles beyond the grid count as walls.
+ *
+ * The uniform tiles cost no memory and stay resident. The other tiles are
+ * evicted by the CLOCK approximation of LRU: an access only marks the tile
+ * as referenced, without taking a lock, and the eviction skips and unmarks
+ * the referenced tiles once before evicting them. This class is
+ * thread-safe.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class TiledGridModel implements GridSnapshot, AutoCloseable {
+
+    public static final int MAGIC = 0x50464754; // "PFGT"
+    public static final int FORMAT_VERSION = 1;
+
+    public static final byte ENCODING_FREE  = 0;
+    public static final byte ENCODING_WALLS = 1;
+    public static final byte ENCODING_RUNS  = 2;
+    public static final byte ENCODING_BITS  = 3;
+
+    public static final int DEFAULT_TILE_SIZE = 256;
+
+    private static final int HEADER_LENGTH = 5 * Integer.BYTES + Long.BYTES;
+
+    private static final int INDEX_ENTRY_LENGTH =
+            1 + Long.BYTES + Integer.BYTES;
+
+    private static final int MINIMUM_TILE_SIZE = 8;
+    private static final int MAXIMUM_TILE_SIZE = 4096;
+
+    private static final Tile FREE_TILE  = new Tile(null);
+    private static final Tile WALLS_TILE = new Tile(null);
+
+    private final FileChannel channel;
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final int tilesPerRow;
+    private final long version;
+
+    private final byte[] encodings;
+    private final long[] offsets;
+    private final int[] lengths;
+
+    private final AtomicReferenceArray<Tile> residentTiles;
+    private final long memoryBudget;
+
+    // Guarded by 'this':
+    private long memoryUsage;
+    private int clockHand;
+    private long loads;
+    private long evictions;
+
+    private TiledGridModel(FileChannel channel,
+                           int width,
+                           int height,
+                           int tileSize,
+                           long version,
+                           byte[] encodings,
+                           long[] offsets,
+                           int[] lengths,
+                           long memoryBudget) {
+
+        this.channel = channel;
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.tilesPerRow = (width + tileSize - 1) / tileSize;
+        this.version = version;
+        this.encodings = encodings;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.memoryBudget = memoryBudget;
+        this.residentTiles = new AtomicReferenceArray<>(encodings.length);
+
+        for (int i = 0; i < encodings.length; ++i) {
+            if (encodings[i] == ENCODING_FREE) {
+                residentTiles.set(i, FREE_TILE);
+            } else if (encodings[i] == ENCODING_WALLS) {
+                residentTiles.set(i, WALLS_TILE);
+            }
+        }
+    }
+
+    /**
+     * Opens the tiled grid file {@code path}.
+     *
+     * @param path         the path of the tiled grid file.
+     * @param memoryBudget the maximum number of bytes of the loaded tiles.
+     * @return the tiled grid.
+     * @throws IOException if the file cannot be read or is not a valid tiled
+     *                     grid file.
+     */
+    public static TiledGridModel open(Path path, long memoryBudget)
+            throws IOException {
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            ByteBuffer header = read(channel, 0L, HEADER_LENGTH);
+
+            int magic         = header.getInt();
+            int formatVersion = header.getInt();
+            int width         = header.getInt();
+            int height        = header.getInt();
+            int tileSize      = header.getInt();
+            long version      = header.getLong();
+
+            if (magic != MAGIC) {
+                throw new IOException(
+                        String.format("%s is not a tiled grid file", path));
+            }
+
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException(
+                        String.format(
+                                "%s has the format version %d, expected %d",
+                                path,
+                                formatVersion,
+                                FORMAT_VERSION));
+            }
+
+            checkDimensions(width, height, tileSize);
+
+            long tileBytes = (long) tileSize * tileSize / Byte.SIZE;
+
+            if (memoryBudget < tileBytes) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The memory budget (%d) is less than the " +
+                                "size of a tile (%d)",
+                                memoryBudget,
+                                tileBytes));
+            }
+
+            int tiles = tileCount(width, height, tileSize);
+            ByteBuffer index = read(channel,
+                                    HEADER_LENGTH,
+                                    tiles * INDEX_ENTRY_LENGTH);
+
+            byte[] encodings = new byte[tiles];
+            long[] offsets = new long[tiles];
+            int[] lengths = new int[tiles];
+            long size = channel.size();
+
+            for (int i = 0; i < tiles; ++i) {
+                encodings[i] = index.get();
+                offsets[i] = index.getLong();
+                lengths[i] = index.getInt();
+
+                if (encodings[i] < ENCODING_FREE ||
+                    encodings[i] > ENCODING_BITS ||
+                    offsets[i] < 0L ||
+                    lengths[i] < 0 ||
+                    offsets[i] + lengths[i] > size) {
+                    throw new IOException(
+                            String.format(
+                                    "%s has an invalid entry for the tile %d",
+                                    path,
+                                    i));
+                }
+            }
+
+            return new TiledGridModel(channel,
+                                      width,
+                                      height,
+                                      tileSize,
+                                      version,
+                                      encodings,
+                                      offsets,
+                                      lengths,
+                                      memoryBudget);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} to the tiled grid file {@code path}, replacing
+     * the file if it exists.
+     *
+     * @param snapshot the grid snapshot.
+     * @param path     the path of the tiled grid file.
+     * @param tileSize the width and the height of a tile, a multiple of 8.
+     * @throws IOException if writing fails.
+     */
+    public static void write(GridSnapshot snapshot, Path path, int tileSize)
+            throws IOException {
+
+        int width = snapshot.getWidth();
+        int height = snapshot.getHeight();
+        checkDimensions(width, height, tileSize);
+
+        int tilesPerRow = (width + tileSize - 1) / tileSize;
+        int tiles = tileCount(width, height, tileSize);
+
+        try (FileChannel channel =
+                FileChannel.open(path,
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.TRUNCATE_EXISTING,
+                                 StandardOpenOption.WRITE)) {
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            header.putInt(MAGIC)
+                  .putInt(FORMAT_VERSION)
+                  .putInt(width)
+                  .putInt(height)
+                  .putInt(tileSize)
+                  .putLong(snapshot.getVersion());
+
+            writeFully(channel, header.flip(), 0L);
+
+            ByteBuffer index = ByteBuffer.allocate(INDEX_ENTRY_LENGTH);
+            long offset = HEADER_LENGTH + (long) tiles * INDEX_ENTRY_LENGTH;
+
+            for (int tile = 0; tile < tiles; ++tile) {
+                long[] bits = readTileBits(snapshot,
+                                           tile % tilesPerRow * tileSize,
+                                           tile / tilesPerRow * tileSize,
+                                           tileSize);
+
+                ByteBuffer data = encode(bits, tileSize);
+                byte encoding = data.get();
+
+                index.clear();
+                index.put(encoding)
+                     .putLong(offset)
+                     .putInt(data.remaining());
+
+                writeFully(channel,
+                           index.flip(),
+                           HEADER_LENGTH + (long) tile * INDEX_ENTRY_LENGTH);
+
+                int length = data.remaining();
+                writeFully(channel, data, offset);
+                offset += length;
+            }
+
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    @Override
+    public boolean isWalkable(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+
+        int tileIndex = (y / tileSize) * tilesPerRow + x / tileSize;
+        Tile tile = residentTiles.get(tileIndex);
+
+        if (tile == null) {
+            tile = load(tileIndex);
+        }
+
+        if (tile == FREE_TILE) {
+            return true;
+        }
+
+        if (tile == WALLS_TILE) {
+            return false;
+        }
+
+        if (!tile.referenced) {
+            tile.referenced = true;
+        }
+
+        int i = (y % tileSize) * tileSize + x % tileSize;
+        return (tile.bits[i / Long.SIZE] & (1L << (i % Long.SIZE))) == 0L;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the number of tiles loaded from the file so far.
+     *
+     * @return the number of tile loads.
+     */
+    public synchronized long getLoads() {
+        return loads;
+    }
+
+    /**
+     * Returns the number of tiles evicted from the memory so far.
+     *
+     * @return the number of tile evictions.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of bytes taken by the resident tiles.
+     *
+     * @return the memory usage in bytes.
+     */
+    public synchronized long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private synchronized Tile load(int tileIndex) {
+        Tile tile = residentTiles.get(tileIndex);
+
+        if (tile != null) {
+            // Loaded by another thread meanwhile.
+            return tile;
+        }
+
+        long[] bits;
+
+        try {
+            ByteBuffer data = read(channel,
+                                   offsets[tileIndex],
+                                   lengths[tileIndex]);
+
+            bits = decode(encodings[tileIndex], data, tileSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(
+                    String.format("Could not load the tile %d", tileIndex),
+                    ex);
+        }
+
+        long tileBytes = (long) bits.length * Long.BYTES;
+
+        while (memoryUsage + tileBytes > memoryBudget) {
+            evictOne();
+        }
+
+        tile = new Tile(bits);
+        residentTiles.set(tileIndex, tile);
+        memoryUsage += tileBytes;
+        ++loads;
+        return tile;
+    }
+
+    /**
+     * Evicts the first unreferenced tile from the clock hand on.
+     */
+    private void evictOne() {
+        while (true) {
+            clockHand = (clockHand + 1) % encodings.length;
+            Tile tile = residentTiles.get(clockHand);
+
+            if (tile == null || tile.bits == null) {
+                continue;
+            }
+
+            if (tile.referenced) {
+                tile.referenced = false;
+                continue;
+            }
+
+            residentTiles.set(clockHand, null);
+            memoryUsage -= (long) tile.bits.length * Long.BYTES;
+            ++evictions;
+            return;
+        }
+    }
+
+    private static long[] readTileBits(GridSnapshot snapshot,
+                                       int tileX,
+                                       int tileY,
+                                       int tileSize) {
+
+        long[] bits = new long[tileSize * tileSize / Long.SIZE];
+
+        for (int y = 0; y < tileSize; ++y) {
+            for (int x = 0; x < tileSize; ++x) {
+                if (!snapshot.isWalkable(tileX + x, tileY + y)) {
+                    int i = y * tileSize + x;
+                    bits[i / Long.SIZE] |= 1L << (i % Long.SIZE);
+                }
+            }
+        }
+
+        return bits;
+    }
+
+    /**
+     * Encodes the tile bits. The first byte of the returned buffer is the
+     * encoding, the rest is the tile data.
+     */
+    private static ByteBuffer encode(long[] bits, int tileSize) {
+        int cells = tileSize * tileSize;
+        int bitsLength = bits.length * Long.BYTES;
+
+        // The run encoding is abandoned as soon as it grows longer than the
+        // bits. One varint takes at most 5 bytes:
+        ByteBuffer runs = ByteBuffer.allocate(1 + bitsLength + 5);
+        runs.put(ENCODING_RUNS);
+
+        boolean wall = false;
+        int runLength = 0;
+        int runCount = 0;
+
+        for (int i = 0; i < cells && runs.position() <= bitsLength; ++i) {
+            boolean cellIsWall = (bits[i / Long.SIZE] & (1L << (i % Long.SIZE)))
+                                 != 0L;
+
+            if (cellIsWall != wall) {
+                putVarint(runs, runLength);
+                ++runCount;
+                wall = cellIsWall;
+                runLength = 0;
+            }
+
+            ++runLength;
+        }
+
+        if (runs.position() <= bitsLength) {
+            // A single run, possibly after the empty free run of a tile
+            // starting with a wall:
+            if (runCount == 0 || (runCount == 1 && (bits[0] & 1L) != 0L)) {
+                return ByteBuffer.wrap(
+                        new byte[] { wall ? ENCODING_WALLS : ENCODING_FREE });
+            }
+
+            putVarint(runs, runLength);
+
+            if (runs.position() - 1 < bitsLength) {
+                return runs.flip();
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(1 + bitsLength);
+        buffer.put(ENCODING_BITS);
+        buffer.asLongBuffer().put(bits);
+        return buffer.position(0);
+    }
+
+    private static long[] decode(byte encoding,
+                                 ByteBuffer data,
+                                 int tileSize) throws IOException {
+
+        int cells = tileSize * tileSize;
+        long[] bits = new long[cells / Long.SIZE];
+
+        if (encoding == ENCODING_BITS) {
+            if (data.remaining() != bits.length * Long.BYTES) {
+                throw new IOException("Invalid tile data length");
+            }
+
+            data.asLongBuffer().get(bits);
+            return bits;
+        }
+
+        int i = 0;
+        boolean wall = false;
+
+        while (data.hasRemaining()) {
+            int runLength = getVarint(data);
+
+            if (runLength > cells - i) {
+                throw new IOException("The tile runs exceed the tile");
+            }
+
+            if (wall) {
+                for (int end = i + runLength; i < end; ++i) {
+                    bits[i / Long.SIZE] |= 1L << (i % Long.SIZE);
+                }
+            } else {
+                i += runLength;
+            }
+
+            wall = !wall;
+        }
+
+        if (i != cells) {
+            throw new IOException("The tile runs do not cover the tile");
+        }
+
+        return bits;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7f) != 0) {
+            buffer.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer) throws IOException {
+        int value = 0;
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new IOException("Truncated tile data");
+            }
+
+            byte b = buffer.get();
+            value |= (b & 0x7f) << shift;
+
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed varint in tile data");
+    }
+
+    private static ByteBuffer read(FileChannel channel,
+                                   long position,
+                                   int length) throws IOException {
+
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) == -1) {
+                throw new EOFException("Unexpected end of the tiled grid");
+            }
+        }
+
+        return buffer.flip();
+    }
+
+    private static void writeFully(FileChannel channel,
+                                   ByteBuffer buffer,
+                                   long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static void checkDimensions(int width, int height, int tileSize)
+            throws IOException {
+
+        if (width < 1 || height < 1 ||
+            (long) width * height > Integer.MAX_VALUE) {
+            throw new IOException(
+                    String.format(
+                            "Invalid grid dimensions (%d x %d)",
+                            width,
+                            height));
+        }
+
+        if (tileSize < MINIMUM_TILE_SIZE ||
+            tileSize > MAXIMUM_TILE_SIZE ||
+            tileSize % Byte.SIZE != 0) {
+            throw new IOException(
+                    String.format("Invalid tile size (%d)", tileSize));
+        }
+    }
+
+    private static int tileCount(int width, int height, int tileSize) {
+        return ((width  + tileSize - 1) / tileSize) *
+               ((height + tileSize - 1) / tileSize);
+    }
+
+    /**
+     * A resident tile. The uniform tiles have no bits.
+     */
+    private static final class Tile {
+
+        final long[] bits;
+        volatile boolean referenced = true;
+
+        Tile(long[] bits) {
+            this.bits = bits;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.coderodde.pathfinding.model;
+
+/**
+ * Listens to the cells of a {@link GridModel} turning into walls and back.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+@FunctionalInterface
+public interface WallChangeListener {
+
+    /**
+     * Called after the cell {@code (x, y)} changed its walkability.
+     *
+     * @param x    the {@code X}-coordinate of the cell.
+     * @param y    the {@code Y}-coordinate of the cell.
+     * @param wall {@code true} if the cell became a wall, {@code false} if it
+     *             became walkable.
+     */
+    void onWallChanged(int x, int y, boolean wall);
+}
@@ -0,0 +1,224 @@
+package io.github.coderodde.pathfinding.server;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * This class implements a blocking client of {@link PathQueryServer}. The
+ * requests are buffered until {@link #flush()} or a call to 
+ * {@link #receive(int)}, so that many requests may be pipelined in a single
+ * write. While the server does not take more requests, the flush reads the
+ * responses already sent into a buffer, so that neither side waits for the
+ * other one to read. This class is not thread-safe.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PathQueryClient implements AutoCloseable {
+    
+    /**
+     * A decoded response.
+     */
+    public record Response(int requestId, byte status, int[] path) {}
+    
+    private static final int BUFFER_CAPACITY = 8192;
+    
+    private final SocketChannel channel;
+    private final Selector selector;
+    private final SelectionKey key;
+    
+    private ByteBuffer writeBuffer = ByteBuffer.allocate(BUFFER_CAPACITY);
+    private ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_CAPACITY);
+    
+    public PathQueryClient(SocketAddress address) throws IOException {
+        this.channel = SocketChannel.open(address);
+        
+        try {
+            this.channel.configureBlocking(false);
+            this.selector = Selector.open();
+        } catch (IOException ex) {
+            channel.close();
+            throw ex;
+        }
+        
+        this.key = channel.register(selector, 0);
+        this.readBuffer.flip();
+    }
+    
+    /**
+     * Queues a request. Nothing is written before {@link #flush()} or
+     * {@link #receive(int)}.
+     * 
+     * @param requestId the request ID echoed in the response.
+     * @param mapId     the map ID.
+     * @param source    the index of the source cell.
+     * @param target    the index of the target cell.
+     * @param flags     the flags of {@link PathQueryProtocol}.
+     */
+    public void send(int requestId, 
+                     int mapId, 
+                     int source, 
+                     int target, 
+                     byte flags) {
+        
+        if (writeBuffer.remaining() < 
+                Integer.BYTES + PathQueryProtocol.REQUEST_LENGTH) {
+            writeBuffer = ByteBuffer.allocate(2 * writeBuffer.capacity())
+                                    .put(writeBuffer.flip());
+        }
+        
+        PathQueryProtocol.writeRequest(writeBuffer,
+                                       requestId, 
+                                       mapId, 
+                                       source, 
+                                       target, 
+                                       flags);
+    }
+    
+    /**
+     * Writes all the queued requests, reading the responses arriving
+     * meanwhile.
+     * 
+     * @throws IOException if writing fails.
+     */
+    public void flush() throws IOException {
+        writeBuffer.flip();
+        
+        try {
+            while (writeBuffer.hasRemaining()) {
+                if (channel.write(writeBuffer) > 0) {
+                    continue;
+                }
+                
+                await(SelectionKey.OP_WRITE | SelectionKey.OP_READ);
+                
+                if (key.isReadable()) {
+                    readAvailable();
+                }
+            }
+        } finally {
+            writeBuffer.compact();
+        }
+    }
+    
+    /**
+     * Flushes the queued requests and reads the next response.
+     * 
+     * @param width the width of the map of the request.
+     * @return the response.
+     * @throws IOException if reading fails.
+     */
+    public Response receive(int width) throws IOException {
+        flush();
+        fill(Integer.BYTES);
+        
+        int length = readBuffer.getInt();
+        
+        if (length < Integer.BYTES + 1 + Integer.BYTES || 
+            length > PathQueryProtocol.MAXIMUM_FRAME_LENGTH) {
+            throw new IOException(
+                    String.format("Invalid frame length (%d)", length));
+        }
+        
+        fill(length);
+        
+        int requestId = readBuffer.getInt();
+        byte status = readBuffer.get();
+        int[] path = PathQueryProtocol.decodePath(readBuffer, width);
+        return new Response(requestId, status, path);
+    }
+    
+    /**
+     * Sends a single request and waits for its response.
+     * 
+     * @param mapId  the map ID.
+     * @param width  the width of the map.
+     * @param source the index of the source cell.
+     * @param target the index of the target cell.
+     * @param flags  the flags of {@link PathQueryProtocol}.
+     * @return the path, empty if there is none.
+     * @throws IOException if the request fails.
+     */
+    public int[] findPath(int mapId, 
+                          int width,
+                          int source, 
+                          int target, 
+                          byte flags) throws IOException {
+        send(0, mapId, source, target, flags);
+        Response response = receive(width);
+        
+        if (response.status() != PathQueryProtocol.STATUS_OK &&
+            response.status() != PathQueryProtocol.STATUS_NO_PATH) {
+            throw new IOException(
+                    String.format("The request failed with status %d", 
+                                  response.status()));
+        }
+        
+        return response.path();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            selector.close();
+        } finally {
+            channel.close();
+        }
+    }
+    
+    /**
+     * Reads until at least {@code bytes} bytes are available.
+     */
+    private void fill(int bytes) throws IOException {
+        if (readBuffer.capacity() < bytes) {
+            readBuffer = ByteBuffer.allocate(bytes).put(readBuffer).flip();
+        }
+        
+        while (readBuffer.remaining() < bytes) {
+            await(SelectionKey.OP_READ);
+            readAvailable();
+        }
+    }
+    
+    /**
+     * Reads the bytes available on the channel, growing the read buffer if it
+     * is full.
+     */
+    private void readAvailable() throws IOException {
+        if (readBuffer.position() == 0 && 
+            readBuffer.limit() == readBuffer.capacity()) {
+            readBuffer = ByteBuffer.allocate(2 * readBuffer.capacity())
+                                   .put(readBuffer);
+        } else {
+            readBuffer.compact();
+        }
+        
+        int bytes = channel.read(readBuffer);
+        readBuffer.flip();
+        
+        if (bytes == -1) {
+            throw new EOFException("The server closed the connection");
+        }
+    }
+    
+    /**
+     * Blocks until the channel is ready for any of {@code operations}.
+     */
+    private void await(int operations) throws IOException {
+        key.interestOps(operations);
+        
+        while (selector.select() == 0) {
+            if (!channel.isOpen()) {
+                throw new EOFException("The connection is closed");
+            }
+        }
+        
+        selector.selectedKeys().clear();
+    }
+}
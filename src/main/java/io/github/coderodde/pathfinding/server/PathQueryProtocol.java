@@ -0,0 +1,229 @@
+package io.github.coderodde.pathfinding.server;
+
+import io.github.coderodde.pathfinding.heuristics.ChebyshevHeuristicFunction;
+import io.github.coderodde.pathfinding.heuristics.ManhattanHeuristicFunction;
+import io.github.coderodde.pathfinding.heuristics.OctileHeuristicFunction;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings.DiagonalWeight;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import java.nio.ByteBuffer;
+
+/**
+ * This class defines the binary protocol of {@link PathQueryServer}. All the
+ * integers are big-endian. Each frame starts with the length of the rest of
+ * the frame as an {@code int}.
+ *
+ * A request frame carries:
+ * <pre>
+ *   int  request ID
+ *   int  map ID
+ *   int  source cell index
+ *   int  target cell index
+ *   byte flags ({@link #ALLOW_DIAGONALS}, {@link #DONT_CROSS_CORNERS},
+ *        {@link #SQRT2_DIAGONAL_WEIGHT})
+ * </pre>
+ *
+ * A response frame carries:
+ * <pre>
+ *   int  request ID
+ *   byte status
+ *   int  number of cells on the path
+ *   int  first cell index          (only if the path is not empty)
+ *   byte moves[cells / 2]          (only if the path is not empty)
+ * </pre>
+ *
+ * Each move is the direction code {@code 3 * (dy + 1) + (dx + 1)} of the
+ * step from a cell to the next one, packed two per byte, the earlier move in
+ * the high nibble. A path of {@code n} cells thus takes
+ * {@code 4 + n / 2} bytes instead of {@code 4 * n}.
+ *
+ * The requests on a connection may be pipelined; the responses come in the
+ * order of the requests. A path too long for a frame of
+ * {@link #MAXIMUM_FRAME_LENGTH} bytes is answered by
+ * {@link #STATUS_PATH_TOO_LONG} and no path.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PathQueryProtocol {
+
+    public static final byte ALLOW_DIAGONALS       = 0x01;
+    public static final byte DONT_CROSS_CORNERS    = 0x02;
+    public static final byte SQRT2_DIAGONAL_WEIGHT = 0x04;
+
+    public static final byte STATUS_OK            = 0;
+    public static final byte STATUS_NO_PATH       = 1;
+    public static final byte STATUS_UNKNOWN_MAP   = 2;
+    public static final byte STATUS_BAD_REQUEST   = 3;
+    public static final byte STATUS_PATH_TOO_LONG = 4;
+    public static final byte STATUS_SERVER_ERROR  = 5;
+
+    /**
+     * The length of a request frame without the length field.
+     */
+    public static final int REQUEST_LENGTH = 4 * Integer.BYTES + 1;
+
+    /**
+     * The maximum length of a frame without the length field.
+     */
+    public static final int MAXIMUM_FRAME_LENGTH = 1 << 24;
+
+    /**
+     * The maximum number of cells on a path fitting in a response frame.
+     */
+    public static final int MAXIMUM_PATH_LENGTH =
+            2 * (MAXIMUM_FRAME_LENGTH - 3 * Integer.BYTES - 1) + 1;
+
+    private static final int FLAG_MASK = ALLOW_DIAGONALS    |
+                                         DONT_CROSS_CORNERS |
+                                         SQRT2_DIAGONAL_WEIGHT;
+
+    private static final QueryOptions[] QUERY_OPTIONS = createQueryOptions();
+
+    private PathQueryProtocol() {
+
+    }
+
+    /**
+     * Returns the query options of the request flags. The heuristic function
+     * is the tightest admissible one for the move rules.
+     *
+     * @param flags the request flags.
+     * @return the query options, or {@code null} if the flags are invalid.
+     */
+    public static QueryOptions getQueryOptions(byte flags) {
+        return (flags & ~FLAG_MASK) == 0 ? QUERY_OPTIONS[flags] : null;
+    }
+
+    /**
+     * Writes a request frame to {@code buffer}.
+     *
+     * @param buffer    the target buffer.
+     * @param requestId the request ID.
+     * @param mapId     the map ID.
+     * @param source    the index of the source cell.
+     * @param target    the index of the target cell.
+     * @param flags     the request flags.
+     */
+    public static void writeRequest(ByteBuffer buffer,
+                                    int requestId,
+                                    int mapId,
+                                    int source,
+                                    int target,
+                                    byte flags) {
+        buffer.putInt(REQUEST_LENGTH)
+              .putInt(requestId)
+              .putInt(mapId)
+              .putInt(source)
+              .putInt(target)
+              .put(flags);
+    }
+
+    /**
+     * Returns a response frame for {@code path} over a grid of width
+     * {@code width}, ready for reading.
+     *
+     * @param requestId the request ID.
+     * @param status    the status.
+     * @param path      the path as cell indices.
+     * @param width     the width of the grid.
+     * @return the response frame.
+     */
+    public static ByteBuffer encodeResponse(int requestId,
+                                            byte status,
+                                            int[] path,
+                                            int width) {
+
+        int movesLength = path.length == 0 ? 0 : path.length / 2;
+        int length = Integer.BYTES + 1 + Integer.BYTES
+                   + (path.length == 0 ? 0 : Integer.BYTES)
+                   + movesLength;
+
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + length);
+        buffer.putInt(length)
+              .putInt(requestId)
+              .put(status)
+              .putInt(path.length);
+
+        if (path.length > 0) {
+            buffer.putInt(path[0]);
+
+            for (int i = 1; i < path.length; i += 2) {
+                int high = encodeMove(path[i - 1], path[i], width);
+                int low = i + 1 < path.length ?
+                          encodeMove(path[i], path[i + 1], width) :
+                          0;
+
+                buffer.put((byte) (high << 4 | low));
+            }
+        }
+
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes the path of a response frame. {@code buffer} must be positioned
+     * right after the status byte, and is left positioned after the frame.
+     *
+     * @param buffer the buffer.
+     * @param width  the width of the grid.
+     * @return the path as cell indices.
+     */
+    public static int[] decodePath(ByteBuffer buffer, int width) {
+        int cells = buffer.getInt();
+        int[] path = new int[cells];
+
+        if (cells == 0) {
+            return path;
+        }
+
+        path[0] = buffer.getInt();
+
+        for (int i = 1; i < cells; i += 2) {
+            int moves = buffer.get();
+            path[i] = decodeMove(path[i - 1], (moves >>> 4) & 0xf, width);
+
+            if (i + 1 < cells) {
+                path[i + 1] = decodeMove(path[i], moves & 0xf, width);
+            }
+        }
+
+        return path;
+    }
+
+    private static int encodeMove(int from, int to, int width) {
+        int dx = to % width - from % width;
+        int dy = to / width - from / width;
+        return 3 * (dy + 1) + (dx + 1);
+    }
+
+    private static int decodeMove(int from, int move, int width) {
+        int dx = move % 3 - 1;
+        int dy = move / 3 - 1;
+        return from + dy * width + dx;
+    }
+
+    private static QueryOptions[] createQueryOptions() {
+        QueryOptions[] queryOptions = new QueryOptions[FLAG_MASK + 1];
+
+        for (int flags = 0; flags <= FLAG_MASK; ++flags) {
+            boolean allowDiagonals = (flags & ALLOW_DIAGONALS) != 0;
+            boolean sqrt2 = (flags & SQRT2_DIAGONAL_WEIGHT) != 0;
+            DiagonalWeight diagonalWeight = sqrt2 ?
+                                            DiagonalWeight.SQRT2 :
+                                            DiagonalWeight.UNIFORM;
+
+            queryOptions[flags] =
+                    new QueryOptions(
+                            allowDiagonals,
+                            (flags & DONT_CROSS_CORNERS) != 0,
+                            diagonalWeight.getWeight(),
+                            !allowDiagonals ?
+                                    new ManhattanHeuristicFunction() :
+                            sqrt2 ? new OctileHeuristicFunction() :
+                                    new ChebyshevHeuristicFunction());
+        }
+
+        return queryOptions;
+    }
+}
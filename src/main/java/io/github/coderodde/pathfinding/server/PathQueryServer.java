@@ -0,0 +1,530 @@
+package io.github.coderodde.pathfinding.server;
+
+import io.github.coderodde.pathfinding.finders.SearchWorkspace;
+import io.github.coderodde.pathfinding.finders.SnapshotFinder;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import io.github.coderodde.pathfinding.telemetry.FinderTelemetry;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class implements a path query server speaking
+ * {@link PathQueryProtocol} over TCP. A single thread multiplexes all the
+ * connections with a {@link Selector}, and the searches run on a pool of
+ * worker threads. Each connection queues its responses in the order of the
+ * requests, and a response is written only after all the earlier ones, so
+ * the responses to the pipelined requests keep their order.
+ *
+ * A connection keeps being read while its responses are pending, until
+ * {@link #MAXIMUM_PENDING_RESPONSES} requests are unanswered or
+ * {@link #MAXIMUM_PENDING_BYTES} bytes of responses are unwritten. Then the
+ * server stops reading it until the client takes some of the responses.
+ *
+ * The maps are registered by ID as grid snapshots and may be replaced at any
+ * time; a request is answered on the snapshot registered when the request is
+ * read.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.2 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PathQueryServer implements AutoCloseable {
+
+    private static final int READ_BUFFER_CAPACITY = 8192;
+
+    /**
+     * The maximum number of the requests of a connection being searched or
+     * waiting for their responses to be written.
+     */
+    private static final int MAXIMUM_PENDING_RESPONSES = 1024;
+
+    /**
+     * The maximum number of the response bytes of a connection waiting to be
+     * written.
+     */
+    private static final int MAXIMUM_PENDING_BYTES = 1 << 20;
+
+    /**
+     * The maximum length of a request frame without the length field. The
+     * connections sending longer frames are closed.
+     */
+    private static final int MAXIMUM_REQUEST_LENGTH =
+            READ_BUFFER_CAPACITY - Integer.BYTES;
+
+    private final SnapshotFinder finder;
+    private final String finderName;
+    private final Map<Integer, GridSnapshot> maps = new ConcurrentHashMap<>();
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService workers;
+    private final Thread thread;
+
+    private final ThreadLocal<SearchWorkspace> workspaces =
+            ThreadLocal.withInitial(SearchWorkspace::new);
+
+    /**
+     * The connections with responses completed by the workers since the last
+     * selection.
+     */
+    private final Queue<SelectionKey> completedKeys =
+            new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running = true;
+
+    /**
+     * Starts a server listening on the loopback interface.
+     *
+     * @param finder the finder answering the queries.
+     * @param port   the port, or 0 for any free port.
+     * @throws IOException if the server socket cannot be opened.
+     */
+    public PathQueryServer(SnapshotFinder finder, int port) throws IOException {
+        this(finder, new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                                           port));
+    }
+
+    public PathQueryServer(SnapshotFinder finder, SocketAddress address)
+            throws IOException {
+
+        this.finder = Objects.requireNonNull(finder,
+                                             "The input finder is null");
+        
+        this.finderName = finder.getClass().getSimpleName();
+
+        Objects.requireNonNull(address, "The input address is null");
+
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+
+        try {
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException ex) {
+            serverChannel.close();
+            selector.close();
+            throw ex;
+        }
+
+        AtomicInteger workerNumber = new AtomicInteger();
+
+        this.workers = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(),
+                runnable -> {
+                    Thread worker = new Thread(
+                            runnable,
+                            "path-query-worker-" +
+                                    workerNumber.incrementAndGet());
+
+                    worker.setDaemon(true);
+                    return worker;
+                });
+
+        this.thread = new Thread(this::run, "path-query-server");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Registers {@code snapshot} under {@code mapId}, replacing the previous
+     * snapshot, if any.
+     *
+     * @param mapId    the map ID.
+     * @param snapshot the grid snapshot.
+     */
+    public void putMap(int mapId, GridSnapshot snapshot) {
+        maps.put(mapId,
+                 Objects.requireNonNull(snapshot,
+                                        "The input snapshot is null"));
+    }
+
+    public void removeMap(int mapId) {
+        maps.remove(mapId);
+    }
+
+    public SocketAddress getLocalAddress() throws IOException {
+        return serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Stops the server and closes all the connections.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+
+        try {
+            thread.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+
+                for (SelectionKey key; (key = completedKeys.poll()) != null;) {
+                    try {
+                        if (key.isValid()) {
+                            write(key);
+                        }
+                    } catch (IOException ex) {
+                        closeConnection(key);
+                    }
+                }
+
+                Iterator<SelectionKey> iterator =
+                        selector.selectedKeys().iterator();
+
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+
+                    try {
+                        handle(key);
+                    } catch (IOException ex) {
+                        closeConnection(key);
+                    }
+                }
+            }
+        } catch (IOException | ClosedSelectorException ex) {
+            System.getLogger(PathQueryServer.class.getName())
+                  .log(System.Logger.Level.ERROR,
+                       "The path query server failed",
+                       ex);
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeConnection(key);
+            }
+
+            try {
+                selector.close();
+            } catch (IOException ex) {
+                // Nothing to do on shutdown.
+            }
+        }
+    }
+
+    private void handle(SelectionKey key) throws IOException {
+        if (!key.isValid()) {
+            return;
+        }
+
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+
+        if (key.isReadable()) {
+            read(key);
+        }
+
+        if (key.isValid()) {
+            write(key);
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+
+        if (channel == null) {
+            return;
+        }
+
+        channel.configureBlocking(false);
+        channel.register(selector, SelectionKey.OP_READ, new Connection());
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+
+        if (channel.read(connection.readBuffer) == -1) {
+            closeConnection(key);
+        }
+    }
+
+    /**
+     * Starts answering the buffered request frames of the connection of
+     * {@code key} while its backlog has room.
+     */
+    private void processRequests(SelectionKey key) {
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer buffer = connection.readBuffer.flip();
+
+        try {
+            while (!connection.isBacklogFull() &&
+                   buffer.remaining() >= Integer.BYTES) {
+
+                int length = buffer.getInt(buffer.position());
+
+                if (length < 0 || length > MAXIMUM_REQUEST_LENGTH) {
+                    closeConnection(key);
+                    return;
+                }
+
+                if (buffer.remaining() < Integer.BYTES + length) {
+                    break;
+                }
+
+                buffer.getInt();
+                int frameEnd = buffer.position() + length;
+                answer(key, connection, buffer, length);
+                buffer.position(frameEnd);
+            }
+        } finally {
+            buffer.compact();
+        }
+    }
+
+    /**
+     * Queues the response to a single request frame. The response is
+     * completed right away if the request is invalid, and by a worker
+     * otherwise.
+     */
+    private void answer(SelectionKey key,
+                        Connection connection,
+                        ByteBuffer frame,
+                        int length) {
+
+        PendingResponse pendingResponse = new PendingResponse();
+        connection.pendingResponses.add(pendingResponse);
+
+        if (length < Integer.BYTES) {
+            connection.complete(pendingResponse, badRequest(0));
+            return;
+        }
+
+        int requestId = frame.getInt();
+
+        if (length != PathQueryProtocol.REQUEST_LENGTH) {
+            connection.complete(pendingResponse, badRequest(requestId));
+            return;
+        }
+
+        int mapId = frame.getInt();
+        int source = frame.getInt();
+        int target = frame.getInt();
+        QueryOptions queryOptions = PathQueryProtocol.getQueryOptions(
+                frame.get());
+
+        GridSnapshot snapshot = maps.get(mapId);
+
+        if (snapshot == null) {
+            connection.complete(
+                    pendingResponse,
+                    emptyResponse(requestId,
+                                  PathQueryProtocol.STATUS_UNKNOWN_MAP));
+            return;
+        }
+
+        int cells = snapshot.getNumberOfCells();
+
+        if (queryOptions == null ||
+            source < 0 || source >= cells ||
+            target < 0 || target >= cells) {
+            connection.complete(pendingResponse, badRequest(requestId));
+            return;
+        }
+
+        workers.execute(() -> {
+            ByteBuffer response = null;
+
+            try {
+                response = search(requestId,
+                                  mapId,
+                                  snapshot,
+                                  source,
+                                  target,
+                                  queryOptions);
+            } finally {
+                // Answer even if the search threw an error, or the responses
+                // after this one would never be written:
+                if (response == null) {
+                    response = emptyResponse(
+                            requestId,
+                            PathQueryProtocol.STATUS_SERVER_ERROR);
+                }
+
+                connection.complete(pendingResponse, response);
+                completedKeys.add(key);
+                selector.wakeup();
+            }
+        });
+    }
+
+    /**
+     * Runs a single query on a worker thread.
+     */
+    private ByteBuffer search(int requestId,
+                              int mapId,
+                              GridSnapshot snapshot,
+                              int source,
+                              int target,
+                              QueryOptions queryOptions) {
+        int[] path;
+
+        try {
+            path = FinderTelemetry.findPath(finderName,
+                                            finder,
+                                            mapId,
+                                            snapshot,
+                                            source,
+                                            target,
+                                            queryOptions,
+                                            workspaces.get());
+        } catch (RuntimeException ex) {
+            System.getLogger(PathQueryServer.class.getName())
+                  .log(System.Logger.Level.ERROR,
+                       "The path query failed",
+                       ex);
+
+            return emptyResponse(requestId,
+                                 PathQueryProtocol.STATUS_SERVER_ERROR);
+        }
+
+        if (path.length > PathQueryProtocol.MAXIMUM_PATH_LENGTH) {
+            return emptyResponse(requestId,
+                                 PathQueryProtocol.STATUS_PATH_TOO_LONG);
+        }
+
+        return PathQueryProtocol.encodeResponse(
+                requestId,
+                path.length == 0 ?
+                        PathQueryProtocol.STATUS_NO_PATH :
+                        PathQueryProtocol.STATUS_OK,
+                path,
+                snapshot.getWidth());
+    }
+
+    private static ByteBuffer badRequest(int requestId) {
+        return emptyResponse(requestId, PathQueryProtocol.STATUS_BAD_REQUEST);
+    }
+
+    private static ByteBuffer emptyResponse(int requestId, byte status) {
+        return PathQueryProtocol.encodeResponse(requestId,
+                                                status,
+                                                new int[0],
+                                                1);
+    }
+
+    /**
+     * Writes as many completed responses as the socket takes, in the order
+     * of the requests, and starts answering the buffered requests the freed
+     * backlog has room for. Reads the connection only while its backlog has
+     * room, so that a client not reading its responses cannot make the
+     * server queue them without bound.
+     */
+    private void write(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        boolean blocked = false;
+        boolean written = true;
+
+        while (written && !blocked) {
+            processRequests(key);
+
+            if (!key.isValid()) {
+                return;
+            }
+
+            written = false;
+
+            while (!connection.pendingResponses.isEmpty()) {
+                ByteBuffer buffer =
+                        connection.pendingResponses.peek().response;
+
+                if (buffer == null) {
+                    break;
+                }
+
+                channel.write(buffer);
+
+                if (buffer.hasRemaining()) {
+                    blocked = true;
+                    break;
+                }
+
+                connection.pendingResponses.remove();
+                connection.pendingBytes.addAndGet(-buffer.limit());
+                written = true;
+            }
+        }
+
+        key.interestOps(
+                (connection.isBacklogFull() ? 0 : SelectionKey.OP_READ) |
+                (blocked ? SelectionKey.OP_WRITE : 0));
+    }
+
+    private static void closeConnection(SelectionKey key) {
+        key.cancel();
+
+        try {
+            key.channel().close();
+        } catch (IOException ex) {
+            // The connection is dropped anyway.
+        }
+    }
+
+    /**
+     * A response slot in the order of the requests, filled in once the
+     * response is ready.
+     */
+    private static final class PendingResponse {
+
+        volatile ByteBuffer response;
+    }
+
+    /**
+     * The state of a single client connection. All but
+     * {@link #complete(PendingResponse, ByteBuffer)} and
+     * {@link #pendingBytes} are used only by the selector thread.
+     */
+    private static final class Connection {
+
+        final ByteBuffer readBuffer =
+                ByteBuffer.allocate(READ_BUFFER_CAPACITY);
+
+        final Queue<PendingResponse> pendingResponses = new ArrayDeque<>();
+
+        /**
+         * The number of the bytes of the completed responses not yet
+         * written.
+         */
+        final AtomicInteger pendingBytes = new AtomicInteger();
+
+        void complete(PendingResponse pendingResponse, ByteBuffer response) {
+            pendingBytes.addAndGet(response.limit());
+            pendingResponse.response = response;
+        }
+
+        boolean isBacklogFull() {
+            return pendingResponses.size() >= MAXIMUM_PENDING_RESPONSES ||
+                   pendingBytes.get() >= MAXIMUM_PENDING_BYTES;
+        }
+    }
+}
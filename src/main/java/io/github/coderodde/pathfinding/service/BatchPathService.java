@@ -0,0 +1,273 @@
+package io.github.coderodde.pathfinding.service;
+
+import io.github.coderodde.pathfinding.finders.SearchWorkspace;
+import io.github.coderodde.pathfinding.finders.SnapshotFinder;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import io.github.coderodde.pathfinding.telemetry.FinderTelemetry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * This class answers batches of path queries over a grid snapshot in
+ * parallel. A batch is split into chunks of consecutive queries, and each
+ * chunk runs as a single task on the executor, so that the per-task overhead
+ * is paid once per chunk and not once per query.
+ *
+ * Each task reuses a {@link SearchWorkspace}. On platform threads, the
+ * workspaces are thread-local and live as long as the pool threads. Virtual
+ * threads are created per task and would drop their thread-local workspaces
+ * right away, so on virtual threads the tasks borrow the workspaces from a
+ * lock-free pool instead.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.2 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class BatchPathService implements AutoCloseable {
+
+    /**
+     * The kinds of threads running the queries.
+     */
+    public enum ThreadMode {
+        PLATFORM,
+        VIRTUAL,
+    }
+
+    /**
+     * The number of chunks per worker. More chunks than workers balance the
+     * load when some queries take much longer than the others.
+     */
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final SnapshotFinder finder;
+    private final String finderName;
+    private final ThreadMode threadMode;
+    private final int parallelism;
+    private final ExecutorService executor;
+
+    private final ThreadLocal<SearchWorkspace> threadLocalWorkspaces =
+            ThreadLocal.withInitial(SearchWorkspace::new);
+
+    private final ConcurrentLinkedQueue<SearchWorkspace> workspacePool =
+            new ConcurrentLinkedQueue<>();
+
+    public BatchPathService(SnapshotFinder finder) {
+        this(finder,
+             ThreadMode.PLATFORM,
+             Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchPathService(SnapshotFinder finder,
+                            ThreadMode threadMode,
+                            int parallelism) {
+
+        this.finder = Objects.requireNonNull(finder,
+                                             "The input finder is null");
+        
+        this.finderName = finder.getClass().getSimpleName();
+
+        this.threadMode =
+                Objects.requireNonNull(threadMode,
+                                       "The input thread mode is null");
+
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The parallelism (%d) is less than 1",
+                            parallelism));
+        }
+
+        this.parallelism = parallelism;
+        this.executor = threadMode == ThreadMode.PLATFORM ?
+                        Executors.newFixedThreadPool(parallelism,
+                                                     this::newDaemonThread) :
+                        Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    public SnapshotFinder getFinder() {
+        return finder;
+    }
+
+    public ThreadMode getThreadMode() {
+        return threadMode;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Submits all the {@code queries} over {@code snapshot} and returns the
+     * futures of their results in the order of the queries. A query failing
+     * completes its future exceptionally and does not affect the others. The
+     * query list is copied, so that the caller may reuse it right away. If 
+     * the executor rejects a chunk, for example after {@link #close()}, the
+     * futures of that chunk and of all the following ones complete 
+     * exceptionally.
+     *
+     * @param snapshot     the grid snapshot.
+     * @param queries      the path queries.
+     * @param queryOptions the query options.
+     * @return the stream of the result futures.
+     */
+    public Stream<CompletableFuture<PathResult>>
+        findPaths(GridSnapshot snapshot,
+                  List<PathQuery> queries,
+                  QueryOptions queryOptions) {
+
+        Objects.requireNonNull(snapshot, "The input snapshot is null");
+        Objects.requireNonNull(queries, "The input query list is null");
+        Objects.requireNonNull(queryOptions,
+                               "The input query options is null");
+
+        // The chunks keep views of the list; they must not see the changes
+        // the caller makes:
+        List<PathQuery> queryList = List.copyOf(queries);
+
+        List<CompletableFuture<PathResult>> futures =
+                new ArrayList<>(queryList.size());
+
+        for (int i = 0; i < queryList.size(); ++i) {
+            futures.add(new CompletableFuture<>());
+        }
+
+        int chunkSize =
+                Math.max(1,
+                         queryList.size() / (parallelism * CHUNKS_PER_WORKER));
+
+        for (int from = 0; from < queryList.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, queryList.size());
+            List<PathQuery> chunkQueries = queryList.subList(from, to);
+            List<CompletableFuture<PathResult>> chunkFutures =
+                    futures.subList(from, to);
+
+            try {
+                executor.execute(() -> runChunk(snapshot,
+                                                chunkQueries,
+                                                chunkFutures,
+                                                queryOptions));
+            } catch (RuntimeException ex) {
+                // Rejected; none of the remaining chunks would run:
+                failAll(futures.subList(from, futures.size()), ex);
+                break;
+            }
+        }
+
+        return futures.stream();
+    }
+
+    /**
+     * Submits all the {@code queries} over {@code snapshot} and returns the
+     * future of all their results in the order of the queries.
+     *
+     * @param snapshot     the grid snapshot.
+     * @param queries      the path queries.
+     * @param queryOptions the query options.
+     * @return the future of the result list.
+     */
+    public CompletableFuture<List<PathResult>>
+        findAllPaths(GridSnapshot snapshot,
+                     List<PathQuery> queries,
+                     QueryOptions queryOptions) {
+
+        List<CompletableFuture<PathResult>> futures =
+                findPaths(snapshot, queries, queryOptions).toList();
+
+        return CompletableFuture
+                .allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> futures.stream()
+                                             .map(CompletableFuture::join)
+                                             .toList());
+    }
+
+    /**
+     * Stops accepting new batches. The submitted queries still run to the
+     * end.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void runChunk(GridSnapshot snapshot,
+                          List<PathQuery> queries,
+                          List<CompletableFuture<PathResult>> futures,
+                          QueryOptions queryOptions) {
+
+        SearchWorkspace workspace = null;
+        Throwable failure = null;
+
+        try {
+            workspace = acquireWorkspace();
+
+            for (int i = 0; i < queries.size(); ++i) {
+                try {
+                    PathQuery query = queries.get(i);
+                    int[] path = FinderTelemetry.findPath(
+                            finderName,
+                            finder,
+                            FinderTelemetry.NO_MAP_ID,
+                            snapshot,
+                            query.source(),
+                            query.target(),
+                            queryOptions,
+                            workspace);
+
+                    futures.get(i).complete(new PathResult(query, path));
+                } catch (RuntimeException ex) {
+                    futures.get(i).completeExceptionally(ex);
+                }
+            }
+        } catch (Throwable ex) {
+            // An error aborts the chunk:
+            failure = ex;
+            throw ex;
+        } finally {
+            if (workspace != null) {
+                releaseWorkspace(workspace);
+            }
+
+            if (failure != null) {
+                failAll(futures, failure);
+            }
+        }
+    }
+
+    /**
+     * Completes exceptionally all the futures not yet completed.
+     */
+    private static void failAll(List<CompletableFuture<PathResult>> futures,
+                                Throwable failure) {
+        for (CompletableFuture<PathResult> future : futures) {
+            future.completeExceptionally(failure);
+        }
+    }
+
+    private SearchWorkspace acquireWorkspace() {
+        if (threadMode == ThreadMode.PLATFORM) {
+            return threadLocalWorkspaces.get();
+        }
+
+        SearchWorkspace workspace = workspacePool.poll();
+        return workspace != null ? workspace : new SearchWorkspace();
+    }
+
+    private void releaseWorkspace(SearchWorkspace workspace) {
+        if (threadMode == ThreadMode.VIRTUAL) {
+            workspacePool.offer(workspace);
+        }
+    }
+
+    private Thread newDaemonThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "batch-path-service");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
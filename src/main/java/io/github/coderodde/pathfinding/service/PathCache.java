@@ -0,0 +1,503 @@
+package io.github.coderodde.pathfinding.service;
+
+import io.github.coderodde.pathfinding.finders.SearchWorkspace;
+import io.github.coderodde.pathfinding.finders.SnapshotFinder;
+import io.github.coderodde.pathfinding.heuristics.HeuristicFunction;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import io.github.coderodde.pathfinding.model.WallChangeListener;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class caches the results of the snapshot path queries over the
+ * snapshots of a single grid model. The entries are keyed by the endpoints,
+ * the finder and the move rules and the heuristic function of the query. The
+ * cache follows the wall changes of the model and answers only the queries
+ * over the snapshots of the current version; queries over older or newer
+ * snapshots are passed through to the finder. The finders returned by
+ * {@link #cached(SnapshotFinder)} put the cache in front of the snapshot 
+ * queries, so that the services may run them as any other snapshot finder.
+ *
+ * A wall change invalidates only the entries it may affect:
+ * <ul>
+ *   <li>a new wall invalidates the paths whose bounding rectangle, grown by
+ *   one cell, contains the wall,</li>
+ *   <li>a removed wall invalidates the paths that a path through the freed
+ *   cell might beat, judged by a lower bound on the cost and on the number of
+ *   moves of such a path, and all the cached "no path" results.</li>
+ * </ul>
+ * The wall changes are only recorded as they come, and the entries are
+ * checked against them in one batch on the next query. Once more changes are
+ * pending than {@link #MAXIMUM_PENDING_CHANGES}, as while drawing a maze,
+ * the batch drops all the entries instead.
+ *
+ * The eviction is a segmented LRU: new entries enter the probationary
+ * segment, and a hit moves an entry to the protected segment. The entries
+ * pushed out of the protected segment fall back to the probationary one, and
+ * only the entries pushed out of the probationary segment are evicted. Thus,
+ * a burst of one-off queries does not flush the recurring ones.
+ *
+ * This class is thread-safe.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.1.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PathCache implements WallChangeListener {
+
+    /**
+     * The share of the capacity reserved for the protected segment.
+     */
+    private static final double PROTECTED_SHARE = 0.8;
+
+    /**
+     * The maximum number of the wall changes checked one by one against the
+     * entries.
+     */
+    private static final int MAXIMUM_PENDING_CHANGES = 64;
+
+    private final GridModel model;
+    private final int probationCapacity;
+    private final int protectedCapacity;
+
+    private final Map<Key, Entry> probationSegment =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<Key, Entry> protectedSegment =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The version of the model the entries are valid for.
+     */
+    private long version;
+
+    /**
+     * The wall changes not yet checked against the entries, each encoded by
+     * {@link #encodeChange(int, int, boolean)}.
+     */
+    private final long[] pendingChanges = new long[MAXIMUM_PENDING_CHANGES];
+    private int pendingChangeCount;
+    private boolean pendingChangesOverflowed;
+
+    private long hits;
+    private long misses;
+    private long invalidations;
+
+    public PathCache(GridModel model, int capacity) {
+        this.model = Objects.requireNonNull(model,
+                                            "The input grid model is null");
+
+        if (capacity < 2) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "The cache capacity (%d) is less than 2",
+                            capacity));
+        }
+
+        this.protectedCapacity =
+                Math.max(1, (int) (capacity * PROTECTED_SHARE));
+
+        this.probationCapacity = capacity - protectedCapacity;
+        this.version = model.getVersion();
+
+        model.addWallChangeListener(this);
+    }
+
+    /**
+     * Returns the path of the query from the cache, or runs {@code finder}
+     * and caches the path.
+     *
+     * @param finder       the finder.
+     * @param snapshot     the snapshot of the grid model of this cache.
+     * @param source       the index of the source cell.
+     * @param target       the index of the target cell.
+     * @param queryOptions the query options.
+     * @return the path as cell indices, empty if there is no path.
+     */
+    public int[] findPath(SnapshotFinder finder,
+                          GridSnapshot snapshot,
+                          int source,
+                          int target,
+                          QueryOptions queryOptions) {
+
+        Objects.requireNonNull(finder, "The input finder is null");
+        return findPath(finder, snapshot, source, target, queryOptions, null);
+    }
+
+    /**
+     * Returns a finder answering the snapshot queries through this cache and
+     * by {@code finder} on a miss.
+     *
+     * @param finder the finder to put this cache in front of.
+     * @return the caching finder.
+     */
+    public SnapshotFinder cached(SnapshotFinder finder) {
+        return new CachingFinder(
+                Objects.requireNonNull(finder, "The input finder is null"));
+    }
+
+    private int[] findPath(SnapshotFinder finder,
+                           GridSnapshot snapshot,
+                           int source,
+                           int target,
+                           QueryOptions queryOptions,
+                           SearchWorkspace workspace) {
+
+        Objects.requireNonNull(snapshot, "The input snapshot is null");
+
+        Key key = new Key(source, target, finder, queryOptions);
+        int[] path = get(key, snapshot.getVersion());
+
+        if (path != null) {
+            return path.clone();
+        }
+
+        path = workspace == null ?
+               finder.findPath(snapshot, source, target, queryOptions) :
+               finder.findPath(snapshot,
+                               source,
+                               target,
+                               queryOptions,
+                               workspace);
+
+        put(key, snapshot, path);
+        return path.clone();
+    }
+
+    /**
+     * Stops following the wall changes of the model and drops all the
+     * entries.
+     */
+    public synchronized void detach() {
+        model.removeWallChangeListener(this);
+        probationSegment.clear();
+        protectedSegment.clear();
+        pendingChangeCount = 0;
+        pendingChangesOverflowed = false;
+    }
+
+    public synchronized int size() {
+        applyPendingChanges();
+        return probationSegment.size() + protectedSegment.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getInvalidations() {
+        applyPendingChanges();
+        return invalidations;
+    }
+
+    @Override
+    public synchronized void onWallChanged(int x, int y, boolean wall) {
+        version = model.getVersion();
+
+        if (pendingChangesOverflowed) {
+            return;
+        }
+
+        if (pendingChangeCount == MAXIMUM_PENDING_CHANGES) {
+            pendingChangesOverflowed = true;
+            pendingChangeCount = 0;
+            return;
+        }
+
+        pendingChanges[pendingChangeCount++] = encodeChange(x, y, wall);
+    }
+
+    private synchronized int[] get(Key key, long snapshotVersion) {
+        applyPendingChanges();
+
+        if (snapshotVersion != version) {
+            ++misses;
+            return null;
+        }
+
+        Entry entry = probationSegment.remove(key);
+
+        if (entry != null) {
+            promote(key, entry);
+        } else {
+            entry = protectedSegment.get(key);
+        }
+
+        if (entry == null) {
+            ++misses;
+            return null;
+        }
+
+        ++hits;
+        return entry.path;
+    }
+
+    private synchronized void put(Key key,
+                                  GridSnapshot snapshot,
+                                  int[] path) {
+
+        applyPendingChanges();
+
+        if (snapshot.getVersion() != version ||
+            protectedSegment.containsKey(key)) {
+            return;
+        }
+
+        probationSegment.put(key, new Entry(snapshot, key, path));
+        evictProbation();
+    }
+
+    private void promote(Key key, Entry entry) {
+        protectedSegment.put(key, entry);
+
+        if (protectedSegment.size() > protectedCapacity) {
+            Iterator<Map.Entry<Key, Entry>> iterator =
+                    protectedSegment.entrySet().iterator();
+
+            Map.Entry<Key, Entry> eldest = iterator.next();
+            iterator.remove();
+            probationSegment.put(eldest.getKey(), eldest.getValue());
+            evictProbation();
+        }
+    }
+
+    private void evictProbation() {
+        Iterator<Key> iterator = probationSegment.keySet().iterator();
+
+        while (probationSegment.size() > probationCapacity) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void applyPendingChanges() {
+        if (pendingChangesOverflowed) {
+            invalidations += probationSegment.size()
+                           + protectedSegment.size();
+
+            probationSegment.clear();
+            protectedSegment.clear();
+            pendingChangesOverflowed = false;
+        } else if (pendingChangeCount > 0) {
+            invalidate(probationSegment);
+            invalidate(protectedSegment);
+            pendingChangeCount = 0;
+        }
+    }
+
+    private void invalidate(Map<Key, Entry> segment) {
+        Iterator<Entry> iterator = segment.values().iterator();
+
+        while (iterator.hasNext()) {
+            if (isAffected(iterator.next())) {
+                iterator.remove();
+                ++invalidations;
+            }
+        }
+    }
+
+    private boolean isAffected(Entry entry) {
+        for (int i = 0; i < pendingChangeCount; ++i) {
+            long change = pendingChanges[i];
+            int x = (int) (change >>> 32);
+            int y = ((int) change) >>> 1;
+
+            if ((change & 1L) != 0L ? entry.isBlockedBy(x, y) :
+                                      entry.isBeatenVia(x, y)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static long encodeChange(int x, int y, boolean wall) {
+        return ((long) x << 32) | ((long) y << 1) | (wall ? 1L : 0L);
+    }
+
+    /**
+     * The finder answering the snapshot queries through this cache.
+     */
+    private final class CachingFinder implements SnapshotFinder {
+
+        private final SnapshotFinder finder;
+
+        CachingFinder(SnapshotFinder finder) {
+            this.finder = finder;
+        }
+
+        @Override
+        public int[] findPath(GridSnapshot snapshot,
+                              int source,
+                              int target,
+                              QueryOptions queryOptions,
+                              SearchWorkspace workspace) {
+
+            return PathCache.this.findPath(finder,
+                                           snapshot,
+                                           source,
+                                           target,
+                                           queryOptions,
+                                           workspace);
+        }
+    }
+
+    /**
+     * The cache key. The finders are compared by identity, and the heuristic
+     * functions by class.
+     */
+    private record Key(int source,
+                       int target,
+                       SnapshotFinder finder,
+                       boolean allowDiagonals,
+                       boolean dontCrossCorners,
+                       double diagonalWeight,
+                       Class<? extends HeuristicFunction> heuristicClass) {
+
+        Key(int source,
+            int target,
+            SnapshotFinder finder,
+            QueryOptions options) {
+            this(source,
+                 target,
+                 finder,
+                 options.allowDiagonals(),
+                 options.dontCrossCorners(),
+                 options.getDiagonalWeight(),
+                 options.getHeuristicFunction().getClass());
+        }
+    }
+
+    /**
+     * A cached path with the data needed to tell whether a wall change
+     * affects it.
+     */
+    private static final class Entry {
+
+        final int[] path;
+        final Key key;
+
+        final int sourceX;
+        final int sourceY;
+        final int targetX;
+        final int targetY;
+
+        final int minX;
+        final int minY;
+        final int maxX;
+        final int maxY;
+
+        final double cost;
+
+        Entry(GridSnapshot snapshot, Key key, int[] path) {
+            this.path = path.clone();
+            this.key = key;
+            this.sourceX = snapshot.toX(key.source());
+            this.sourceY = snapshot.toY(key.source());
+            this.targetX = snapshot.toX(key.target());
+            this.targetY = snapshot.toY(key.target());
+
+            int minX = Integer.MAX_VALUE;
+            int minY = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int maxY = Integer.MIN_VALUE;
+            double cost = 0.0;
+
+            for (int i = 0; i < path.length; ++i) {
+                int x = snapshot.toX(path[i]);
+                int y = snapshot.toY(path[i]);
+
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+
+                if (i > 0 && x != snapshot.toX(path[i - 1])
+                          && y != snapshot.toY(path[i - 1])) {
+                    cost += key.diagonalWeight();
+                } else if (i > 0) {
+                    cost += 1.0;
+                }
+            }
+
+            this.minX = minX;
+            this.minY = minY;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.cost = cost;
+        }
+
+        /**
+         * Returns {@code true} if a new wall at {@code (x, y)} may cut this
+         * path. A wall next to the path may block one of its diagonal moves.
+         */
+        boolean isBlockedBy(int x, int y) {
+            return path.length > 0 &&
+                   x >= minX - 1 && x <= maxX + 1 &&
+                   y >= minY - 1 && y <= maxY + 1;
+        }
+
+        /**
+         * Returns {@code true} if freeing the cell {@code (x, y)} may open a
+         * path better than this one. Without corner cutting, the freed cell
+         * also enables the diagonal moves between its neighbours, so the
+         * neighbours are checked as well.
+         */
+        boolean isBeatenVia(int x, int y) {
+            if (path.length == 0) {
+                return true;
+            }
+
+            if (!key.allowDiagonals() || !key.dontCrossCorners()) {
+                return isBeatenVia0(x, y);
+            }
+
+            for (int dy = -1; dy <= 1; ++dy) {
+                for (int dx = -1; dx <= 1; ++dx) {
+                    if (isBeatenVia0(x + dx, y + dy)) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        private boolean isBeatenVia0(int x, int y) {
+            double costBound = lowerBoundCost(sourceX, sourceY, x, y)
+                             + lowerBoundCost(x, y, targetX, targetY);
+
+            int movesBound = lowerBoundMoves(sourceX, sourceY, x, y)
+                           + lowerBoundMoves(x, y, targetX, targetY);
+
+            return costBound <= cost || movesBound <= path.length - 1;
+        }
+
+        private double lowerBoundCost(int x1, int y1, int x2, int y2) {
+            int dx = Math.abs(x1 - x2);
+            int dy = Math.abs(y1 - y2);
+
+            if (!key.allowDiagonals()) {
+                return dx + dy;
+            }
+
+            int diagonal = Math.min(dx, dy);
+            int straight = Math.max(dx, dy) - diagonal;
+            return diagonal * Math.min(key.diagonalWeight(), 2.0) + straight;
+        }
+
+        private int lowerBoundMoves(int x1, int y1, int x2, int y2) {
+            int dx = Math.abs(x1 - x2);
+            int dy = Math.abs(y1 - y2);
+            return key.allowDiagonals() ? Math.max(dx, dy) : dx + dy;
+        }
+    }
+}
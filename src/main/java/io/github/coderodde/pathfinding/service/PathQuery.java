@@ -0,0 +1,11 @@
+package io.github.coderodde.pathfinding.service;
+
+/**
+ * This record describes a single path query by the row-major indices of its
+ * source and target cells.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public record PathQuery(int source, int target) {}
@@ -0,0 +1,17 @@
+package io.github.coderodde.pathfinding.service;
+
+/**
+ * This record pairs a path query with its path. The path lists the cell
+ * indices from the source to the target, and is empty if the target is not
+ * reachable.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public record PathResult(PathQuery query, int[] path) {
+    
+    public boolean isFound() {
+        return path.length > 0;
+    }
+}
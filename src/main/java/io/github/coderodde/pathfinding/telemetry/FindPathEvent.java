@@ -0,0 +1,43 @@
+package io.github.coderodde.pathfinding.telemetry;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This class implements the JDK Flight Recorder event of a single path
+ * query. The duration of the event is the duration of the query.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+@Name(FindPathEvent.NAME)
+@Label("Find Path")
+@Category("Path Finding")
+@Description("A path query answered by a finder")
+@StackTrace(false)
+final class FindPathEvent extends Event {
+
+    static final String NAME = "io.github.coderodde.pathfinding.FindPath";
+
+    @Label("Finder")
+    String finder;
+
+    @Label("Map ID")
+    @Description("The ID of the map, or -1 if the map has none")
+    int mapId;
+
+    @Label("Map Version")
+    long mapVersion;
+
+    @Label("Expansions")
+    int expansions;
+
+    @Label("Path Length")
+    @Description("The number of the cells on the path, or 0 if none found")
+    int pathLength;
+}
@@ -0,0 +1,202 @@
+package io.github.coderodde.pathfinding.telemetry;
+
+import io.github.coderodde.pathfinding.finders.Finder;
+import io.github.coderodde.pathfinding.finders.SearchWorkspace;
+import io.github.coderodde.pathfinding.finders.SnapshotFinder;
+import io.github.coderodde.pathfinding.logic.GridCellNeighbourIterable;
+import io.github.coderodde.pathfinding.logic.PathfindingSettings;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.logic.SearchMetrics;
+import io.github.coderodde.pathfinding.logic.SearchState;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import io.github.coderodde.pathfinding.utils.Cell;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class runs the finder queries with telemetry. Each query may emit a
+ * {@code io.github.coderodde.pathfinding.FindPath} Flight Recorder event
+ * carrying the finder name, the map ID and version, the number of the
+ * expanded cells and the path length, and may record its latency into the
+ * per-finder {@link LatencyHistogram}.
+ *
+ * Both cost nothing when disabled: the event is enabled only while a
+ * recording enables it, in which case the JIT compiler removes the event
+ * object, and the histograms are enabled by
+ * {@link #setHistogramsEnabled(boolean)}, being disabled by default.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class FinderTelemetry {
+
+    /**
+     * The map ID of the maps without one, such as the grid of the
+     * application window.
+     */
+    public static final int NO_MAP_ID = -1;
+
+    private static final ConcurrentMap<String, LatencyHistogram> HISTOGRAMS =
+            new ConcurrentHashMap<>();
+
+    private static volatile boolean histogramsEnabled;
+
+    private FinderTelemetry() {
+
+    }
+
+    public static boolean isHistogramsEnabled() {
+        return histogramsEnabled;
+    }
+
+    public static void setHistogramsEnabled(boolean histogramsEnabled) {
+        FinderTelemetry.histogramsEnabled = histogramsEnabled;
+    }
+
+    /**
+     * Returns the snapshots of the latency histograms of all the finders
+     * run while the histograms were enabled.
+     *
+     * @return the histogram snapshots sorted by the finder name.
+     */
+    public static Map<String, LatencyHistogram.Snapshot> snapshotHistograms() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+
+        HISTOGRAMS.forEach((finderName, histogram) -> {
+            snapshots.put(finderName, histogram.snapshot());
+        });
+
+        return snapshots;
+    }
+
+    public static void resetHistograms() {
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * Runs {@link SnapshotFinder#findPath(GridSnapshot, int, int, 
+     * QueryOptions, SearchWorkspace)} with telemetry. The number of the 
+     * expanded cells is counted by {@code workspace}, and is zero for the 
+     * queries answered without a search.
+     *
+     * @param finderName   the name of the finder.
+     * @param finder       the finder.
+     * @param mapId        the ID of the map, or {@link #NO_MAP_ID}.
+     * @param snapshot     the grid snapshot.
+     * @param source       the index of the source cell.
+     * @param target       the index of the target cell.
+     * @param queryOptions the query options.
+     * @param workspace    the search workspace.
+     * @return the path as cell indices.
+     */
+    public static int[] findPath(String finderName,
+                                 SnapshotFinder finder,
+                                 int mapId,
+                                 GridSnapshot snapshot,
+                                 int source,
+                                 int target,
+                                 QueryOptions queryOptions,
+                                 SearchWorkspace workspace) {
+
+        FindPathEvent event = new FindPathEvent();
+        boolean timed = histogramsEnabled;
+        long startTime = timed ? System.nanoTime() : 0L;
+        workspace.resetExpansions();
+        event.begin();
+
+        int[] path = finder.findPath(snapshot,
+                                     source,
+                                     target,
+                                     queryOptions,
+                                     workspace);
+
+        event.end();
+
+        if (timed) {
+            recordLatency(finderName, System.nanoTime() - startTime);
+        }
+
+        if (event.shouldCommit()) {
+            event.finder = finderName;
+            event.mapId = mapId;
+            event.mapVersion = snapshot.getVersion();
+            event.expansions = workspace.getExpansions();
+            event.pathLength = path.length;
+            event.commit();
+        }
+
+        return path;
+    }
+
+    /**
+     * Runs {@link Finder#findPath(GridModel, GridCellNeighbourIterable,
+     * PathfindingSettings, SearchState, SearchMetrics)} with telemetry. The
+     * number of the expanded cells is the number of the visited cells
+     * counted by {@code searchMetrics}.
+     *
+     * @param finderName          the name of the finder.
+     * @param finder              the finder.
+     * @param mapId               the ID of the map, or {@link #NO_MAP_ID}.
+     * @param model               the grid model.
+     * @param neighbourIterable   the cell neighbour iterable.
+     * @param pathfindingSettings the pathfinding settings.
+     * @param searchState         the search state.
+     * @param searchMetrics       the search metrics.
+     * @return the path.
+     */
+    public static List<Cell> findPath(
+            String finderName,
+            Finder finder,
+            int mapId,
+            GridModel model,
+            GridCellNeighbourIterable neighbourIterable,
+            PathfindingSettings pathfindingSettings,
+            SearchState searchState,
+            SearchMetrics searchMetrics) {
+
+        FindPathEvent event = new FindPathEvent();
+        boolean timed = histogramsEnabled;
+        long startTime = timed ? System.nanoTime() : 0L;
+        event.begin();
+
+        List<Cell> path = finder.findPath(model,
+                                          neighbourIterable,
+                                          pathfindingSettings,
+                                          searchState,
+                                          searchMetrics);
+
+        event.end();
+
+        if (timed) {
+            recordLatency(finderName, System.nanoTime() - startTime);
+        }
+
+        if (event.shouldCommit()) {
+            event.finder = finderName;
+            event.mapId = mapId;
+            event.mapVersion = model.getVersion();
+            event.expansions = searchMetrics.getVisited();
+            event.pathLength = path.size();
+            event.commit();
+        }
+
+        return path;
+    }
+
+    private static void recordLatency(String finderName, long nanoseconds) {
+        LatencyHistogram histogram = HISTOGRAMS.get(finderName);
+
+        if (histogram == null) {
+            histogram = HISTOGRAMS.computeIfAbsent(
+                    finderName, 
+                    name -> new LatencyHistogram());
+        }
+
+        histogram.record(nanoseconds);
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.coderodde.pathfinding.telemetry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements a thread-safe latency histogram with logarithmic
+ * buckets. The values below {@value #SUB_BUCKETS} nanoseconds get a bucket
+ * each; above, each power of two is split into {@value #SUB_BUCKETS} equal
+ * buckets, so that a bucket bound is off by at most 1 /
+ * {@value #SUB_BUCKETS} of the value. The values from {@code 2^44}
+ * nanoseconds, almost five hours, on all go to the last bucket.
+ *
+ * Recording a value costs an atomic increment of its bucket, and the memory
+ * stays fixed at a few kilobytes however many values are recorded.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAXIMUM_EXPONENT = 43;
+    private static final long MAXIMUM_VALUE = (1L << 44) - 1L;
+
+    private static final int NUMBER_OF_BUCKETS =
+            (MAXIMUM_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    /**
+     * A single non-empty bucket of a snapshot.
+     *
+     * @param lowerBound the smallest value of the bucket in nanoseconds.
+     * @param upperBound the largest value of the bucket in nanoseconds.
+     * @param count      the number of the values in the bucket.
+     */
+    public record Bucket(long lowerBound, long upperBound, long count) {}
+
+    /**
+     * An immutable copy of the state of a histogram.
+     *
+     * @param count   the number of the recorded values.
+     * @param sum     the sum of the recorded values in nanoseconds.
+     * @param maximum the largest recorded value in nanoseconds.
+     * @param buckets the non-empty buckets in the ascending order.
+     */
+    public record Snapshot(long count,
+                           long sum,
+                           long maximum,
+                           List<Bucket> buckets) {
+
+        public double getMean() {
+            return count == 0L ? Double.NaN : (double) sum / count;
+        }
+
+        /**
+         * Returns an upper bound of the {@code percentile}th percentile of
+         * the recorded values: the upper bound of the bucket holding it,
+         * capped by the maximum.
+         *
+         * @param percentile the percentile within {@code [0, 100]}.
+         * @return the percentile in nanoseconds, or 0 if the histogram is
+         *         empty.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0.0 || percentile > 100.0) {
+                throw new IllegalArgumentException(
+                        String.format(
+                                "The percentile (%f) is not within [0, 100]",
+                                percentile));
+            }
+
+            long rank = Math.max(1L,
+                                 (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0L;
+
+            for (Bucket bucket : buckets) {
+                seen += bucket.count();
+
+                if (seen >= rank) {
+                    return Math.min(bucket.upperBound(), maximum);
+                }
+            }
+
+            return 0L;
+        }
+    }
+
+    private final AtomicLongArray counts =
+            new AtomicLongArray(NUMBER_OF_BUCKETS);
+
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong maximum = new AtomicLong();
+
+    /**
+     * Records a single latency.
+     *
+     * @param nanoseconds the latency in nanoseconds.
+     */
+    public void record(long nanoseconds) {
+        if (nanoseconds < 0L) {
+            nanoseconds = 0L;
+        }
+
+        counts.incrementAndGet(getBucketIndex(nanoseconds));
+        sum.add(nanoseconds);
+
+        if (nanoseconds > maximum.get()) {
+            maximum.accumulateAndGet(nanoseconds, Math::max);
+        }
+    }
+
+    /**
+     * Copies the state of this histogram. The values recorded concurrently
+     * with the copying may or may not be included.
+     *
+     * @return the snapshot.
+     */
+    public Snapshot snapshot() {
+        List<Bucket> buckets = new ArrayList<>();
+        long count = 0L;
+
+        for (int index = 0; index < NUMBER_OF_BUCKETS; ++index) {
+            long bucketCount = counts.get(index);
+
+            if (bucketCount != 0L) {
+                buckets.add(new Bucket(getLowerBound(index),
+                                       getUpperBound(index),
+                                       bucketCount));
+                count += bucketCount;
+            }
+        }
+
+        return new Snapshot(count, 
+                            sum.sum(), 
+                            maximum.get(), 
+                            List.copyOf(buckets));
+    }
+
+    public void reset() {
+        for (int index = 0; index < NUMBER_OF_BUCKETS; ++index) {
+            counts.set(index, 0L);
+        }
+
+        sum.reset();
+        maximum.set(0L);
+    }
+
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        value = Math.min(value, MAXIMUM_VALUE);
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS))
+                      & (SUB_BUCKETS - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long getLowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+
+        return (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    static long getUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return getLowerBound(index) + (1L << (exponent - SUB_BUCKET_BITS)) - 1L;
+    }
+}
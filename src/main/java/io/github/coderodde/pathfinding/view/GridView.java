@@ -6,10 +6,17 @@ import static io.github.coderodde.pathfinding.app.Configuration.MINIMUM_CELL_WID
 import static io.github.coderodde.pathfinding.app.Configuration.PATH_PAINT;
 import static io.github.coderodde.pathfinding.app.Configuration.PATH_THICKNESS;
 import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.SearchTrace;
 import io.github.coderodde.pathfinding.utils.GridBounds;
 import io.github.coderodde.pathfinding.utils.Cell;
 import io.github.coderodde.pathfinding.utils.CellType;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.canvas.Canvas;
@@ -19,14 +26,21 @@ import javafx.scene.paint.Paint;
 import javafx.stage.Screen;
 
 /**
- * This class implements the grid view.
+ * This class implements the grid view. The cells changed by the model are 
+ * collected into a bit set and drawn once per frame, the adjacent cells of
+ * the same color in a row as a single rectangle. Besides, the view may 
+ * replay a {@link SearchTrace} recorded by a search running at full speed, 
+ * at a frequency of its own, through the same bit set.
  * 
  * @author Rodion "rodde" Efremov
- * @version 1.0.0 (Aug 24, 2025)
+ * @version 1.2.0 (Oct 19, 2026)
  * @since 1.0.0 (Aug 24, 2025)
  */
 public final class GridView extends Canvas {
     
+    private static final VarHandle DIRTY_WORDS =
+            MethodHandles.arrayElementVarHandle(long[].class);
+    
     /**
      * The inner width and height of a cell.
      */
@@ -51,6 +65,50 @@ public final class GridView extends Canvas {
     
     private final GraphicsContext gc;
     
+    /**
+     * The current trace replay, or {@code null} if none.
+     */
+    private TraceReplay traceReplay;
+    
+    /**
+     * The bit set of the cells changed since the last frame, the cell 
+     * {@code (x, y)} being the bit {@code y * horizontalCells + x}. Written 
+     * from any thread.
+     */
+    private long[] dirtyCells;
+    
+    /**
+     * The dirty cells taken for drawing by the current frame. Accessed on the
+     * JavaFX application thread only.
+     */
+    private long[] frameCells;
+    
+    /**
+     * The cell types the current replay has drawn so far, indexed like the
+     * dirty cells, or {@code null} for the cells to draw as in the model. 
+     * Accessed on the JavaFX application thread only.
+     */
+    private CellType[] replayedCellTypes;
+    
+    /**
+     * Set while a frame is due to draw the dirty cells.
+     */
+    private final AtomicBoolean frameRequested = new AtomicBoolean();
+    
+    private final AnimationTimer dirtyCellDrawer = new AnimationTimer() {
+        
+        @Override
+        public void handle(long now) {
+            frameRequested.set(false);
+            drawDirtyCells();
+            
+            if (!frameRequested.get()) {
+                // Nothing changed meanwhile; do not keep the pulses coming:
+                stop();
+            }
+        }
+    };
+    
     public GridView() {
         Rectangle2D screenRect = Screen.getPrimary().getBounds();
         setWidth(screenRect.getWidth());
@@ -77,6 +135,13 @@ public final class GridView extends Canvas {
         
         topMargin  = (int)((getHeight() - contentHeight) / 2.0);
         leftMargin = (int)((getWidth()  - contentWidth)  / 2.0);
+        
+        int words = (horizontalCells * verticalCells + Long.SIZE - 1) 
+                  / Long.SIZE;
+        
+        dirtyCells = new long[words];
+        frameCells = new long[words];
+        replayedCellTypes = new CellType[horizontalCells * verticalCells];
     }
     
     @Override
@@ -104,43 +169,160 @@ public final class GridView extends Canvas {
                                         MINIMUM_CELL_WIDTH_HEIGHT);
     }
     
+    /**
+     * Marks all the cells dirty, so that the next frame draws them.
+     */
     public void drawAllCels() {
-        Platform.runLater(new Runnable() {
-            @Override
-            public void run() {
-                for (int y = 0; y < verticalCells; ++y) {
-                    for (int x = 0; x < horizontalCells; ++x) {
-                        drawCell(model.getCell(x, y), false);
-                    }
-                }
-            }
-        });
+        for (int i = 0; i < dirtyCells.length; ++i) {
+            DIRTY_WORDS.setRelease(dirtyCells, i, -1L);
+        }
+        
+        requestFrame();
     }
     
+    /**
+     * Draws {@code cell}, either right away on the JavaFX application thread,
+     * or in the next frame if {@code drawLater} is set, which may be 
+     * requested from any thread.
+     * 
+     * @param cell      the cell to draw.
+     * @param drawLater whether to draw in the next frame.
+     */
     public void drawCell(Cell cell, boolean drawLater) {
-        Runnable runnable = () -> {
-            Color color = cell.getCellType().getColor();
+        if (!drawLater) {
+            fillCell(cell.getx(), cell.gety(), cell.getCellType().getColor());
+            return;
+        }
+        
+        // Always a full fence, so that the frame taking the bit sees the 
+        // cell type set before:
+        markDirty(cell.gety() * horizontalCells + cell.getx());
+        requestFrame();
+    }
+    
+    /**
+     * Draws the cells marked dirty so far right away instead of in the next
+     * frame. Must be called on the JavaFX application thread.
+     */
+    public void drawDirtyCells() {
+        boolean anyDirty = false;
+        
+        for (int i = 0; i < dirtyCells.length; ++i) {
+            frameCells[i] = (long) DIRTY_WORDS.getAndSet(dirtyCells, i, 0L);
+            anyDirty |= frameCells[i] != 0L;
+        }
+        
+        if (!anyDirty) {
+            return;
+        }
+        
+        int cells = horizontalCells * verticalCells;
+        boolean anyBorderCovered = false;
+        gc.beginPath();
+        
+        for (int index = nextFrameCell(0); 
+                 index < cells; 
+                 index = nextFrameCell(index)) {
+            
+            int x = index % horizontalCells;
+            int y = index / horizontalCells;
+            Color color = getCellColor(index);
+            int spanEndX = x;
+            
+            // Extend the span over the following dirty cells of the same 
+            // color in the row:
+            while (spanEndX + 1 < horizontalCells 
+                    && isFrameCell(index + spanEndX + 1 - x)
+                    && getCellColor(index + spanEndX + 1 - x)
+                            .equals(color)) {
+                ++spanEndX;
+            }
             
-            gc.setFill(color);
-            gc.fillRect(
-                    leftMargin +
-                            cell.getx()
-                                    * (cellWidthHeight + BORDER_THICKNESS)
-                            + BORDER_THICKNESS,
-                    
-                    topMargin +
-                            cell.gety()
-                                    * (cellWidthHeight + BORDER_THICKNESS)
-                            + BORDER_THICKNESS,
-                    
-                    cellWidthHeight,
-                    cellWidthHeight);
-        };
-        
-        if (drawLater) {
-            Platform.runLater(runnable);
+            fillSpan(x, spanEndX, y, color);
+            
+            // The span covered the borders between its cells; collect them
+            // into the path redrawn below:
+            for (int borderX = x + 1; borderX <= spanEndX; ++borderX) {
+                gc.rect(leftMargin + borderX * (cellWidthHeight 
+                                              + BORDER_THICKNESS),
+                        topMargin + y * (cellWidthHeight + BORDER_THICKNESS)
+                                  + BORDER_THICKNESS,
+                        BORDER_THICKNESS,
+                        cellWidthHeight);
+                
+                anyBorderCovered = true;
+            }
+            
+            index += spanEndX - x + 1;
+        }
+        
+        if (anyBorderCovered) {
+            gc.setFill(BORDER_PAINT);
+            gc.fill();
+        }
+    }
+    
+    /**
+     * Starts replaying {@code searchTrace}, drawing {@code frequency} events
+     * per second, and stops the previous replay, if any. The replay keeps 
+     * up with the trace while it is being recorded, and finishes once the 
+     * trace is closed and all its events are drawn. Must be called on the 
+     * JavaFX application thread.
+     * 
+     * @param searchTrace the search trace to replay.
+     * @param frequency   the number of the events to draw per second.
+     */
+    public void replay(SearchTrace searchTrace, int frequency) {
+        Objects.requireNonNull(searchTrace, "The input search trace is null");
+        
+        if (frequency < 1) {
+            throw new IllegalArgumentException(
+                    String.format("frequency(%d) < 1", frequency));
+        }
+        
+        stopReplay();
+        traceReplay = new TraceReplay(searchTrace, frequency);
+        traceReplay.start();
+    }
+    
+    public void pauseReplay() {
+        if (traceReplay != null) {
+            traceReplay.pause();
+        }
+    }
+    
+    public void resumeReplay() {
+        if (traceReplay != null) {
+            traceReplay.resume();
+        }
+    }
+    
+    /**
+     * Stops the current replay without drawing the rest of its trace nor 
+     * running the action waiting for it.
+     */
+    public void stopReplay() {
+        if (traceReplay != null) {
+            traceReplay.stop();
+            traceReplay = null;
+            Arrays.fill(replayedCellTypes, null);
+        }
+    }
+    
+    /**
+     * Runs {@code action} once the current replay finishes, or right away if
+     * there is no replay running. Must be called on the JavaFX application 
+     * thread.
+     * 
+     * @param action the action to run.
+     */
+    public void runAfterReplay(Runnable action) {
+        Objects.requireNonNull(action, "The input action is null");
+        
+        if (traceReplay == null) {
+            action.run();
         } else {
-            runnable.run();
+            traceReplay.afterReplay = action;
         }
     }
     
@@ -226,6 +408,92 @@ public final class GridView extends Canvas {
         });
     }
 
+    private void markDirty(int index) {
+        DIRTY_WORDS.getAndBitwiseOr(dirtyCells, index >>> 6, 1L << index);
+    }
+    
+    /**
+     * Returns the color to draw the cell with index {@code index} with: the
+     * type the replay has drawn it with so far, if any, and the current one 
+     * otherwise.
+     */
+    private Color getCellColor(int index) {
+        CellType cellType = replayedCellTypes[index];
+        
+        if (cellType == null) {
+            cellType = model.getCell(index % horizontalCells,
+                                     index / horizontalCells).getCellType();
+        }
+        
+        return cellType.getColor();
+    }
+    
+    private void fillCell(int x, int y, Color color) {
+        fillSpan(x, x, y, color);
+    }
+    
+    /**
+     * Fills the cells from {@code (startX, y)} to {@code (endX, y)}, both 
+     * inclusive, and the borders between them with a single rectangle.
+     */
+    private void fillSpan(int startX, int endX, int y, Color color) {
+        gc.setFill(color);
+        gc.fillRect(
+                leftMargin +
+                        startX * (cellWidthHeight + BORDER_THICKNESS)
+                        + BORDER_THICKNESS,
+                
+                topMargin +
+                        y * (cellWidthHeight + BORDER_THICKNESS)
+                        + BORDER_THICKNESS,
+                
+                (endX - startX + 1) * (cellWidthHeight + BORDER_THICKNESS) 
+                        - BORDER_THICKNESS,
+                cellWidthHeight);
+    }
+    
+    private boolean isFrameCell(int index) {
+        return (frameCells[index >>> 6] & (1L << index)) != 0L;
+    }
+    
+    /**
+     * Returns the index of the first dirty cell of the current frame at or 
+     * after {@code fromIndex}, or the number of the cells if none.
+     */
+    private int nextFrameCell(int fromIndex) {
+        int cells = horizontalCells * verticalCells;
+        
+        if (fromIndex >= cells) {
+            return cells;
+        }
+        
+        int wordIndex = fromIndex >>> 6;
+        long word = frameCells[wordIndex] & (-1L << fromIndex);
+        
+        while (word == 0L) {
+            if (++wordIndex == frameCells.length) {
+                return cells;
+            }
+            
+            word = frameCells[wordIndex];
+        }
+        
+        return Math.min(wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word),
+                        cells);
+    }
+    
+    private void requestFrame() {
+        if (frameRequested.get() || !frameRequested.compareAndSet(false, true)) {
+            return;
+        }
+        
+        if (Platform.isFxApplicationThread()) {
+            dirtyCellDrawer.start();
+        } else {
+            Platform.runLater(dirtyCellDrawer::start);
+        }
+    }
+    
     public void setGridModel(GridModel model) {
         this.model = model;
     }
@@ -293,4 +561,111 @@ public final class GridView extends Canvas {
             }
         }
     }
-}   
\ No newline at end of file
+    
+    /**
+     * Draws the events of a search trace once per frame. The number of the 
+     * events due grows with the time replaying, paused time excluded; while 
+     * the replay is ahead of the search recording the trace, it waits 
+     * without accumulating a backlog. Each event marks its cell dirty with 
+     * the cell type it recorded, not the current one of the cell, so that 
+     * the frame merges the cells replayed into spans. If the search gets so far
+     * ahead that the trace overwrites the events not drawn yet, the replay 
+     * jumps to the current state of the grid.
+     */
+    private final class TraceReplay extends AnimationTimer {
+        
+        private final SearchTrace searchTrace;
+        private final int frequency;
+        
+        /**
+         * The action to run once the replay finishes, or {@code null}.
+         */
+        private Runnable afterReplay;
+        
+        /**
+         * The number of the events drawn so far.
+         */
+        private long drawn;
+        
+        /**
+         * The number of the events drawn when {@code baseTime} was taken.
+         */
+        private long baseDrawn;
+        
+        /**
+         * The frame time the events are due from, or {@code -1} if the next 
+         * frame is to take it.
+         */
+        private long baseTime = -1L;
+        
+        TraceReplay(SearchTrace searchTrace, int frequency) {
+            this.searchTrace = searchTrace;
+            this.frequency = frequency;
+        }
+        
+        @Override
+        public void handle(long now) {
+            if (baseTime < 0L) {
+                baseTime = now;
+                baseDrawn = drawn;
+            }
+            
+            if (searchTrace.isOverrun(drawn)) {
+                // The search overwrote the events not drawn yet. Skip them 
+                // and draw the cells as they are now instead:
+                drawn = searchTrace.size();
+                baseTime = now;
+                baseDrawn = drawn;
+                Arrays.fill(replayedCellTypes, null);
+                drawAllCels();
+            }
+            
+            long due = baseDrawn + (now - baseTime) * frequency / 1_000_000_000L;
+            
+            while (drawn < due) {
+                int event = searchTrace.getEvent(drawn);
+                
+                if (event == 0) {
+                    // Caught up with the search: do not burst afterwards.
+                    baseTime = now;
+                    baseDrawn = drawn;
+                    break;
+                }
+                
+                int index = searchTrace.getY(event) * horizontalCells
+                          + searchTrace.getX(event);
+                
+                replayedCellTypes[index] = SearchTrace.getCellType(event);
+                markDirty(index);
+                ++drawn;
+            }
+            
+            drawDirtyCells();
+            
+            if (searchTrace.isClosed() && drawn == searchTrace.size()) {
+                finish();
+            }
+        }
+        
+        void pause() {
+            super.stop();
+            baseTime = -1L;
+        }
+        
+        void resume() {
+            super.start();
+        }
+        
+        private void finish() {
+            super.stop();
+            traceReplay = null;
+            
+            // The model has the types replayed last by now:
+            Arrays.fill(replayedCellTypes, null);
+            
+            if (afterReplay != null) {
+                afterReplay.run();
+            }
+        }
+    }
+}
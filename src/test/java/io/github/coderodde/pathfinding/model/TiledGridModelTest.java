@@ -0,0 +1,281 @@
+package io.github.coderodde.pathfinding.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.BiPredicate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the tile codec of {@link TiledGridModel}: the uniform tiles, the
+ * runs with their LEB128 varints and the raw bits, read back through the
+ * file and checked against the index of the file.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public class TiledGridModelTest {
+
+    /**
+     * The length of the file header, followed by the tile index.
+     */
+    private static final int HEADER_LENGTH = 5 * Integer.BYTES + Long.BYTES;
+
+    private static final int INDEX_ENTRY_LENGTH =
+            1 + Long.BYTES + Integer.BYTES;
+
+    private Path path;
+
+    @Before
+    public void before() throws IOException {
+        path = Files.createTempFile("tiled", ".grid");
+    }
+
+    @After
+    public void after() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void uniformTilesAreStoredWithoutData() throws IOException {
+        GridSnapshot snapshot = snapshot(32, 16, (x, y) -> x >= 16);
+        TiledGridModel.write(snapshot, path, 16);
+
+        assertEquals(TiledGridModel.ENCODING_FREE, encoding(0));
+        assertEquals(TiledGridModel.ENCODING_WALLS, encoding(1));
+        assertEquals(0, data(0).length);
+        assertEquals(0, data(1).length);
+        assertRoundTrip(snapshot, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void sparseWallsAreStoredAsRuns() throws IOException {
+        // The wall at the cell 200 of the tile splits it into the runs of
+        // 200 free cells, 1 wall and 3895 free cells:
+        GridSnapshot snapshot = snapshot(64, 64, (x, y) -> y * 64 + x == 200);
+        TiledGridModel.write(snapshot, path, 64);
+
+        assertEquals(TiledGridModel.ENCODING_RUNS, encoding(0));
+        assertArrayEquals(bytes(0xC8, 0x01, 0x01, 0xB7, 0x1E), data(0));
+        assertRoundTrip(snapshot, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void tileStartingWithWallHasEmptyFirstRun() throws IOException {
+        GridSnapshot snapshot = snapshot(64, 64, (x, y) -> x == 0 && y == 0);
+        TiledGridModel.write(snapshot, path, 64);
+
+        assertEquals(TiledGridModel.ENCODING_RUNS, encoding(0));
+        assertArrayEquals(bytes(0x00, 0x01, 0xFF, 0x1F), data(0));
+        assertRoundTrip(snapshot, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void noisyTilesAreStoredAsBits() throws IOException {
+        Random random = new Random(5L);
+        boolean[] walls = new boolean[16 * 16];
+
+        for (int i = 0; i < walls.length; ++i) {
+            walls[i] = random.nextBoolean();
+        }
+
+        GridSnapshot snapshot = snapshot(16, 16, (x, y) -> walls[y * 16 + x]);
+        TiledGridModel.write(snapshot, path, 16);
+
+        assertEquals(TiledGridModel.ENCODING_BITS, encoding(0));
+        assertEquals(16 * 16 / Byte.SIZE, data(0).length);
+        assertRoundTrip(snapshot, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void edgeTileCellsBeyondGridAreWalls() throws IOException {
+        // The 12 rows of free cells are followed by the 4 rows beyond the
+        // grid:
+        GridSnapshot snapshot = snapshot(16, 12, (x, y) -> false);
+        TiledGridModel.write(snapshot, path, 16);
+
+        assertEquals(TiledGridModel.ENCODING_RUNS, encoding(0));
+        assertArrayEquals(bytes(0xC0, 0x01, 0x40), data(0));
+
+        try (TiledGridModel model = TiledGridModel.open(path, 1024)) {
+            assertTrue(model.isWalkable(15, 11));
+            assertFalse(model.isWalkable(0, 12));
+            assertFalse(model.isWalkable(16, 0));
+            assertFalse(model.isWalkable(-1, 0));
+        }
+    }
+
+    @Test
+    public void randomGridsRoundTrip() throws IOException {
+        Random random = new Random(11L);
+
+        for (int iteration = 0; iteration < 20; ++iteration) {
+            int width = 1 + random.nextInt(100);
+            int height = 1 + random.nextInt(100);
+            int tileSize = 8 * (1 + random.nextInt(4));
+            double density = random.nextDouble();
+            boolean[] walls = new boolean[width * height];
+
+            // Leave some blocks uniform so that all the encodings show up:
+            for (int i = 0; i < walls.length; ++i) {
+                int x = i % width;
+                walls[i] = x >= width / 2 && random.nextDouble() < density;
+            }
+
+            GridSnapshot snapshot =
+                    snapshot(width,
+                             height,
+                             (x, y) -> walls[y * width + x]);
+
+            TiledGridModel.write(snapshot, path, tileSize);
+            assertRoundTrip(snapshot, Long.MAX_VALUE);
+        }
+    }
+
+    @Test
+    public void roundTripUnderTightMemoryBudget() throws IOException {
+        Random random = new Random(17L);
+        boolean[] walls = new boolean[128 * 128];
+
+        for (int i = 0; i < walls.length; ++i) {
+            walls[i] = random.nextInt(3) == 0;
+        }
+
+        GridSnapshot snapshot =
+                snapshot(128, 128, (x, y) -> walls[y * 128 + x]);
+
+        TiledGridModel.write(snapshot, path, 16);
+
+        // Room for two tiles of 16 * 16 bits:
+        try (TiledGridModel model = TiledGridModel.open(path, 64)) {
+            assertSameWalls(snapshot, model);
+            assertTrue(model.getEvictions() > 0);
+            assertTrue(model.getMemoryUsage() <= model.getMemoryBudget());
+            assertEquals(model.getLoads() - model.getEvictions(),
+                         model.getMemoryUsage() / 32);
+        }
+    }
+
+    @Test
+    public void runsExceedingTileAreRejected() throws IOException {
+        GridSnapshot snapshot = snapshot(64, 64, (x, y) -> y * 64 + x == 200);
+        TiledGridModel.write(snapshot, path, 64);
+
+        // Replace the runs by a single run of 16383 cells:
+        overwriteData(0, bytes(0xFF, 0x7F, 0x00, 0x00, 0x00));
+
+        try (TiledGridModel model = TiledGridModel.open(path, 1024)) {
+            assertThrows(UncheckedIOException.class,
+                         () -> model.isWalkable(0, 0));
+        }
+    }
+
+    @Test
+    public void truncatedVarintIsRejected() throws IOException {
+        GridSnapshot snapshot = snapshot(64, 64, (x, y) -> y * 64 + x == 200);
+        TiledGridModel.write(snapshot, path, 64);
+
+        // The continuation bit of the last byte promises another byte:
+        overwriteData(0, bytes(0xC8, 0x01, 0x01, 0xB7, 0x9E));
+
+        try (TiledGridModel model = TiledGridModel.open(path, 1024)) {
+            assertThrows(UncheckedIOException.class,
+                         () -> model.isWalkable(0, 0));
+        }
+    }
+
+    @Test
+    public void invalidTileSizeIsRejected() {
+        GridSnapshot snapshot = snapshot(16, 16, (x, y) -> false);
+
+        assertThrows(IOException.class,
+                     () -> TiledGridModel.write(snapshot, path, 12));
+    }
+
+    private void assertRoundTrip(GridSnapshot snapshot, long memoryBudget)
+            throws IOException {
+
+        try (TiledGridModel model = TiledGridModel.open(path, memoryBudget)) {
+            assertEquals(snapshot.getWidth(), model.getWidth());
+            assertEquals(snapshot.getHeight(), model.getHeight());
+            assertSameWalls(snapshot, model);
+        }
+    }
+
+    private static void assertSameWalls(GridSnapshot expected,
+                                        GridSnapshot actual) {
+
+        for (int y = 0; y < expected.getHeight(); ++y) {
+            for (int x = 0; x < expected.getWidth(); ++x) {
+                assertEquals(String.format("(%d, %d)", x, y),
+                             expected.isWalkable(x, y),
+                             actual.isWalkable(x, y));
+            }
+        }
+    }
+
+    private byte encoding(int tile) throws IOException {
+        return ByteBuffer.wrap(Files.readAllBytes(path))
+                         .get(HEADER_LENGTH + tile * INDEX_ENTRY_LENGTH);
+    }
+
+    private byte[] data(int tile) throws IOException {
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path));
+        int entry = HEADER_LENGTH + tile * INDEX_ENTRY_LENGTH;
+        long offset = file.getLong(entry + 1);
+        int length = file.getInt(entry + 1 + Long.BYTES);
+        byte[] data = new byte[length];
+
+        file.get((int) offset, data);
+        return data;
+    }
+
+    private void overwriteData(int tile, byte[] data) throws IOException {
+        byte[] file = Files.readAllBytes(path);
+        int entry = HEADER_LENGTH + tile * INDEX_ENTRY_LENGTH;
+        long offset = ByteBuffer.wrap(file).getLong(entry + 1);
+
+        assertEquals(data.length, data(tile).length);
+        System.arraycopy(data, 0, file, (int) offset, data.length);
+        Files.write(path, file);
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] bytes = new byte[values.length];
+
+        for (int i = 0; i < values.length; ++i) {
+            bytes[i] = (byte) values[i];
+        }
+
+        return bytes;
+    }
+
+    private static GridSnapshot snapshot(int width,
+                                         int height,
+                                         BiPredicate<Integer, Integer> isWall) {
+
+        long[] walls = new long[BitGridSnapshot.wordCount(width, height)];
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                if (isWall.test(x, y)) {
+                    int i = y * width + x;
+                    walls[i / Long.SIZE] |= 1L << (i % Long.SIZE);
+                }
+            }
+        }
+
+        return BitGridSnapshot.of(width, height, walls);
+    }
+}
@@ -0,0 +1,259 @@
+package io.github.coderodde.pathfinding.server;
+
+import io.github.coderodde.pathfinding.heuristics.ChebyshevHeuristicFunction;
+import io.github.coderodde.pathfinding.heuristics.ManhattanHeuristicFunction;
+import io.github.coderodde.pathfinding.heuristics.OctileHeuristicFunction;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests the frames and the nibble-packed move codec of
+ * {@link PathQueryProtocol}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public class PathQueryProtocolTest {
+
+    private static final int WIDTH = 10;
+
+    @Test
+    public void emptyPathRoundTrip() {
+        ByteBuffer frame =
+                PathQueryProtocol.encodeResponse(
+                        7,
+                        PathQueryProtocol.STATUS_NO_PATH,
+                        new int[0],
+                        WIDTH);
+
+        assertEquals(4 + 4 + 1 + 4, frame.remaining());
+        assertEquals(frame.remaining() - 4, frame.getInt());
+        assertEquals(7, frame.getInt());
+        assertEquals(PathQueryProtocol.STATUS_NO_PATH, frame.get());
+        assertArrayEquals(new int[0],
+                          PathQueryProtocol.decodePath(frame, WIDTH));
+        assertFalse(frame.hasRemaining());
+    }
+
+    @Test
+    public void singleCellPathRoundTrip() {
+        assertArrayEquals(new int[] { 42 }, roundTrip(new int[] { 42 }));
+    }
+
+    @Test
+    public void earlierMoveGoesToHighNibble() {
+        // East is 3 * 1 + 2 = 5 and south is 3 * 2 + 1 = 7:
+        assertEquals(0x57, movesOf(new int[] { 0, 1, 11 })[0] & 0xff);
+        assertEquals(0x75, movesOf(new int[] { 0, 10, 11 })[0] & 0xff);
+    }
+
+    @Test
+    public void oddMoveCountLeavesLowNibbleEmpty() {
+        byte[] moves = movesOf(new int[] { 11, 12 });
+
+        assertEquals(1, moves.length);
+        assertEquals(0x50, moves[0] & 0xff);
+    }
+
+    @Test
+    public void allDirectionsRoundTrip() {
+        int center = 5 * WIDTH + 5;
+
+        for (int dy = -1; dy <= 1; ++dy) {
+            for (int dx = -1; dx <= 1; ++dx) {
+                if (dx == 0 && dy == 0) {
+                    continue;
+                }
+
+                int next = center + dy * WIDTH + dx;
+                int[] path = { center, next, center, next, center };
+
+                assertArrayEquals(path, roundTrip(path));
+            }
+        }
+    }
+
+    @Test
+    public void frameLengthPacksTwoMovesPerByte() {
+        for (int cells = 1; cells <= 9; ++cells) {
+            int[] path = new int[cells];
+
+            for (int i = 0; i < cells; ++i) {
+                path[i] = i;
+            }
+
+            ByteBuffer frame =
+                    PathQueryProtocol.encodeResponse(
+                            1,
+                            PathQueryProtocol.STATUS_OK,
+                            path,
+                            WIDTH);
+
+            assertEquals(4 + 4 + 1 + 4 + 4 + cells / 2, frame.remaining());
+            assertEquals(frame.remaining() - 4, frame.getInt(0));
+        }
+    }
+
+    @Test
+    public void randomWalksRoundTrip() {
+        Random random = new Random(13L);
+
+        for (int iteration = 0; iteration < 200; ++iteration) {
+            int[] path = new int[1 + random.nextInt(60)];
+            int x = random.nextInt(WIDTH);
+            int y = random.nextInt(WIDTH);
+            path[0] = y * WIDTH + x;
+
+            for (int i = 1; i < path.length; ++i) {
+                int dx;
+                int dy;
+
+                do {
+                    dx = random.nextInt(3) - 1;
+                    dy = random.nextInt(3) - 1;
+                } while ((dx == 0 && dy == 0) ||
+                         x + dx < 0 || x + dx >= WIDTH ||
+                         y + dy < 0 || y + dy >= WIDTH);
+
+                x += dx;
+                y += dy;
+                path[i] = y * WIDTH + x;
+            }
+
+            assertArrayEquals(path, roundTrip(path));
+        }
+    }
+
+    @Test
+    public void pipelinedFramesDecodeInOrder() {
+        int[] first  = { 0, 1, 2, 12 };
+        int[] second = { 55, 44, 33 };
+        ByteBuffer frame1 =
+                PathQueryProtocol.encodeResponse(
+                        1,
+                        PathQueryProtocol.STATUS_OK,
+                        first,
+                        WIDTH);
+
+        ByteBuffer frame2 =
+                PathQueryProtocol.encodeResponse(
+                        2,
+                        PathQueryProtocol.STATUS_OK,
+                        second,
+                        WIDTH);
+
+        ByteBuffer stream =
+                ByteBuffer.allocate(frame1.remaining() + frame2.remaining());
+
+        stream.put(frame1).put(frame2).flip();
+
+        stream.getInt();
+        assertEquals(1, stream.getInt());
+        stream.get();
+        assertArrayEquals(first, PathQueryProtocol.decodePath(stream, WIDTH));
+
+        stream.getInt();
+        assertEquals(2, stream.getInt());
+        stream.get();
+        assertArrayEquals(second,
+                          PathQueryProtocol.decodePath(stream, WIDTH));
+        assertFalse(stream.hasRemaining());
+    }
+
+    @Test
+    public void requestFrameLayout() {
+        ByteBuffer buffer =
+                ByteBuffer.allocate(4 + PathQueryProtocol.REQUEST_LENGTH);
+
+        PathQueryProtocol.writeRequest(buffer,
+                                       3,
+                                       4,
+                                       5,
+                                       6,
+                                       PathQueryProtocol.ALLOW_DIAGONALS);
+
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+
+        assertEquals(PathQueryProtocol.REQUEST_LENGTH, buffer.getInt());
+        assertEquals(3, buffer.getInt());
+        assertEquals(4, buffer.getInt());
+        assertEquals(5, buffer.getInt());
+        assertEquals(6, buffer.getInt());
+        assertEquals(PathQueryProtocol.ALLOW_DIAGONALS, buffer.get());
+    }
+
+    @Test
+    public void flagsMapToQueryOptions() {
+        QueryOptions cardinal = PathQueryProtocol.getQueryOptions((byte) 0);
+        QueryOptions octile =
+                PathQueryProtocol.getQueryOptions(
+                        (byte) (PathQueryProtocol.ALLOW_DIAGONALS |
+                                PathQueryProtocol.DONT_CROSS_CORNERS |
+                                PathQueryProtocol.SQRT2_DIAGONAL_WEIGHT));
+
+        QueryOptions chebyshev =
+                PathQueryProtocol.getQueryOptions(
+                        PathQueryProtocol.ALLOW_DIAGONALS);
+
+        assertFalse(cardinal.allowDiagonals());
+        assertTrue(cardinal.getHeuristicFunction()
+                instanceof ManhattanHeuristicFunction);
+
+        assertTrue(octile.allowDiagonals());
+        assertTrue(octile.dontCrossCorners());
+        assertEquals(Math.sqrt(2.0), octile.getDiagonalWeight(), 1e-9);
+        assertTrue(octile.getHeuristicFunction()
+                instanceof OctileHeuristicFunction);
+
+        assertFalse(chebyshev.dontCrossCorners());
+        assertEquals(1.0, chebyshev.getDiagonalWeight(), 0.0);
+        assertTrue(chebyshev.getHeuristicFunction()
+                instanceof ChebyshevHeuristicFunction);
+    }
+
+    @Test
+    public void invalidFlagsAreRejected() {
+        assertNull(PathQueryProtocol.getQueryOptions((byte) 0x08));
+        assertNull(PathQueryProtocol.getQueryOptions((byte) -1));
+    }
+
+    private static int[] roundTrip(int[] path) {
+        ByteBuffer frame =
+                PathQueryProtocol.encodeResponse(9,
+                                                 PathQueryProtocol.STATUS_OK,
+                                                 path,
+                                                 WIDTH);
+
+        frame.getInt();
+        assertEquals(9, frame.getInt());
+        assertEquals(PathQueryProtocol.STATUS_OK, frame.get());
+
+        int[] decoded = PathQueryProtocol.decodePath(frame, WIDTH);
+        assertFalse(frame.hasRemaining());
+        return decoded;
+    }
+
+    private static byte[] movesOf(int[] path) {
+        ByteBuffer frame =
+                PathQueryProtocol.encodeResponse(1,
+                                                 PathQueryProtocol.STATUS_OK,
+                                                 path,
+                                                 WIDTH);
+
+        // Skip the length, the request ID, the status, the cell count and the
+        // first cell:
+        frame.position(4 + 4 + 1 + 4 + 4);
+        byte[] moves = new byte[frame.remaining()];
+        frame.get(moves);
+        return moves;
+    }
+}
@@ -0,0 +1,330 @@
+package io.github.coderodde.pathfinding.service;
+
+import io.github.coderodde.pathfinding.finders.BFSFinder;
+import io.github.coderodde.pathfinding.finders.SearchWorkspace;
+import io.github.coderodde.pathfinding.finders.SnapshotFinder;
+import io.github.coderodde.pathfinding.heuristics.ManhattanHeuristicFunction;
+import io.github.coderodde.pathfinding.logic.QueryOptions;
+import io.github.coderodde.pathfinding.model.GridModel;
+import io.github.coderodde.pathfinding.model.GridSnapshot;
+import io.github.coderodde.pathfinding.utils.CellType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the selective invalidation and the segmented LRU eviction of
+ * {@link PathCache}. The queries run on a 20 x 10 grid without diagonal
+ * moves, so that the shortest paths along a row or a column are unique.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public class PathCacheTest {
+
+    private static final int WIDTH  = 20;
+    private static final int HEIGHT = 10;
+
+    private static final QueryOptions QUERY_OPTIONS =
+            new QueryOptions(false,
+                             false,
+                             1.0,
+                             new ManhattanHeuristicFunction());
+
+    private GridModel model;
+    private CountingFinder finder;
+    private PathCache cache;
+
+    @Before
+    public void before() {
+        model = new GridModel(WIDTH, HEIGHT);
+        finder = new CountingFinder();
+        cache = new PathCache(model, 100);
+    }
+
+    @Test
+    public void repeatedQueryIsAnsweredFromCache() {
+        int[] path = query(0, 0, 5, 0);
+
+        assertEquals(6, path.length);
+        assertArrayEquals(path, query(0, 0, 5, 0));
+        assertEquals(1, finder.calls);
+        assertEquals(1L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+    }
+
+    @Test
+    public void returnedPathsAreCopies() {
+        int[] path = query(0, 0, 5, 0);
+        int[] expected = path.clone();
+        path[0] = -1;
+
+        assertArrayEquals(expected, query(0, 0, 5, 0));
+    }
+
+    @Test
+    public void cachingFinderAnswersFromCache() {
+        SnapshotFinder cachingFinder = cache.cached(finder);
+        GridSnapshot snapshot = model.createSnapshot();
+        int source = snapshot.toIndex(0, 0);
+        int target = snapshot.toIndex(5, 0);
+
+        int[] path = cachingFinder.findPath(snapshot,
+                                            source,
+                                            target,
+                                            QUERY_OPTIONS,
+                                            new SearchWorkspace());
+
+        assertArrayEquals(path, query(0, 0, 5, 0));
+        assertEquals(1, finder.calls);
+    }
+
+    @Test
+    public void queryOverOldSnapshotIsPassedThrough() {
+        GridSnapshot snapshot = model.createSnapshot();
+        query(0, 0, 5, 0);
+        setWall(19, 9, true);
+
+        cache.findPath(finder,
+                       snapshot,
+                       snapshot.toIndex(0, 0),
+                       snapshot.toIndex(5, 0),
+                       QUERY_OPTIONS);
+
+        assertEquals(2, finder.calls);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void wallOutsideGrownBoxKeepsPath() {
+        // The path runs over (0, 0) ... (5, 0), so its box grown by one cell
+        // spans (-1, -1) ... (6, 1):
+        query(0, 0, 5, 0);
+        setWall(7, 1, true);
+        setWall(0, 2, true);
+        query(0, 0, 5, 0);
+
+        assertEquals(1, finder.calls);
+        assertEquals(0L, cache.getInvalidations());
+    }
+
+    @Test
+    public void wallOnGrownBoxInvalidatesPath() {
+        query(0, 0, 5, 0);
+        setWall(6, 1, true);
+
+        assertEquals(6, query(0, 0, 5, 0).length);
+        assertEquals(2, finder.calls);
+        assertEquals(1L, cache.getInvalidations());
+    }
+
+    @Test
+    public void wallOnPathReroutesPath() {
+        query(0, 0, 5, 0);
+        setWall(3, 0, true);
+
+        int[] path = query(0, 0, 5, 0);
+        GridSnapshot snapshot = model.createSnapshot();
+
+        assertEquals(8, path.length);
+
+        for (int cell : path) {
+            assertFalse(cell == snapshot.toIndex(3, 0));
+        }
+    }
+
+    @Test
+    public void wallInvalidatesOnlyAffectedPaths() {
+        query(0, 0, 5, 0);
+        query(0, 9, 5, 9);
+        setWall(2, 1, true);
+        query(0, 0, 5, 0);
+        query(0, 9, 5, 9);
+
+        assertEquals(3, finder.calls);
+        assertEquals(1L, cache.getInvalidations());
+    }
+
+    @Test
+    public void removedWallOpeningShorterRouteInvalidatesPath() {
+        // A wall across all the rows but the last one forces the path around:
+        for (int y = 0; y < HEIGHT - 1; ++y) {
+            setWall(8, y, true);
+        }
+
+        assertEquals(23, query(6, 0, 10, 0).length);
+
+        setWall(8, 0, false);
+
+        assertEquals(5, query(6, 0, 10, 0).length);
+        assertEquals(2, finder.calls);
+        assertEquals(1L, cache.getInvalidations());
+    }
+
+    @Test
+    public void removedWallFarAwayKeepsPath() {
+        setWall(19, 9, true);
+        query(0, 0, 5, 0);
+        setWall(19, 9, false);
+        query(0, 0, 5, 0);
+
+        assertEquals(1, finder.calls);
+        assertEquals(0L, cache.getInvalidations());
+    }
+
+    @Test
+    public void removedWallInvalidatesNoPathResults() {
+        setWall(1, 0, true);
+        setWall(0, 1, true);
+        setWall(19, 9, true);
+
+        assertEquals(0, query(0, 0, 5, 0).length);
+
+        setWall(19, 9, false);
+
+        assertEquals(0, query(0, 0, 5, 0).length);
+        assertEquals(2, finder.calls);
+    }
+
+    @Test
+    public void pendingChangesUpToLimitAreCheckedOneByOne() {
+        query(0, 0, 5, 0);
+        query(0, 0, 0, 5);
+
+        for (int i = 0; i < 64; ++i) {
+            setWall(19, 9, i % 2 == 0);
+        }
+
+        assertEquals(2, cache.size());
+        assertEquals(0L, cache.getInvalidations());
+    }
+
+    @Test
+    public void pendingChangeOverflowDropsAllEntries() {
+        query(0, 0, 5, 0);
+        query(0, 0, 0, 5);
+
+        for (int i = 0; i < 65; ++i) {
+            setWall(19, 9, i % 2 == 0);
+        }
+
+        assertEquals(0, cache.size());
+        assertEquals(2L, cache.getInvalidations());
+
+        query(0, 0, 5, 0);
+        assertEquals(3, finder.calls);
+    }
+
+    @Test
+    public void hitPromotesEntryPastOneOffQueries() {
+        // A capacity of 5 leaves 4 entries to the protected segment and 1 to
+        // the probationary one:
+        cache = new PathCache(model, 5);
+
+        query(0, 0, 0, 9);
+        query(0, 0, 0, 9);
+
+        query(1, 0, 1, 9);
+        query(2, 0, 2, 9);
+        query(3, 0, 3, 9);
+        assertEquals(4, finder.calls);
+
+        query(0, 0, 0, 9);
+        assertEquals(4, finder.calls);
+
+        query(1, 0, 1, 9);
+        assertEquals(5, finder.calls);
+    }
+
+    @Test
+    public void entryDemotedFromProtectedSegmentIsEvictedNext() {
+        cache = new PathCache(model, 5);
+
+        for (int x = 0; x < 5; ++x) {
+            query(x, 0, x, 9);
+            query(x, 0, x, 9);
+        }
+
+        // Promoting the fifth entry demoted the first one:
+        assertEquals(5, cache.size());
+        assertEquals(5, finder.calls);
+
+        query(5, 0, 5, 9);
+        assertEquals(5, cache.size());
+
+        query(1, 0, 1, 9);
+        assertEquals(6, finder.calls);
+
+        query(0, 0, 0, 9);
+        assertEquals(7, finder.calls);
+    }
+
+    @Test
+    public void demotedEntryHitIsPromotedAgain() {
+        cache = new PathCache(model, 5);
+
+        for (int x = 0; x < 5; ++x) {
+            query(x, 0, x, 9);
+            query(x, 0, x, 9);
+        }
+
+        query(0, 0, 0, 9);
+
+        assertEquals(5, finder.calls);
+        assertEquals(6L, cache.getHits());
+    }
+
+    @Test
+    public void detachedCacheIgnoresWallChanges() {
+        query(0, 0, 5, 0);
+        cache.detach();
+        setWall(3, 0, true);
+
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.getInvalidations());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsTooSmallCapacity() {
+        new PathCache(model, 1);
+    }
+
+    private int[] query(int sourceX, int sourceY, int targetX, int targetY) {
+        GridSnapshot snapshot = model.createSnapshot();
+        return cache.findPath(finder,
+                              snapshot,
+                              snapshot.toIndex(sourceX, sourceY),
+                              snapshot.toIndex(targetX, targetY),
+                              QUERY_OPTIONS);
+    }
+
+    private void setWall(int x, int y, boolean wall) {
+        model.setCellType(x, y, wall ? CellType.WALL : CellType.FREE);
+    }
+
+    /**
+     * Counts the queries that miss the cache.
+     */
+    private static final class CountingFinder implements SnapshotFinder {
+
+        private final SnapshotFinder finder = new BFSFinder();
+        int calls;
+
+        @Override
+        public int[] findPath(GridSnapshot snapshot,
+                              int source,
+                              int target,
+                              QueryOptions queryOptions,
+                              SearchWorkspace workspace) {
+            ++calls;
+            return finder.findPath(snapshot,
+                                   source,
+                                   target,
+                                   queryOptions,
+                                   workspace);
+        }
+    }
+}